@@ -2,10 +2,18 @@ package dev.marksman.kraftwerk;
 
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.builtin.fn2.Map;
+import dev.marksman.kraftwerk.Mapping.Fusible;
+import dev.marksman.kraftwerk.Optimizer.Optimizable;
 import dev.marksman.kraftwerk.aggregator.Aggregator;
 
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Replicate.replicate;
-import static dev.marksman.kraftwerk.Result.result;
+import java.util.ArrayList;
+import java.util.function.Function;
+
+import static dev.marksman.kraftwerk.CursorGenerateFn.cursorGenerateFn;
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.DrawCount.drawCount;
+import static dev.marksman.kraftwerk.DrawCount.withDrawCount;
+import static java.util.function.Function.identity;
 
 final class Aggregation {
     static <A, Builder, Out> Generator<Out> aggregate(Aggregator<A, Builder, Out> aggregator,
@@ -16,10 +24,10 @@ final class Aggregation {
     static <A, Builder, Out> Generator<Out> aggregate(Aggregator<A, Builder, Out> aggregator,
                                                       int size,
                                                       Generator<A> gen) {
-        return new Aggregate<>(aggregator, replicate(size, gen));
+        return new Replicated<>(aggregator, size, gen);
     }
 
-    static class Aggregate<Elem, Builder, Out> implements Generator<Out> {
+    static class Aggregate<Elem, Builder, Out> implements Generator<Out>, Fusible<Out>, Optimizable<Out> {
         private static final Maybe<String> LABEL = Maybe.just("aggregate");
 
         private final Aggregator<Elem, Builder, Out> aggregator;
@@ -32,19 +40,86 @@ final class Aggregation {
 
         @Override
         public GenerateFn<Out> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createGenerateFn(generatorParameters, identity());
+        }
+
+        @Override
+        public <R> GenerateFn<R> createGenerateFn(GeneratorParameters generatorParameters,
+                                                  Function<? super Out, ? extends R> post) {
             Iterable<GenerateFn<Elem>> runners = Map.map(g -> g.createGenerateFn(generatorParameters), elements);
-            return input -> {
-                Seed current = input;
+            return cursorGenerateFn(cursor -> {
                 Builder builder = aggregator.builder();
 
                 for (GenerateFn<Elem> element : runners) {
-                    Result<? extends Seed, Elem> next = element.apply(current);
-                    builder = aggregator.add(builder, next.getValue());
-                    current = next.getNextState();
+                    builder = aggregator.add(builder, runWithCursor(element, cursor));
                 }
-                return result(current, aggregator.build(builder));
-            };
+                return post.apply(aggregator.build(builder));
+            });
+        }
+
+        @Override
+        public Generator<Out> optimize(Optimizer optimizer) {
+            ArrayList<Generator<Elem>> optimized = new ArrayList<>();
+            boolean changed = false;
+            for (Generator<Elem> element : elements) {
+                Generator<Elem> optimizedElement = optimizer.rewrite(element);
+                changed |= optimizedElement != element;
+                optimized.add(optimizedElement);
+            }
+            return changed ? new Aggregate<>(aggregator, optimized) : this;
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return LABEL;
+        }
+    }
+
+    /**
+     * Aggregates {@code size} values drawn from a single element {@link Generator}.  The element {@code Generator} is
+     * compiled once, and drawn from in a counted loop.
+     */
+    static final class Replicated<Elem, Builder, Out> implements Generator<Out>, Fusible<Out>, Optimizable<Out> {
+        private static final Maybe<String> LABEL = Maybe.just("aggregate");
 
+        private final Aggregator<Elem, Builder, Out> aggregator;
+        private final int size;
+        private final Generator<Elem> element;
+
+        private Replicated(Aggregator<Elem, Builder, Out> aggregator, int size, Generator<Elem> element) {
+            this.aggregator = aggregator;
+            this.size = size;
+            this.element = element;
+        }
+
+        @Override
+        public GenerateFn<Out> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createGenerateFn(generatorParameters, identity());
+        }
+
+        @Override
+        public <R> GenerateFn<R> createGenerateFn(GeneratorParameters generatorParameters,
+                                                  Function<? super Out, ? extends R> post) {
+            GenerateFn<Elem> runner = element.createGenerateFn(generatorParameters);
+            GenerateFn<R> result = cursorGenerateFn(cursor -> {
+                Builder builder = aggregator.builder();
+                for (int i = 0; i < size; i++) {
+                    builder = aggregator.add(builder, runWithCursor(runner, cursor));
+                }
+                return post.apply(aggregator.build(builder));
+            });
+            DrawCount perElement = drawCount(runner).orElse(null);
+            return perElement == null
+                    ? result
+                    : withDrawCount(perElement.times(Math.max(0, size)), result);
+        }
+
+        @Override
+        public Generator<Out> optimize(Optimizer optimizer) {
+            Generator<Elem> optimizedElement = optimizer.rewrite(element);
+            return optimizedElement != element
+                    ? new Replicated<>(aggregator, size, optimizedElement)
+                    : this;
         }
 
         @Override
@@ -0,0 +1,143 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.collectionviews.ImmutableVector;
+import dev.marksman.collectionviews.Vector;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.DoubleGenerateFn.unboxedDouble;
+import static dev.marksman.kraftwerk.IntGenerateFn.unboxedInt;
+import static dev.marksman.kraftwerk.LongGenerateFn.unboxedLong;
+import static dev.marksman.kraftwerk.Result.result;
+import static dev.marksman.kraftwerk.core.BuildingBlocks.checkCount;
+import static dev.marksman.kraftwerk.core.MutableSeed.mutableSeed;
+
+/**
+ * Runs a {@link GenerateFn} many times against a single {@link MutableSeed}, writing straight into an array.
+ */
+final class Batches {
+    private static final int STREAM_CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+    private Batches() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> Result<Seed, ImmutableVector<A>> generateBatch(GenerateFn<A> generateFn, int count, Seed initialSeed) {
+        checkCount(count);
+        Object[] dest = new Object[count];
+        Seed nextState = fill(generateFn, dest, 0, count, initialSeed);
+        return result(nextState, (ImmutableVector<A>) Vector.copyFrom(dest));
+    }
+
+    static <A> Seed fill(GenerateFn<A> generateFn, Object[] dest, int from, int until, Seed initialSeed) {
+        checkRange(dest.length, from, until);
+        MutableSeed cursor = mutableSeed(initialSeed);
+        for (int i = from; i < until; i++) {
+            dest[i] = runWithCursor(generateFn, cursor);
+        }
+        return cursor.toSeed();
+    }
+
+    static Result<Seed, int[]> generateIntBatch(GenerateFn<Integer> generateFn, int count, Seed initialSeed) {
+        checkCount(count);
+        int[] dest = new int[count];
+        Seed nextState = fillInts(generateFn, dest, 0, count, initialSeed);
+        return result(nextState, dest);
+    }
+
+    static Result<Seed, long[]> generateLongBatch(GenerateFn<Long> generateFn, int count, Seed initialSeed) {
+        checkCount(count);
+        long[] dest = new long[count];
+        Seed nextState = fillLongs(generateFn, dest, 0, count, initialSeed);
+        return result(nextState, dest);
+    }
+
+    static Result<Seed, double[]> generateDoubleBatch(GenerateFn<Double> generateFn, int count, Seed initialSeed) {
+        checkCount(count);
+        double[] dest = new double[count];
+        Seed nextState = fillDoubles(generateFn, dest, 0, count, initialSeed);
+        return result(nextState, dest);
+    }
+
+    static Seed fillInts(GenerateFn<Integer> generateFn, int[] dest, int from, int until, Seed initialSeed) {
+        checkRange(dest.length, from, until);
+        IntGenerateFn unboxed = unboxedInt(generateFn);
+        MutableSeed cursor = mutableSeed(initialSeed);
+        for (int i = from; i < until; i++) {
+            dest[i] = unboxed.generateInt(cursor);
+        }
+        return cursor.toSeed();
+    }
+
+    static Seed fillLongs(GenerateFn<Long> generateFn, long[] dest, int from, int until, Seed initialSeed) {
+        checkRange(dest.length, from, until);
+        LongGenerateFn unboxed = unboxedLong(generateFn);
+        MutableSeed cursor = mutableSeed(initialSeed);
+        for (int i = from; i < until; i++) {
+            dest[i] = unboxed.generateLong(cursor);
+        }
+        return cursor.toSeed();
+    }
+
+    static Seed fillDoubles(GenerateFn<Double> generateFn, double[] dest, int from, int until, Seed initialSeed) {
+        checkRange(dest.length, from, until);
+        DoubleGenerateFn unboxed = unboxedDouble(generateFn);
+        MutableSeed cursor = mutableSeed(initialSeed);
+        for (int i = from; i < until; i++) {
+            dest[i] = unboxed.generateDouble(cursor);
+        }
+        return cursor.toSeed();
+    }
+
+    static IntStream intStream(GenerateFn<Integer> generateFn, Seed initialSeed) {
+        IntGenerateFn unboxed = unboxedInt(generateFn);
+        MutableSeed cursor = mutableSeed(initialSeed);
+        return StreamSupport.intStream(new Spliterators.AbstractIntSpliterator(Long.MAX_VALUE, STREAM_CHARACTERISTICS) {
+            @Override
+            public boolean tryAdvance(IntConsumer action) {
+                action.accept(unboxed.generateInt(cursor));
+                return true;
+            }
+        }, false);
+    }
+
+    static LongStream longStream(GenerateFn<Long> generateFn, Seed initialSeed) {
+        LongGenerateFn unboxed = unboxedLong(generateFn);
+        MutableSeed cursor = mutableSeed(initialSeed);
+        return StreamSupport.longStream(new Spliterators.AbstractLongSpliterator(Long.MAX_VALUE, STREAM_CHARACTERISTICS) {
+            @Override
+            public boolean tryAdvance(LongConsumer action) {
+                action.accept(unboxed.generateLong(cursor));
+                return true;
+            }
+        }, false);
+    }
+
+    static DoubleStream doubleStream(GenerateFn<Double> generateFn, Seed initialSeed) {
+        DoubleGenerateFn unboxed = unboxedDouble(generateFn);
+        MutableSeed cursor = mutableSeed(initialSeed);
+        return StreamSupport.doubleStream(new Spliterators.AbstractDoubleSpliterator(Long.MAX_VALUE, STREAM_CHARACTERISTICS) {
+            @Override
+            public boolean tryAdvance(DoubleConsumer action) {
+                action.accept(unboxed.generateDouble(cursor));
+                return true;
+            }
+        }, false);
+    }
+
+    private static void checkRange(int length, int from, int until) {
+        if (from < 0 || until > length || from > until) {
+            throw new IllegalArgumentException("invalid range [" + from + ", " + until + ") for array of length " + length);
+        }
+    }
+}
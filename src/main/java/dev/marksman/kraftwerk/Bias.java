@@ -6,11 +6,18 @@ import dev.marksman.collectionviews.ImmutableNonEmptyVector;
 import dev.marksman.collectionviews.NonEmptyVector;
 import dev.marksman.collectionviews.Vector;
 import dev.marksman.enhancediterables.NonEmptyFiniteIterable;
+import dev.marksman.kraftwerk.Optimizer.Optimizable;
 import dev.marksman.kraftwerk.bias.BiasSetting;
 import dev.marksman.kraftwerk.bias.BiasSettings;
-import dev.marksman.kraftwerk.core.BuildingBlocks;
 
-import static dev.marksman.kraftwerk.Result.result;
+import static dev.marksman.kraftwerk.CursorGenerateFn.cursorGenerateFn;
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.DoubleGenerateFn.doubleGenerateFn;
+import static dev.marksman.kraftwerk.DoubleGenerateFn.unboxedDouble;
+import static dev.marksman.kraftwerk.IntGenerateFn.intGenerateFn;
+import static dev.marksman.kraftwerk.IntGenerateFn.unboxedInt;
+import static dev.marksman.kraftwerk.LongGenerateFn.longGenerateFn;
+import static dev.marksman.kraftwerk.LongGenerateFn.unboxedLong;
 
 final class Bias {
     static <A> GenerateFn<A> applyBiasSetting(BiasSetting<A> biasSetting,
@@ -19,6 +26,26 @@ final class Bias {
                 isv -> injectSpecial(isv.getSpecialValues(), underlying));
     }
 
+    // The primitive variants draw exactly as applyBiasSetting does, without boxing.
+
+    static GenerateFn<Integer> applyIntBiasSetting(BiasSetting<Integer> biasSetting,
+                                                   GenerateFn<Integer> underlying) {
+        return biasSetting.match(__ -> underlying,
+                isv -> injectSpecialInt(isv.getSpecialValues(), underlying));
+    }
+
+    static GenerateFn<Long> applyLongBiasSetting(BiasSetting<Long> biasSetting,
+                                                 GenerateFn<Long> underlying) {
+        return biasSetting.match(__ -> underlying,
+                isv -> injectSpecialLong(isv.getSpecialValues(), underlying));
+    }
+
+    static GenerateFn<Double> applyDoubleBiasSetting(BiasSetting<Double> biasSetting,
+                                                     GenerateFn<Double> underlying) {
+        return biasSetting.match(__ -> underlying,
+                isv -> injectSpecialDouble(isv.getSpecialValues(), underlying));
+    }
+
     static <A> Generator<A> applyBiasSetting(Fn1<BiasSettings, BiasSetting<A>> getBiasSetting,
                                              Generator<A> underlying) {
         return generatorParameters -> applyBiasSetting(getBiasSetting.apply(generatorParameters.getBiasSettings()),
@@ -40,18 +67,56 @@ final class Bias {
     private static <A> GenerateFn<A> injectSpecial(ImmutableNonEmptyVector<A> specialValues,
                                                    GenerateFn<A> underlying) {
         final int specialCount = specialValues.size();
-        return input -> {
+        return cursorGenerateFn(cursor -> {
             // special values will occur 1/16 of the time
-            if ((input.getSeedValue() & 15) == 1) {
-                Result<Seed, Integer> r0 = BuildingBlocks.unsafeNextIntBounded(specialCount, input);
-                return result(r0.getNextState(), specialValues.unsafeGet(r0.getValue()));
+            if ((cursor.getSeedValue() & 15) == 1) {
+                return specialValues.unsafeGet(cursor.unsafeNextIntBounded(specialCount));
             } else {
-                return underlying.apply(input);
+                return runWithCursor(underlying, cursor);
             }
-        };
+        });
     }
 
-    private static final class InjectsSpecialValues<A> implements Generator<A> {
+    private static GenerateFn<Integer> injectSpecialInt(ImmutableNonEmptyVector<Integer> specialValues,
+                                                        GenerateFn<Integer> underlying) {
+        final int specialCount = specialValues.size();
+        int[] specials = new int[specialCount];
+        for (int i = 0; i < specialCount; i++) {
+            specials[i] = specialValues.unsafeGet(i);
+        }
+        IntGenerateFn unboxed = unboxedInt(underlying);
+        return intGenerateFn(cursor -> ((cursor.getSeedValue() & 15) == 1)
+                ? specials[cursor.unsafeNextIntBounded(specialCount)]
+                : unboxed.generateInt(cursor));
+    }
+
+    private static GenerateFn<Long> injectSpecialLong(ImmutableNonEmptyVector<Long> specialValues,
+                                                      GenerateFn<Long> underlying) {
+        final int specialCount = specialValues.size();
+        long[] specials = new long[specialCount];
+        for (int i = 0; i < specialCount; i++) {
+            specials[i] = specialValues.unsafeGet(i);
+        }
+        LongGenerateFn unboxed = unboxedLong(underlying);
+        return longGenerateFn(cursor -> ((cursor.getSeedValue() & 15) == 1)
+                ? specials[cursor.unsafeNextIntBounded(specialCount)]
+                : unboxed.generateLong(cursor));
+    }
+
+    private static GenerateFn<Double> injectSpecialDouble(ImmutableNonEmptyVector<Double> specialValues,
+                                                          GenerateFn<Double> underlying) {
+        final int specialCount = specialValues.size();
+        double[] specials = new double[specialCount];
+        for (int i = 0; i < specialCount; i++) {
+            specials[i] = specialValues.unsafeGet(i);
+        }
+        DoubleGenerateFn unboxed = unboxedDouble(underlying);
+        return doubleGenerateFn(cursor -> ((cursor.getSeedValue() & 15) == 1)
+                ? specials[cursor.unsafeNextIntBounded(specialCount)]
+                : unboxed.generateDouble(cursor));
+    }
+
+    private static final class InjectsSpecialValues<A> implements Generator<A>, Optimizable<A> {
         private final ImmutableNonEmptyVector<A> specialValues;
         private final Generator<A> underlying;
 
@@ -70,6 +135,12 @@ final class Bias {
             return injectSpecial(specialValues, underlying.createGenerateFn(generatorParameters));
         }
 
+        @Override
+        public Generator<A> optimize(Optimizer optimizer) {
+            Generator<A> optimized = optimizer.rewrite(underlying);
+            return optimized == underlying ? this : new InjectsSpecialValues<>(specialValues, optimized);
+        }
+
         @Override
         public Maybe<String> getLabel() {
             return underlying.getLabel();
@@ -44,11 +44,12 @@ class BigNumbers {
     }
 
     static Generator<BigDecimal> generateBigDecimal(Generator<Integer> generateDecimalPlaces, BigDecimalRange range) {
-        return generateDecimalPlaces.flatMap(decimalPlaces -> generateBigDecimal(decimalPlaces, range));
+        return Composition.flatMappedByValue(decimalPlaces -> generateBigDecimal(decimalPlaces, range),
+                generateDecimalPlaces);
     }
 
     static Generator<BigDecimal> generateBigDecimal(IntRange decimalPlacesRange, BigDecimalRange range) {
-        return generateInt(decimalPlacesRange).flatMap(decimalPlaces -> generateBigDecimal(decimalPlaces, range));
+        return generateBigDecimal(generateInt(decimalPlacesRange), range);
     }
 
     static Generator<BigDecimal> generateBigDecimal(int decimalPlaces, BigDecimalRange range) {
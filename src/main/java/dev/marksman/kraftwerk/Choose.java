@@ -7,6 +7,7 @@ import dev.marksman.collectionviews.NonEmptyVector;
 import dev.marksman.collectionviews.Vector;
 import dev.marksman.collectionviews.VectorBuilder;
 import dev.marksman.kraftwerk.constraints.IntRange;
+import dev.marksman.kraftwerk.distributions.ZipfParameters;
 import dev.marksman.kraftwerk.frequency.FrequencyMap;
 
 import java.util.ArrayList;
@@ -21,6 +22,7 @@ import static dev.marksman.kraftwerk.Distributions.linearRampDown;
 import static dev.marksman.kraftwerk.Generators.constant;
 import static dev.marksman.kraftwerk.Generators.generateInt;
 import static dev.marksman.kraftwerk.ReservoirSample.reservoirSample;
+import static dev.marksman.kraftwerk.distributions.ZipfParameters.zipfParameters;
 import static dev.marksman.kraftwerk.frequency.FrequencyMap.frequencyMap;
 import static java.util.Arrays.asList;
 
@@ -64,6 +66,11 @@ final class Choose {
         return chooseOneValueFromDomain(NonEmptyVector.copyFromOrThrow(candidates));
     }
 
+    static <A> Generator<A> chooseOneValueFromDomainZipf(double exponent, NonEmptyVector<A> domain) {
+        ZipfParameters parameters = zipfParameters(domain.size(), exponent);
+        return StatisticalDistributions.generateZipf(parameters).fmap(rank -> domain.unsafeGet((int) (rank - 1)));
+    }
+
     static <A> Generator<A> chooseOneValueFromDomain(NonEmptyVector<A> domain) {
         int size = domain.size();
         if (size == 1) {
@@ -1,6 +1,7 @@
 package dev.marksman.kraftwerk;
 
 import com.jnape.palatable.lambda.functions.Fn0;
+import com.jnape.palatable.lambda.functions.Fn1;
 import dev.marksman.collectionviews.ImmutableNonEmptyVector;
 import dev.marksman.collectionviews.ImmutableVector;
 import dev.marksman.collectionviews.Vector;
@@ -12,7 +13,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Replicate.replicate;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Zip.zip;
 import static dev.marksman.kraftwerk.Generators.generateInt;
 import static dev.marksman.kraftwerk.aggregator.Aggregators.collectionAggregator;
@@ -37,7 +37,7 @@ final class Collections {
 
     static <A> Generator<ArrayList<A>> generateArrayListOfSize(IntRange sizeRange, Generator<A> gen) {
         Preconditions.requireNaturalSize(sizeRange);
-        return generateCollectionSize(sizeRange).flatMap(size -> buildArrayList(size, gen));
+        return withCollectionSize(sizeRange, size -> buildArrayList(size, gen));
     }
 
     static <A> Generator<HashSet<A>> generateHashSet(Generator<A> gen) {
@@ -96,6 +96,10 @@ final class Collections {
         return generateInt(sizeRange);
     }
 
+    static <A> Generator<A> withCollectionSize(IntRange sizeRange, Fn1<Integer, Generator<A>> fn) {
+        return Composition.flatMappedByValue(fn, generateCollectionSize(sizeRange));
+    }
+
     static <A, C extends Collection<A>> Generator<C> generateCollection(Fn0<C> constructCollection,
                                                                         Iterable<Generator<A>> elements) {
         return Aggregation.aggregate(collectionAggregator(constructCollection), elements);
@@ -105,23 +109,28 @@ final class Collections {
                                                                         int size,
                                                                         Generator<A> gen) {
         Preconditions.requireNaturalSize(size);
-        return generateCollection(constructCollection, replicate(size, gen));
+        return Aggregation.aggregate(collectionAggregator(constructCollection), size, gen);
     }
 
     static <A, C extends Collection<A>> Generator<C> generateCollection(Fn0<C> constructCollection,
                                                                         IntRange sizeRange,
                                                                         Generator<A> gen) {
         Preconditions.requireNaturalSize(sizeRange);
-        return generateCollectionSize(sizeRange).flatMap(size -> generateCollection(constructCollection, size, gen));
+        return withCollectionSize(sizeRange, size -> generateCollection(constructCollection, size, gen));
     }
 
     private static <A> Generator<ArrayList<A>> buildArrayList(int size, Generator<A> gen) {
         Preconditions.requireNaturalSize(size);
-        return generateCollection(ArrayList::new, size, gen);
+        return generateCollection(() -> new ArrayList<>(size), size, gen);
     }
 
     private static <A> Generator<HashSet<A>> buildHashSet(int size, Generator<A> gen) {
-        return generateCollection(HashSet::new, size, gen);
+        return generateCollection(() -> new HashSet<>(hashCapacity(size)), size, gen);
+    }
+
+    // the capacity at which a hash table holds size entries without resizing
+    static int hashCapacity(int size) {
+        return (int) Math.min((long) size * 4 / 3 + 1, 1 << 30);
     }
 
     private static <K, V> Generator<Map<K, V>> generateMapImpl(int size,
@@ -129,7 +138,7 @@ final class Collections {
                                                                Generator<V> generateValue) {
         return generateArrayListOfSize(size, generateValue)
                 .fmap(values -> {
-                    HashMap<K, V> result = new HashMap<>();
+                    HashMap<K, V> result = new HashMap<>(hashCapacity(size));
                     zip(keys, values)
                             .forEach(t -> result.put(t.getKey(), t.getValue()));
                     return result;
@@ -147,22 +156,22 @@ final class Collections {
 
     private static <A> Generator<ImmutableVector<A>> buildVector(int size, Generator<A> gen) {
         Preconditions.requireNaturalSize(size);
-        return Aggregation.aggregate(vectorAggregator(size), replicate(size, gen));
+        return Aggregation.aggregate(vectorAggregator(size), size, gen);
     }
 
     private static <A> Generator<ImmutableVector<A>> buildVector(IntRange sizeRange, Generator<A> gen) {
         Preconditions.requireNaturalSize(sizeRange);
-        return generateCollectionSize(sizeRange).flatMap(size -> buildVector(size, gen));
+        return withCollectionSize(sizeRange, size -> buildVector(size, gen));
     }
 
     private static <A> Generator<ImmutableNonEmptyVector<A>> buildNonEmptyVector(int size, Generator<A> gen) {
         Preconditions.requirePositiveSize(size);
-        return Aggregation.aggregate(vectorAggregator(), replicate(size, gen))
+        return Aggregation.aggregate(vectorAggregator(size), size, gen)
                 .fmap(ImmutableVector::toNonEmptyOrThrow);
     }
 
     private static <A> Generator<ImmutableNonEmptyVector<A>> buildNonEmptyVector(IntRange sizeRange, Generator<A> gen) {
         Preconditions.requirePositiveSize(sizeRange);
-        return generateCollectionSize(sizeRange).flatMap(size -> buildNonEmptyVector(size, gen));
+        return withCollectionSize(sizeRange, size -> buildNonEmptyVector(size, gen));
     }
 }
@@ -0,0 +1,82 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A bounded, thread-safe cache of values computed from keys, such as compiled {@link GenerateFn}s.  Keys are compared
+ * by equality, or by identity if created with {@link #identityCache(int)}.  When full, the oldest entry is evicted
+ * first.
+ * <p>
+ * Concurrent misses for the same key may both compute a value; only the first to finish is retained.
+ */
+final class CompiledCache<K, V> {
+    private final int capacity;
+    private final boolean byIdentity;
+    private final ConcurrentHashMap<Object, V> entries;
+    private final ConcurrentLinkedQueue<Object> insertionOrder;
+
+    private CompiledCache(int capacity, boolean byIdentity) {
+        this.capacity = capacity;
+        this.byIdentity = byIdentity;
+        this.entries = new ConcurrentHashMap<>();
+        this.insertionOrder = new ConcurrentLinkedQueue<>();
+    }
+
+    static <K, V> CompiledCache<K, V> compiledCache(int capacity) {
+        return new CompiledCache<>(capacity, false);
+    }
+
+    static <K, V> CompiledCache<K, V> identityCache(int capacity) {
+        return new CompiledCache<>(capacity, true);
+    }
+
+    V get(K key, Fn1<? super K, ? extends V> compute) {
+        if (key == null) {
+            return compute.apply(null);
+        }
+        Object entryKey = byIdentity ? new IdentityKey(key) : key;
+        V value = entries.get(entryKey);
+        if (value != null) {
+            return value;
+        }
+        value = compute.apply(key);
+        V existing = entries.putIfAbsent(entryKey, value);
+        if (existing != null) {
+            return existing;
+        }
+        insertionOrder.add(entryKey);
+        while (entries.size() > capacity) {
+            Object oldest = insertionOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            entries.remove(oldest);
+        }
+        return value;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static final class IdentityKey {
+        private final Object key;
+
+        private IdentityKey(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).key == key;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(key);
+        }
+    }
+}
@@ -2,34 +2,84 @@ package dev.marksman.kraftwerk;
 
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.Fn1;
+import dev.marksman.kraftwerk.Optimizer.Optimizable;
+
+import static dev.marksman.kraftwerk.CompiledCache.compiledCache;
+import static dev.marksman.kraftwerk.CompiledCache.identityCache;
+import static dev.marksman.kraftwerk.CursorGenerateFn.cursorGenerateFn;
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
 
 final class Composition {
     private Composition() {
     }
 
     static <A, B> Generator<B> flatMapped(Fn1<? super A, ? extends Generator<B>> fn, Generator<A> operand) {
-        return new FlatMapped<>(operand, fn::apply);
+        return new FlatMapped<>(operand, fn::apply, false);
+    }
+
+    /**
+     * Like {@link #flatMapped}, for a {@code fn} that is known to be pure, and an operand whose values are immutable
+     * and few (e.g., sizes).  When the {@code flatMap} cache is enabled, {@code fn} is applied and its result compiled
+     * once per distinct operand value, rather than once per invocation.
+     */
+    static <A, B> Generator<B> flatMappedByValue(Fn1<? super A, ? extends Generator<B>> fn,
+                                                 Generator<A> operand) {
+        return new FlatMapped<>(operand, fn::apply, true);
     }
 
-    private static class FlatMapped<In, A> implements Generator<A> {
+    private static class FlatMapped<In, A> implements Generator<A>, Optimizable<A> {
         private static final Maybe<String> LABEL = Maybe.just("flatMap");
 
         private final Generator<In> operand;
         private final Fn1<? super In, ? extends Generator<A>> fn;
+        private final boolean cacheByValue;
 
-        private FlatMapped(Generator<In> operand, Fn1<? super In, ? extends Generator<A>> fn) {
+        private FlatMapped(Generator<In> operand, Fn1<? super In, ? extends Generator<A>> fn, boolean cacheByValue) {
             this.operand = operand;
             this.fn = fn;
+            this.cacheByValue = cacheByValue;
         }
 
         @Override
         public GenerateFn<A> createGenerateFn(GeneratorParameters generatorParameters) {
             Fn1<Seed, Result<? extends Seed, In>> runner = operand.createGenerateFn(generatorParameters);
-            return input -> {
-                Result<? extends Seed, In> result1 = runner.apply(input);
-                Generator<A> g2 = fn.apply(result1.getValue());
-                return g2.createGenerateFn(generatorParameters).apply(result1.getNextState());
-            };
+            int cacheSize = generatorParameters.getFlatMapCacheSize();
+            if (cacheSize <= 0) {
+                return cursorGenerateFn(cursor -> {
+                    Generator<A> g2 = fn.apply(runWithCursor(runner, cursor));
+                    if (g2 instanceof Constant<?>) {
+                        return ((Constant<A>) g2).getValue();
+                    }
+                    return runWithCursor(g2.createGenerateFn(generatorParameters), cursor);
+                });
+            }
+            if (cacheByValue) {
+                CompiledCache<In, GenerateFn<A>> compiled = compiledCache(cacheSize);
+                Fn1<In, GenerateFn<A>> compile = value -> fn.apply(value).createGenerateFn(generatorParameters);
+                return cursorGenerateFn(cursor ->
+                        runWithCursor(compiled.get(runWithCursor(runner, cursor), compile), cursor));
+            }
+            // fn is still applied on every invocation; only compiling the Generator it returns is skipped, when it
+            // returns the same instance again
+            CompiledCache<Generator<A>, GenerateFn<A>> compiled = identityCache(cacheSize);
+            Fn1<Generator<A>, GenerateFn<A>> compile = g2 -> g2.createGenerateFn(generatorParameters);
+            return cursorGenerateFn(cursor -> {
+                Generator<A> g2 = fn.apply(runWithCursor(runner, cursor));
+                if (g2 instanceof Constant<?>) {
+                    return ((Constant<A>) g2).getValue();
+                }
+                return runWithCursor(compiled.get(g2, compile), cursor);
+            });
+        }
+
+        @Override
+        public Generator<A> optimize(Optimizer optimizer) {
+            Generator<In> optimizedOperand = optimizer.rewrite(operand);
+            if (optimizedOperand instanceof Constant<?>) {
+                // a constant draws nothing, so the inner generator can be chosen now
+                return optimizer.rewrite(fn.apply(((Constant<In>) optimizedOperand).getValue()));
+            }
+            return optimizedOperand == operand ? this : new FlatMapped<>(optimizedOperand, fn, cacheByValue);
         }
 
         @Override
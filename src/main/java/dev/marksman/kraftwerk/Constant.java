@@ -1,25 +1,56 @@
 package dev.marksman.kraftwerk;
 
 import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.functions.Fn0;
+import com.jnape.palatable.lambda.functions.Fn1;
 
-import static dev.marksman.kraftwerk.Result.result;
+import static dev.marksman.kraftwerk.CursorGenerateFn.cursorGenerateFn;
+import static dev.marksman.kraftwerk.DrawCount.NONE;
+import static dev.marksman.kraftwerk.DrawCount.withDrawCount;
 
 final class Constant<A> implements Generator<A> {
     private static final Maybe<String> LABEL = Maybe.just("constant");
 
-    private final A value;
+    // computes the value of a folded fmap; null once the value is known
+    private volatile Fn0<? extends A> pending;
+    private A value;
 
-    private Constant(A value) {
+    private Constant(A value, Fn0<? extends A> pending) {
         this.value = value;
+        this.pending = pending;
     }
 
     static <A> Constant<A> constant(A value) {
-        return new Constant<>(value);
+        return new Constant<>(value, null);
     }
 
     @Override
     public GenerateFn<A> createGenerateFn(GeneratorParameters generatorParameters) {
-        return input -> result(input, value);
+        A result = getValue();
+        return withDrawCount(NONE, cursorGenerateFn(cursor -> result));
+    }
+
+    /**
+     * Returns the value, computing it first if this {@code Constant} came from a {@code fmap}.  If that computation
+     * throws, it is attempted again on the next call.
+     */
+    A getValue() {
+        if (pending != null) {
+            synchronized (this) {
+                Fn0<? extends A> compute = pending;
+                if (compute != null) {
+                    value = compute.apply();
+                    pending = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public <B> Generator<B> fmap(Fn1<? super A, ? extends B> fn) {
+        // fn is not applied until this is run
+        return new Constant<>(null, () -> fn.apply(getValue()));
     }
 
     @Override
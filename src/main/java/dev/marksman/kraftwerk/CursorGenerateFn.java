@@ -0,0 +1,47 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import static dev.marksman.kraftwerk.Result.result;
+import static dev.marksman.kraftwerk.core.MutableSeed.mutableSeed;
+
+/**
+ * A {@link GenerateFn} that can also run directly against a {@link MutableSeed}.
+ * <p>
+ * A tree of {@code CursorGenerateFn}s can run against a single {@code MutableSeed} without allocating
+ * a {@link Seed} or {@link Result} at each node.  It produces exactly the same values, and leaves exactly the
+ * same state, as it would when applied to an immutable {@code Seed}.
+ *
+ * @param <A> the output type
+ */
+@FunctionalInterface
+interface CursorGenerateFn<A> extends GenerateFn<A> {
+
+    A generate(MutableSeed cursor);
+
+    @Override
+    default Result<? extends Seed, A> checkedApply(Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        A value = generate(cursor);
+        return result(cursor.toSeed(), value);
+    }
+
+    static <A> GenerateFn<A> cursorGenerateFn(CursorGenerateFn<A> fn) {
+        return fn;
+    }
+
+    /**
+     * Runs {@code generateFn} against {@code cursor}.  If {@code generateFn} is not a {@code CursorGenerateFn},
+     * bridges through an immutable {@link Seed}.
+     */
+    @SuppressWarnings("unchecked")
+    static <A> A runWithCursor(Fn1<Seed, ? extends Result<? extends Seed, A>> generateFn, MutableSeed cursor) {
+        if (generateFn instanceof CursorGenerateFn<?>) {
+            return ((CursorGenerateFn<A>) generateFn).generate(cursor);
+        }
+        Result<? extends Seed, A> result = generateFn.apply(cursor.toSeed());
+        cursor.set(result.getNextState());
+        return result.getValue();
+    }
+}
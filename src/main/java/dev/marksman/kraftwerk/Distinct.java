@@ -0,0 +1,211 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import dev.marksman.kraftwerk.constraints.IntRange;
+import dev.marksman.kraftwerk.constraints.LongRange;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import static dev.marksman.kraftwerk.Collections.hashCapacity;
+import static dev.marksman.kraftwerk.Collections.withCollectionSize;
+import static dev.marksman.kraftwerk.CursorGenerateFn.cursorGenerateFn;
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+
+/**
+ * Generators for sets and maps of an exact size, whose elements (or keys) are guaranteed to be distinct.
+ * <p>
+ * Values from an integer range are sampled with Floyd's algorithm, which makes exactly one draw per element.  Values
+ * from any other {@link Generator} are drawn until enough distinct values have been seen, giving up with an
+ * {@link IllegalStateException} if too many duplicates are drawn in a row.
+ */
+final class Distinct {
+    // a domain that is at most this many times the sample size tracks which offsets have been chosen in a BitSet,
+    // which then costs at most one word per element
+    private static final long BITSET_DOMAIN_PER_ELEMENT = 64;
+    private static final long BITSET_DOMAIN_LIMIT = 1L << 26;
+    private static final long MIN_CONSECUTIVE_DUPLICATES = 100;
+    private static final long CONSECUTIVE_DUPLICATES_PER_ELEMENT = 10;
+
+    private Distinct() {
+    }
+
+    static Generator<HashSet<Integer>> generateDistinctInts(int size, IntRange range) {
+        Preconditions.requireNaturalSize(size);
+        long domainSize = (long) range.maxInclusive() - range.minInclusive() + 1;
+        requireDomainSize(size, domainSize);
+        int min = range.minInclusive();
+        return new Sampled<>(size, domainSize, offset -> (int) (min + offset));
+    }
+
+    static Generator<HashSet<Long>> generateDistinctLongs(int size, LongRange range) {
+        Preconditions.requireNaturalSize(size);
+        long min = range.minInclusive();
+        long max = range.maxInclusive();
+        long domainSize = max - min + 1;
+        if (domainSize <= 0) {
+            // more than 2^63 values, so duplicates are too rare to sample around
+            return new Retried<>(size, parameters -> cursorGenerateFn(cursor -> cursor.nextLongBetween(min, max)));
+        }
+        requireDomainSize(size, domainSize);
+        return new Sampled<>(size, domainSize, offset -> min + offset);
+    }
+
+    static <A> Generator<HashSet<A>> generateHashSetOfSize(int size, Generator<A> gen) {
+        Preconditions.requireNaturalSize(size);
+        return new Retried<>(size, gen);
+    }
+
+    static <A> Generator<HashSet<A>> generateHashSetOfSize(IntRange sizeRange, Generator<A> gen) {
+        Preconditions.requireNaturalSize(sizeRange);
+        return withCollectionSize(sizeRange, size -> generateHashSetOfSize(size, gen));
+    }
+
+    static <K, V> Generator<Map<K, V>> generateMapOfSize(int size, Generator<K> generateKey,
+                                                         Generator<V> generateValue) {
+        Preconditions.requireNaturalSize(size);
+        return new DistinctKeys<>(size, generateKey, generateValue);
+    }
+
+    static <K, V> Generator<Map<K, V>> generateMapOfSize(IntRange sizeRange, Generator<K> generateKey,
+                                                         Generator<V> generateValue) {
+        Preconditions.requireNaturalSize(sizeRange);
+        return withCollectionSize(sizeRange, size -> generateMapOfSize(size, generateKey, generateValue));
+    }
+
+    private static void requireDomainSize(int size, long domainSize) {
+        if (size > domainSize) {
+            throw new IllegalArgumentException("cannot choose " + size + " distinct values from a range of "
+                    + domainSize);
+        }
+    }
+
+    // keeps draw order, so that anything drawn per element afterwards does not depend on hash codes
+    private static <A> LinkedHashSet<A> drawDistinct(GenerateFn<A> generateFn, int size, MutableSeed cursor) {
+        LinkedHashSet<A> result = new LinkedHashSet<>(hashCapacity(size));
+        long maxDuplicates = MIN_CONSECUTIVE_DUPLICATES + CONSECUTIVE_DUPLICATES_PER_ELEMENT * size;
+        long duplicates = 0;
+        while (result.size() < size) {
+            if (result.add(runWithCursor(generateFn, cursor))) {
+                duplicates = 0;
+            } else if (++duplicates > maxDuplicates) {
+                throw new IllegalStateException("gave up generating " + size + " distinct values after "
+                        + result.size() + " were found, and " + maxDuplicates
+                        + " duplicates were drawn in a row; the generator may not have enough distinct values");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Chooses {@code size} distinct offsets in {@code [0, domainSize)} using Floyd's algorithm.
+     */
+    private static final class Sampled<A> implements Generator<HashSet<A>> {
+        private static final Maybe<String> LABEL = Maybe.just("distinct");
+
+        private final int size;
+        private final long domainSize;
+        private final LongFunction<A> fromOffset;
+
+        private Sampled(int size, long domainSize, LongFunction<A> fromOffset) {
+            this.size = size;
+            this.domainSize = domainSize;
+            this.fromOffset = fromOffset;
+        }
+
+        @Override
+        public GenerateFn<HashSet<A>> createGenerateFn(GeneratorParameters generatorParameters) {
+            if (domainSize <= BITSET_DOMAIN_LIMIT && domainSize <= BITSET_DOMAIN_PER_ELEMENT * size) {
+                return cursorGenerateFn(cursor -> {
+                    HashSet<A> result = new HashSet<>(hashCapacity(size));
+                    BitSet chosen = new BitSet((int) domainSize);
+                    for (long j = domainSize - size; j < domainSize; j++) {
+                        int t = (int) cursor.nextLongBounded(j + 1);
+                        if (chosen.get(t)) {
+                            t = (int) j;
+                        }
+                        chosen.set(t);
+                        result.add(fromOffset.apply(t));
+                    }
+                    return result;
+                });
+            } else {
+                // fromOffset is one-to-one, so the result itself tracks which offsets have been chosen
+                return cursorGenerateFn(cursor -> {
+                    HashSet<A> result = new HashSet<>(hashCapacity(size));
+                    for (long j = domainSize - size; j < domainSize; j++) {
+                        if (!result.add(fromOffset.apply(cursor.nextLongBounded(j + 1)))) {
+                            result.add(fromOffset.apply(j));
+                        }
+                    }
+                    return result;
+                });
+            }
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return LABEL;
+        }
+    }
+
+    private static final class Retried<A> implements Generator<HashSet<A>> {
+        private static final Maybe<String> LABEL = Maybe.just("distinct");
+
+        private final int size;
+        private final Generator<A> elements;
+
+        private Retried(int size, Generator<A> elements) {
+            this.size = size;
+            this.elements = elements;
+        }
+
+        @Override
+        public GenerateFn<HashSet<A>> createGenerateFn(GeneratorParameters generatorParameters) {
+            GenerateFn<A> elementFn = elements.createGenerateFn(generatorParameters);
+            return cursorGenerateFn(cursor -> drawDistinct(elementFn, size, cursor));
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return LABEL;
+        }
+    }
+
+    private static final class DistinctKeys<K, V> implements Generator<Map<K, V>> {
+        private static final Maybe<String> LABEL = Maybe.just("map");
+
+        private final int size;
+        private final Generator<K> keys;
+        private final Generator<V> values;
+
+        private DistinctKeys(int size, Generator<K> keys, Generator<V> values) {
+            this.size = size;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        public GenerateFn<Map<K, V>> createGenerateFn(GeneratorParameters generatorParameters) {
+            GenerateFn<K> keyFn = keys.createGenerateFn(generatorParameters);
+            GenerateFn<V> valueFn = values.createGenerateFn(generatorParameters);
+            return cursorGenerateFn(cursor -> {
+                HashMap<K, V> result = new HashMap<>(hashCapacity(size));
+                for (K key : drawDistinct(keyFn, size, cursor)) {
+                    result.put(key, runWithCursor(valueFn, cursor));
+                }
+                return result;
+            });
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return LABEL;
+        }
+    }
+}
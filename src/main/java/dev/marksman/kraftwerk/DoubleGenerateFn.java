@@ -0,0 +1,36 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+
+/**
+ * A {@link CursorGenerateFn} that can produce {@code double}s without boxing.
+ */
+@FunctionalInterface
+interface DoubleGenerateFn extends CursorGenerateFn<Double> {
+
+    double generateDouble(MutableSeed cursor);
+
+    @Override
+    default Double generate(MutableSeed cursor) {
+        return generateDouble(cursor);
+    }
+
+    static DoubleGenerateFn doubleGenerateFn(DoubleGenerateFn fn) {
+        return fn;
+    }
+
+    /**
+     * Returns the unboxed form of {@code generateFn}, looking through any {@link DrawCount}.  If {@code generateFn}
+     * has no unboxed form, bridges through boxed values.
+     */
+    static DoubleGenerateFn unboxedDouble(Fn1<Seed, ? extends Result<? extends Seed, Double>> generateFn) {
+        Fn1<?, ?> inner = DrawCount.uncounted(generateFn);
+        if (inner instanceof DoubleGenerateFn) {
+            return (DoubleGenerateFn) inner;
+        }
+        return cursor -> runWithCursor(generateFn, cursor);
+    }
+}
@@ -0,0 +1,167 @@
+package dev.marksman.kraftwerk;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+import static dev.marksman.kraftwerk.StandardGeneratorParameters.defaultGeneratorParameters;
+
+/**
+ * A {@link Generator} of {@code double}s that can produce its values without boxing.
+ * <p>
+ * A {@code DoubleGenerator} is a {@code Generator<Double>}, and can be used anywhere one is expected.  The primitive
+ * mapping methods, and the iterators returned by {@link DoubleGenerator#runDoubles}, do not box intermediate values.
+ * <p>
+ * The {@link FloatingPointGenerator}s returned by {@link Generators#generateDouble()} and its variants are also
+ * {@code DoubleGenerator}s; use {@link DoubleGenerator#doubleGenerator(Generator)} to view them as such.
+ */
+public interface DoubleGenerator extends Generator<Double> {
+
+    /**
+     * Creates a new {@code DoubleGenerator} that applies a function to the output of this one, without boxing.
+     *
+     * @param fn the function
+     * @return a {@code DoubleGenerator}
+     */
+    default DoubleGenerator mapDouble(DoubleUnaryOperator fn) {
+        return PrimitiveGenerators.mapDouble(fn, this);
+    }
+
+    /**
+     * Creates a new {@link IntGenerator} that applies a function to the output of this one, without boxing.
+     *
+     * @param fn the function
+     * @return a {@code IntGenerator}
+     */
+    default IntGenerator mapToInt(DoubleToIntFunction fn) {
+        return PrimitiveGenerators.mapDoubleToInt(fn, this);
+    }
+
+    /**
+     * Creates a new {@link LongGenerator} that applies a function to the output of this one, without boxing.
+     *
+     * @param fn the function
+     * @return a {@code LongGenerator}
+     */
+    default LongGenerator mapToLong(DoubleToLongFunction fn) {
+        return PrimitiveGenerators.mapDoubleToLong(fn, this);
+    }
+
+    /**
+     * Runs this {@code DoubleGenerator}, returning an infinite iterator of unboxed values.  The values are the
+     * same as those of {@link Generator#run(GeneratorParameters, Seed)}.
+     * <p>
+     * The iterator is not thread-safe.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param initialSeed         the initial {@link Seed}
+     * @return a {@code PrimitiveIterator.OfDouble}
+     */
+    default PrimitiveIterator.OfDouble runDoubles(GeneratorParameters generatorParameters, Seed initialSeed) {
+        return PrimitiveGenerators.doubleIterator(createGenerateFn(generatorParameters), initialSeed);
+    }
+
+    /**
+     * Runs this {@code DoubleGenerator} with the default {@link GeneratorParameters}, returning an infinite
+     * iterator of unboxed values.
+     *
+     * @param initialSeed the initial {@link Seed}
+     * @return a {@code PrimitiveIterator.OfDouble}
+     */
+    default PrimitiveIterator.OfDouble runDoubles(Seed initialSeed) {
+        return runDoubles(defaultGeneratorParameters(), initialSeed);
+    }
+
+    /**
+     * Generates a fixed number of unboxed values in a single pass, returning them along with the {@link Seed} that
+     * follows the last one.  The values are the first {@code count} values of {@link DoubleGenerator#runDoubles}.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param count               the number of values to generate; must be &gt;= 0
+     * @param initialSeed         the initial {@link Seed}
+     * @return a {@code Result} containing the final {@code Seed} and a {@code double[]}
+     */
+    default Result<Seed, double[]> runDoubleBatch(GeneratorParameters generatorParameters, int count, Seed initialSeed) {
+        return Batches.generateDoubleBatch(createGenerateFn(generatorParameters), count, initialSeed);
+    }
+
+    /**
+     * Generates a fixed number of unboxed values in a single pass, using the default {@link GeneratorParameters}.
+     *
+     * @param count       the number of values to generate; must be &gt;= 0
+     * @param initialSeed the initial {@link Seed}
+     * @return a {@code Result} containing the final {@code Seed} and a {@code double[]}
+     */
+    default Result<Seed, double[]> runDoubleBatch(int count, Seed initialSeed) {
+        return runDoubleBatch(defaultGeneratorParameters(), count, initialSeed);
+    }
+
+    /**
+     * Fills {@code dest} with the first {@code dest.length} values of {@link DoubleGenerator#runDoubles}.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param dest                the array to fill
+     * @param initialSeed         the initial {@link Seed}
+     * @return the {@code Seed} that follows the last value
+     */
+    default Seed fillDoubles(GeneratorParameters generatorParameters, double[] dest, Seed initialSeed) {
+        return Batches.fillDoubles(createGenerateFn(generatorParameters), dest, 0, dest.length, initialSeed);
+    }
+
+    /**
+     * Fills {@code dest} with values, using the default {@link GeneratorParameters}.
+     *
+     * @param dest        the array to fill
+     * @param initialSeed the initial {@link Seed}
+     * @return the {@code Seed} that follows the last value
+     */
+    default Seed fillDoubles(double[] dest, Seed initialSeed) {
+        return fillDoubles(defaultGeneratorParameters(), dest, initialSeed);
+    }
+
+    /**
+     * Runs this {@code DoubleGenerator}, returning an infinite, sequential {@link DoubleStream} of the same values as
+     * {@link DoubleGenerator#runDoubles}.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param initialSeed         the initial {@link Seed}
+     * @return a {@code DoubleStream}
+     */
+    default DoubleStream streamDoubles(GeneratorParameters generatorParameters, Seed initialSeed) {
+        return Batches.doubleStream(createGenerateFn(generatorParameters), initialSeed);
+    }
+
+    /**
+     * Runs this {@code DoubleGenerator} with the default {@link GeneratorParameters}, returning an infinite,
+     * sequential {@link DoubleStream}.
+     *
+     * @param initialSeed the initial {@link Seed}
+     * @return a {@code DoubleStream}
+     */
+    default DoubleStream streamDoubles(Seed initialSeed) {
+        return streamDoubles(defaultGeneratorParameters(), initialSeed);
+    }
+
+    @Override
+    default DoubleGenerator labeled(String label) {
+        return PrimitiveGenerators.toDoubleGenerator(Generator.super.labeled(label));
+    }
+
+    @Override
+    default DoubleGenerator attachApplicationData(Object applicationData) {
+        return PrimitiveGenerators.toDoubleGenerator(Generator.super.attachApplicationData(applicationData));
+    }
+
+    /**
+     * Converts a {@code Generator<Double>} to a {@code DoubleGenerator}.  If {@code generator} is already
+     * a {@code DoubleGenerator}, it is returned as is.
+     *
+     * @param generator the {@code Generator}
+     * @return a {@code DoubleGenerator}
+     */
+    static DoubleGenerator doubleGenerator(Generator<Double> generator) {
+        return PrimitiveGenerators.toDoubleGenerator(generator);
+    }
+}
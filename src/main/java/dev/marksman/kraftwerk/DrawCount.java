@@ -0,0 +1,108 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.functions.Fn1;
+import dev.marksman.kraftwerk.core.BuildingBlocks;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+
+/**
+ * The number of primitive draws a {@link GenerateFn} makes from its input {@link Seed}, for a {@code GenerateFn}
+ * that makes the same number of draws regardless of the input.
+ * <p>
+ * A narrow draw (e.g., an {@code int}) consumes one engine step.  A wide draw (e.g., a {@code long} or
+ * a {@code double}) consumes one step from a 64-bit {@link Engine}, or two steps from {@link Engine#STANDARD}.
+ * <p>
+ * Knowing this lets a {@link ValueSupply} skip over values using {@link Seed#advance(long)}, rather than
+ * generating them.
+ */
+final class DrawCount {
+    static final DrawCount NONE = new DrawCount(0, 0);
+    static final DrawCount ONE_NARROW = new DrawCount(1, 0);
+    static final DrawCount ONE_WIDE = new DrawCount(0, 1);
+
+    private final long narrow;
+    private final long wide;
+
+    private DrawCount(long narrow, long wide) {
+        this.narrow = narrow;
+        this.wide = wide;
+    }
+
+    DrawCount plus(DrawCount other) {
+        return new DrawCount(narrow + other.narrow, wide + other.wide);
+    }
+
+    DrawCount times(long n) {
+        return new DrawCount(narrow * n, wide * n);
+    }
+
+    long steps(Seed seed) {
+        return narrow + wide * BuildingBlocks.stepsPerWideDraw(seed);
+    }
+
+    static <A> GenerateFn<A> withDrawCount(DrawCount drawCount, GenerateFn<A> underlying) {
+        return new Counted<>(drawCount, underlying);
+    }
+
+    static Maybe<DrawCount> drawCount(Fn1<?, ?> generateFn) {
+        return generateFn instanceof Counted<?>
+                ? just(((Counted<?>) generateFn).drawCount)
+                : nothing();
+    }
+
+    /**
+     * Returns the {@code GenerateFn} that {@code generateFn} attaches a {@code DrawCount} to, if any;
+     * otherwise, returns {@code generateFn}.
+     */
+    static Fn1<?, ?> uncounted(Fn1<?, ?> generateFn) {
+        Fn1<?, ?> current = generateFn;
+        while (current instanceof Counted<?>) {
+            current = ((Counted<?>) current).underlying;
+        }
+        return current;
+    }
+
+    /**
+     * Attaches the combined {@code DrawCount} of {@code components} to {@code underlying}, if all of
+     * the {@code components} have one.
+     */
+    static <A> GenerateFn<A> combineDrawCounts(GenerateFn<A> underlying, Fn1<?, ?>... components) {
+        DrawCount total = NONE;
+        for (Fn1<?, ?> component : components) {
+            if (!(component instanceof Counted<?>)) {
+                return underlying;
+            }
+            total = total.plus(((Counted<?>) component).drawCount);
+        }
+        return new Counted<>(total, underlying);
+    }
+
+    private static final class Counted<A> implements CursorGenerateFn<A> {
+        private final DrawCount drawCount;
+        private final GenerateFn<A> underlying;
+
+        private Counted(DrawCount drawCount, GenerateFn<A> underlying) {
+            this.drawCount = drawCount;
+            this.underlying = underlying;
+        }
+
+        @Override
+        public Result<? extends Seed, A> apply(Seed input) {
+            return underlying.apply(input);
+        }
+
+        @Override
+        public Result<? extends Seed, A> checkedApply(Seed input) {
+            return underlying.apply(input);
+        }
+
+        @Override
+        public A generate(MutableSeed cursor) {
+            return runWithCursor(underlying, cursor);
+        }
+    }
+}
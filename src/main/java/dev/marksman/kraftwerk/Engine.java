@@ -0,0 +1,81 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.kraftwerk.core.Pcg64Seed;
+import dev.marksman.kraftwerk.core.SplitMix64Seed;
+import dev.marksman.kraftwerk.core.StandardSeed;
+import dev.marksman.kraftwerk.core.Xoshiro256StarStarSeed;
+
+import java.util.Random;
+
+/**
+ * A pseudo-random number generation algorithm that backs a {@link Seed}.
+ * <p>
+ * All {@link Generator}s work with {@code Seed}s of any engine.  The engine of the initial {@code Seed} passed to
+ * {@link Generator#run(Seed)} is preserved throughout generation, including for any {@code Seed}s that are generated
+ * (e.g., by {@link Generators#generateSeed()}).
+ * <p>
+ * {@link Engine#STANDARD} is the default, and is compatible with {@link java.util.Random}.  The other engines produce
+ * a full 64 bits of output per step, which makes them considerably faster when generating {@code long}s and
+ * {@code double}s.  They also draw bounded values (e.g., from {@link Generators#generateInt(dev.marksman.kraftwerk.constraints.IntRange)},
+ * or when choosing an element) using Lemire's nearly divisionless method, rather than modulo-based rejection.
+ */
+public enum Engine {
+    /**
+     * The 48-bit linear congruential generator used by {@link java.util.Random}.
+     * This is the engine used by {@link Seed#create(long)} and {@link Seed#random()}.
+     */
+    STANDARD {
+        @Override
+        public Seed createSeed(long value) {
+            return StandardSeed.initStandardSeed(value);
+        }
+    },
+
+    /**
+     * The SplitMix64 algorithm, as used by {@link java.util.SplittableRandom}.  Has 64 bits of state.
+     */
+    SPLIT_MIX_64 {
+        @Override
+        public Seed createSeed(long value) {
+            return SplitMix64Seed.initSplitMix64Seed(value);
+        }
+    },
+
+    /**
+     * The xoshiro256** algorithm by Blackman and Vigna.  Has 256 bits of state.
+     */
+    XOSHIRO_256_STAR_STAR {
+        @Override
+        public Seed createSeed(long value) {
+            return Xoshiro256StarStarSeed.initXoshiro256StarStarSeed(value);
+        }
+    },
+
+    /**
+     * The PCG64 DXSM algorithm by O'Neill: a 128-bit linear congruential generator with a 64-bit output permutation.
+     */
+    PCG_64 {
+        @Override
+        public Seed createSeed(long value) {
+            return Pcg64Seed.initPcg64Seed(value);
+        }
+    };
+
+    /**
+     * Instantiates a {@code Seed} backed by this engine.
+     *
+     * @param value the value used to initialize the inner state of the {@code Seed}.
+     *              The same value will always result in the same internal state.
+     * @return a {@code Seed}
+     */
+    public abstract Seed createSeed(long value);
+
+    /**
+     * Randomly generates a {@code Seed} backed by this engine.
+     *
+     * @return a {@code Seed}
+     */
+    public Seed randomSeed() {
+        return createSeed(new Random().nextLong());
+    }
+}
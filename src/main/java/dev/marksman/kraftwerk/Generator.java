@@ -16,6 +16,8 @@ import dev.marksman.kraftwerk.weights.MaybeWeights;
 import dev.marksman.kraftwerk.weights.NullWeights;
 
 import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
 import static dev.marksman.kraftwerk.Generators.generateArrayList;
@@ -90,7 +92,7 @@ public interface Generator<A> extends Monad<A, Generator<?>>, ToGenerator<A> {
      * @see Generator#run(GeneratorParameters)
      */
     default ValueSupply<A> run(GeneratorParameters generatorParameters, Seed initialSeed) {
-        return valueSupply(createGenerateFn(generatorParameters), initialSeed);
+        return valueSupply(Optimizer.optimize(this).createGenerateFn(generatorParameters), initialSeed);
     }
 
     /**
@@ -132,8 +134,180 @@ public interface Generator<A> extends Monad<A, Generator<?>>, ToGenerator<A> {
         return run(defaultGeneratorParameters(), Seed.random());
     }
 
+    /**
+     * Generates a fixed number of values in a single pass, returning them along with the {@link Seed} that follows
+     * the last one.  The values are the first {@code count} values of {@link Generator#run(GeneratorParameters, Seed)}.
+     * <p>
+     * Running against the returned {@code Seed} continues the sequence, so a large batch can be produced in chunks.
+     *
+     * @param generatorParameters the {@code GeneratorParameters}
+     * @param count               the number of values to generate; must be &gt;= 0
+     * @param initialSeed         the initial {@code Seed}
+     * @return a {@code Result} containing the final {@code Seed} and an {@code ImmutableVector<A>}
+     * @see Generator#runBatch(int, Seed)
+     */
+    default Result<Seed, ImmutableVector<A>> runBatch(GeneratorParameters generatorParameters, int count,
+                                                      Seed initialSeed) {
+        return Batches.generateBatch(Optimizer.optimize(this).createGenerateFn(generatorParameters), count,
+                initialSeed);
+    }
+
+    /**
+     * Generates a fixed number of values in a single pass, using the built-in default {@code GeneratorParameters}.
+     *
+     * @param count       the number of values to generate; must be &gt;= 0
+     * @param initialSeed the initial {@code Seed}
+     * @return a {@code Result} containing the final {@code Seed} and an {@code ImmutableVector<A>}
+     * @see Generator#runBatch(GeneratorParameters, int, Seed)
+     */
+    default Result<Seed, ImmutableVector<A>> runBatch(int count, Seed initialSeed) {
+        return runBatch(defaultGeneratorParameters(), count, initialSeed);
+    }
+
+    /**
+     * Fills an array with the first {@code dest.length} values of {@link Generator#run(GeneratorParameters, Seed)}.
+     *
+     * @param generatorParameters the {@code GeneratorParameters}
+     * @param dest                the array to fill
+     * @param initialSeed         the initial {@code Seed}
+     * @return the {@code Seed} that follows the last value
+     * @see Generator#fill(Object[], Seed)
+     */
+    default Seed fill(GeneratorParameters generatorParameters, A[] dest, Seed initialSeed) {
+        return Batches.fill(Optimizer.optimize(this).createGenerateFn(generatorParameters), dest, 0, dest.length,
+                initialSeed);
+    }
+
+    /**
+     * Fills an array with values, using the built-in default {@code GeneratorParameters}.
+     *
+     * @param dest        the array to fill
+     * @param initialSeed the initial {@code Seed}
+     * @return the {@code Seed} that follows the last value
+     * @see Generator#fill(GeneratorParameters, Object[], Seed)
+     */
+    default Seed fill(A[] dest, Seed initialSeed) {
+        return fill(defaultGeneratorParameters(), dest, initialSeed);
+    }
+
+    /**
+     * Creates a {@link GeneratorPublisher} that publishes values from this {@code Generator}, generating them on
+     * {@code executor} as subscribers request them.
+     * <p>
+     * Each subscriber receives its own sequence, from a {@link Seed} split off {@code initialSeed}.
+     *
+     * @param generatorParameters the {@code GeneratorParameters}
+     * @param initialSeed         the initial {@code Seed}
+     * @param executor            the {@code Executor} on which to generate and deliver values
+     * @return a {@code GeneratorPublisher<A>}
+     * @see Generator#publisher(Seed, Executor)
+     */
+    default GeneratorPublisher<A> publisher(GeneratorParameters generatorParameters, Seed initialSeed,
+                                            Executor executor) {
+        return GeneratorPublisher.generatorPublisher(Optimizer.optimize(this).createGenerateFn(generatorParameters),
+                initialSeed, executor);
+    }
+
+    /**
+     * Creates a {@link GeneratorPublisher} that publishes values from this {@code Generator}, using the built-in
+     * default {@code GeneratorParameters}.
+     *
+     * @param initialSeed the initial {@code Seed}
+     * @param executor    the {@code Executor} on which to generate and deliver values
+     * @return a {@code GeneratorPublisher<A>}
+     * @see Generator#publisher(GeneratorParameters, Seed, Executor)
+     */
+    default GeneratorPublisher<A> publisher(Seed initialSeed, Executor executor) {
+        return publisher(defaultGeneratorParameters(), initialSeed, executor);
+    }
+
+    /**
+     * Generates a fixed number of values in parallel on a {@link ForkJoinPool}.
+     * <p>
+     * The work is divided by repeatedly {@link Seed#split() splitting} the initial {@code Seed}.  The way the work is
+     * divided depends only on {@code count}, so the result is the same no matter how many threads the pool has.
+     * (It will not, however, be the same as the first {@code count} values of {@link Generator#run(Seed)}.)
+     *
+     * @param generatorParameters the {@code GeneratorParameters}
+     * @param count               the number of values to generate; must be &gt;= 0
+     * @param initialSeed         the initial {@code Seed}
+     * @param pool                the {@code ForkJoinPool} to run on
+     * @return an {@code ImmutableVector<A>}
+     * @see Generator#runParallel(int, Seed)
+     */
+    default ImmutableVector<A> runParallel(GeneratorParameters generatorParameters, int count, Seed initialSeed,
+                                           ForkJoinPool pool) {
+        return Parallel.generateParallel(Optimizer.optimize(this).createGenerateFn(generatorParameters), count,
+                initialSeed, pool);
+    }
+
+    /**
+     * Generates a fixed number of values in parallel on the common {@link ForkJoinPool}, using the built-in default
+     * {@code GeneratorParameters}.
+     *
+     * @param count       the number of values to generate; must be &gt;= 0
+     * @param initialSeed the initial {@code Seed}
+     * @return an {@code ImmutableVector<A>}
+     * @see Generator#runParallel(GeneratorParameters, int, Seed, ForkJoinPool)
+     */
+    default ImmutableVector<A> runParallel(int count, Seed initialSeed) {
+        return runParallel(defaultGeneratorParameters(), count, initialSeed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@code Generator} that samples from a pool of values pre-generated by this one.
+     * <p>
+     * The pool holds {@code poolSize} values, and is generated once, the first time the new {@code Generator} is
+     * compiled with a given {@link GeneratorParameters}; thereafter, each value costs a single bounded draw.  Recently
+     * used pools are cached, so running the same pooled {@code Generator} again does not regenerate its pool.  The
+     * cache is static and holds up to 16 pools, which stay in memory until evicted.
+     * <p>
+     * Use this for expensive generators when a large number of values is needed, but their uniqueness is not.
+     * The pool is generated from a fixed {@link Seed}, so it is the same in every run.
+     *
+     * @param poolSize the number of values in the pool; must be &gt;= 1
+     * @return a {@code Generator<A>}
+     * @see Generator#pooled(int, Seed)
+     * @see Generator#pooled(int, Seed, Executor)
+     */
+    default Generator<A> pooled(int poolSize) {
+        return Pools.pooled(this, poolSize);
+    }
+
+    /**
+     * Creates a new {@code Generator} that samples from a pool of values pre-generated by this one, from
+     * {@code poolSeed}.
+     *
+     * @param poolSize the number of values in the pool; must be &gt;= 1
+     * @param poolSeed the {@code Seed} to generate the pool from
+     * @return a {@code Generator<A>}
+     * @see Generator#pooled(int)
+     */
+    default Generator<A> pooled(int poolSize, Seed poolSeed) {
+        return Pools.pooled(this, poolSize, poolSeed, nothing());
+    }
+
+    /**
+     * Creates a new {@code Generator} that samples from a pool of values pre-generated by this one, from
+     * {@code poolSeed}.  The pool is generated on {@code executor}, starting when the new {@code Generator} is
+     * compiled; drawing a value waits until the pool is ready.
+     *
+     * @param poolSize the number of values in the pool; must be &gt;= 1
+     * @param poolSeed the {@code Seed} to generate the pool from
+     * @param executor the {@code Executor} to generate the pool on
+     * @return a {@code Generator<A>}
+     * @see Generator#pooled(int)
+     */
+    default Generator<A> pooled(int poolSize, Seed poolSeed, Executor executor) {
+        return Pools.pooled(this, poolSize, poolSeed, Maybe.just(executor));
+    }
+
     /**
      * Creates a new {@code Generator} by mapping the output of this {@code Generator}.
+     * <p>
+     * If this {@code Generator} always yields the same value (e.g., it was created by {@link Generators#constant}),
+     * {@code fn} is applied only once, when the new {@code Generator} is first run, and every value it yields is that
+     * one result.
      *
      * @param fn  the mapping function
      * @param <B> the new output type
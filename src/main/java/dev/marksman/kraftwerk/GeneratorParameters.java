@@ -39,6 +39,35 @@ public interface GeneratorParameters {
      */
     GeneratorParameters withNoBias();
 
+    /**
+     * The maximum number of compiled inner {@link Generator}s that each {@link Generator#flatMap} retains, keyed by the
+     * identity of the {@code Generator} its function returned.  This only helps if the function returns the same
+     * {@code Generator} instances repeatedly, e.g. by choosing among a few prebuilt ones.  The built-in generators that
+     * choose a size first (e.g., {@link Generators#sized} and those taking a size range) instead key their cache by the
+     * size, so their inner {@code Generator}s are compiled once per distinct size.  If zero (the default), inner
+     * {@code Generator}s are compiled each time they are invoked.
+     *
+     * @return the cache size
+     */
+    default int getFlatMapCacheSize() {
+        return 0;
+    }
+
+    /**
+     * Creates a new {@code GeneratorParameters} that is the same as this one, but with the specified
+     * {@code flatMap} cache size.
+     *
+     * @param flatMapCacheSize the maximum number of compiled inner {@code Generator}s retained by each
+     *                         {@code flatMap}; must be &gt;= 0.  Zero disables caching.
+     * @return a {@code GeneratorParameters}
+     */
+    default GeneratorParameters withFlatMapCacheSize(int flatMapCacheSize) {
+        return StandardGeneratorParameters.defaultGeneratorParameters()
+                .withSizeParameters(getSizeParameters())
+                .withBiasSettings(getBiasSettings())
+                .withFlatMapCacheSize(flatMapCacheSize);
+    }
+
     /**
      * Creates a {@code GeneratorParameters} with default settings.
      *
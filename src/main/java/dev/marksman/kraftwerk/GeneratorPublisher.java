@@ -0,0 +1,198 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.core.MutableSeed.mutableSeed;
+
+/**
+ * A demand-driven publisher of the values of a {@link Generator}.
+ * <p>
+ * {@code GeneratorPublisher}, {@link Subscriber} and {@link Subscription} have the same methods as the
+ * corresponding types of Reactive Streams and {@code java.util.concurrent.Flow}, so adapting to either takes a few
+ * lines of delegation.
+ * <p>
+ * Each {@code Subscriber} receives its own infinite sequence, from a {@link Seed} obtained by
+ * {@link Seed#split() splitting} the initial {@code Seed} once per subscription.  Values are generated only in
+ * response to {@link Subscription#request(long)}, in batches, on the supplied {@link Executor}.  Signals to a single
+ * {@code Subscriber} are never concurrent.  The sequence never completes.
+ *
+ * @param <A> the element type
+ */
+public final class GeneratorPublisher<A> {
+    private static final int BATCH_SIZE = 256;
+
+    private final GenerateFn<A> generateFn;
+    private final Executor executor;
+    private final AtomicReference<Seed> nextParent;
+
+    private GeneratorPublisher(GenerateFn<A> generateFn, Seed initialSeed, Executor executor) {
+        this.generateFn = generateFn;
+        this.executor = executor;
+        this.nextParent = new AtomicReference<>(initialSeed);
+    }
+
+    static <A> GeneratorPublisher<A> generatorPublisher(GenerateFn<A> generateFn, Seed initialSeed,
+                                                        Executor executor) {
+        return new GeneratorPublisher<>(generateFn, initialSeed, executor);
+    }
+
+    /**
+     * Subscribes a {@link Subscriber}, which will receive a sequence of its own.
+     *
+     * @param subscriber the {@code Subscriber}
+     */
+    public void subscribe(Subscriber<? super A> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        Tuple2<Seed, Seed> children;
+        Seed parent;
+        do {
+            parent = nextParent.get();
+            children = parent.split();
+        } while (!nextParent.compareAndSet(parent, children._2()));
+        GeneratorSubscription<A> subscription = new GeneratorSubscription<>(generateFn, children._1(), executor,
+                subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Receives values from a {@link GeneratorPublisher}.
+     *
+     * @param <A> the element type
+     */
+    public interface Subscriber<A> {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(A value);
+
+        void onError(Throwable error);
+
+        void onComplete();
+    }
+
+    /**
+     * Controls the flow of values to a {@link Subscriber}.
+     */
+    public interface Subscription {
+        /**
+         * Requests {@code n} more values.
+         *
+         * @param n the number of values; must be &gt; 0
+         */
+        void request(long n);
+
+        /**
+         * Stops the flow of values.  Some values may still be delivered after this is called.
+         */
+        void cancel();
+    }
+
+    private static final class GeneratorSubscription<A> implements Subscription {
+        private final GenerateFn<A> generateFn;
+        private final MutableSeed cursor;
+        private final Executor executor;
+        private final Subscriber<? super A> subscriber;
+        private final AtomicLong demand;
+        private final AtomicInteger pending;
+        private final AtomicBoolean cancelled;
+        private final Object[] batch;
+        private volatile Throwable pendingError;
+
+        private GeneratorSubscription(GenerateFn<A> generateFn, Seed seed, Executor executor,
+                                      Subscriber<? super A> subscriber) {
+            this.generateFn = generateFn;
+            this.cursor = mutableSeed(seed);
+            this.executor = executor;
+            this.subscriber = subscriber;
+            this.demand = new AtomicLong();
+            this.pending = new AtomicInteger();
+            this.cancelled = new AtomicBoolean();
+            this.batch = new Object[BATCH_SIZE];
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled.get()) {
+                return;
+            }
+            if (n <= 0) {
+                // signalled from the drain loop, so that it cannot overlap with onNext
+                if (pendingError == null) {
+                    pendingError = new IllegalArgumentException("request must be > 0");
+                }
+            } else {
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.set(true);
+        }
+
+        private void schedule() {
+            // only the caller that moves pending off zero starts a drain, so signals are never concurrent
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            int missed = 1;
+            do {
+                Throwable error = pendingError;
+                if (error != null) {
+                    terminate(error);
+                    return;
+                }
+                long requested = demand.get();
+                long emitted = 0;
+                while (emitted < requested && !cancelled.get()) {
+                    int count = (int) Math.min(BATCH_SIZE, requested - emitted);
+                    try {
+                        for (int i = 0; i < count; i++) {
+                            batch[i] = runWithCursor(generateFn, cursor);
+                        }
+                    } catch (Throwable t) {
+                        terminate(t);
+                        return;
+                    }
+                    try {
+                        for (int i = 0; i < count && !cancelled.get(); i++) {
+                            subscriber.onNext((A) batch[i]);
+                            batch[i] = null;
+                        }
+                    } catch (Throwable t) {
+                        // a Subscriber that throws from onNext is treated as having cancelled
+                        cancelled.set(true);
+                        pending.set(0);
+                        return;
+                    }
+                    emitted += count;
+                }
+                if (emitted > 0 && requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void terminate(Throwable error) {
+            if (cancelled.compareAndSet(false, true)) {
+                subscriber.onError(error);
+            }
+            pending.set(0);
+        }
+    }
+}
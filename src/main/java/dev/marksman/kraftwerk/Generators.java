@@ -51,6 +51,13 @@ import dev.marksman.kraftwerk.constraints.LocalDateTimeRange;
 import dev.marksman.kraftwerk.constraints.LocalTimeRange;
 import dev.marksman.kraftwerk.constraints.LongRange;
 import dev.marksman.kraftwerk.constraints.ShortRange;
+import dev.marksman.kraftwerk.distributions.BinomialParameters;
+import dev.marksman.kraftwerk.distributions.ExponentialParameters;
+import dev.marksman.kraftwerk.distributions.GammaParameters;
+import dev.marksman.kraftwerk.distributions.LogNormalParameters;
+import dev.marksman.kraftwerk.distributions.ParetoParameters;
+import dev.marksman.kraftwerk.distributions.PoissonParameters;
+import dev.marksman.kraftwerk.distributions.ZipfParameters;
 import dev.marksman.kraftwerk.frequency.FrequencyMap;
 import dev.marksman.kraftwerk.weights.BooleanWeights;
 import dev.marksman.kraftwerk.weights.EitherWeights;
@@ -73,8 +80,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-import static dev.marksman.kraftwerk.Collections.generateCollectionSize;
+import static dev.marksman.kraftwerk.Collections.withCollectionSize;
 
 /**
  * A collection of built-in generators
@@ -177,9 +185,9 @@ public final class Generators {
      * Creates a {@link Generator} that yields {@link Integer}s within the full range of {@code Integer}s
      * (between {@link Integer#MIN_VALUE} and {@link Integer#MAX_VALUE}, inclusive).
      *
-     * @return a {@code Generator<Integer>}
+     * @return a {@code IntGenerator}
      */
-    public static Generator<Integer> generateInt() {
+    public static IntGenerator generateInt() {
         return Primitives.generateInt();
     }
 
@@ -187,9 +195,9 @@ public final class Generators {
      * Creates a {@link Generator} that yields {@link Integer}s within a specific range.
      *
      * @param range the {@link IntRange} of values to generate
-     * @return a {@code Generator<Integer>}
+     * @return a {@code IntGenerator}
      */
-    public static Generator<Integer> generateInt(IntRange range) {
+    public static IntGenerator generateInt(IntRange range) {
         return Primitives.generateInt(range);
     }
 
@@ -198,9 +206,9 @@ public final class Generators {
      * Values returned range from 0..{@code bound} (exclusive). Ignores any bias settings.
      *
      * @param bound the maximum value (exclusive)
-     * @return a {@code Generator<Integer>}
+     * @return a {@code IntGenerator}
      */
-    public static Generator<Integer> generateIntIndex(int bound) {
+    public static IntGenerator generateIntIndex(int bound) {
         return Primitives.generateIntIndex(bound);
     }
 
@@ -208,9 +216,9 @@ public final class Generators {
      * Creates a {@link Generator} that yields {@link Long}s within the full range of {@code Long}s
      * (between {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE}, inclusive).
      *
-     * @return a {@code Generator<Long>}
+     * @return a {@code LongGenerator}
      */
-    public static Generator<Long> generateLong() {
+    public static LongGenerator generateLong() {
         return Primitives.generateLong();
     }
 
@@ -218,9 +226,9 @@ public final class Generators {
      * Creates a {@link Generator} that yields {@link Long}s within a specific range.
      *
      * @param range the {@link LongRange} of values to generate
-     * @return a {@code Generator<Long>}
+     * @return a {@code LongGenerator}
      */
-    public static Generator<Long> generateLong(LongRange range) {
+    public static LongGenerator generateLong(LongRange range) {
         return Primitives.generateLong(range);
     }
 
@@ -229,9 +237,9 @@ public final class Generators {
      * Values returned range from 0..{@code bound} (exclusive). Ignores any bias settings.
      *
      * @param bound the maximum value (exclusive)
-     * @return a {@code Generator<Long>}
+     * @return a {@code LongGenerator}
      */
-    public static Generator<Long> generateLongIndex(long bound) {
+    public static LongGenerator generateLongIndex(long bound) {
         return Primitives.generateLongIndex(bound);
     }
 
@@ -373,13 +381,97 @@ public final class Generators {
     /**
      * Creates a {@link Generator} that yields {@link Double}s, which, when accumulated, will result in
      * normal distribution.
+     * <p>
+     * Values are sampled from the standard normal distribution (mean 0, standard deviation 1) using the
+     * Ziggurat method.
      *
-     * @return a {@code Generator<Double>}
+     * @return a {@code DoubleGenerator}
      */
-    public static Generator<Double> generateGaussian() {
+    public static DoubleGenerator generateGaussian() {
         return Primitives.generateGaussian();
     }
 
+    /**
+     * Creates a {@link Generator} that samples an exponential distribution.
+     *
+     * @param parameters the parameters of the distribution
+     * @return a {@code DoubleGenerator}
+     */
+    public static DoubleGenerator generateExponential(ExponentialParameters parameters) {
+        return StatisticalDistributions.generateExponential(parameters);
+    }
+
+    /**
+     * Creates a {@link Generator} that samples a gamma distribution.
+     * <p>
+     * Uses the method of Marsaglia and Tsang.
+     *
+     * @param parameters the parameters of the distribution
+     * @return a {@code DoubleGenerator}
+     */
+    public static DoubleGenerator generateGamma(GammaParameters parameters) {
+        return StatisticalDistributions.generateGamma(parameters);
+    }
+
+    /**
+     * Creates a {@link Generator} that samples a Poisson distribution.
+     * <p>
+     * For means of 10 or more, uses transformed rejection (PTRS), which takes constant expected time.
+     *
+     * @param parameters the parameters of the distribution
+     * @return a {@code LongGenerator}
+     */
+    public static LongGenerator generatePoisson(PoissonParameters parameters) {
+        return StatisticalDistributions.generatePoisson(parameters);
+    }
+
+    /**
+     * Creates a {@link Generator} that samples a binomial distribution.
+     * <p>
+     * When the expected number of the less likely outcome is 30 or more, uses the BTPE algorithm, which takes
+     * constant expected time.
+     *
+     * @param parameters the parameters of the distribution
+     * @return a {@code IntGenerator}
+     */
+    public static IntGenerator generateBinomial(BinomialParameters parameters) {
+        return StatisticalDistributions.generateBinomial(parameters);
+    }
+
+    /**
+     * Creates a {@link Generator} that samples a log-normal distribution.
+     *
+     * @param parameters the parameters of the distribution
+     * @return a {@code DoubleGenerator}
+     */
+    public static DoubleGenerator generateLogNormal(LogNormalParameters parameters) {
+        return StatisticalDistributions.generateLogNormal(parameters);
+    }
+
+    /**
+     * Creates a {@link Generator} that samples a Pareto distribution.
+     *
+     * @param parameters the parameters of the distribution
+     * @return a {@code DoubleGenerator}
+     */
+    public static DoubleGenerator generatePareto(ParetoParameters parameters) {
+        return StatisticalDistributions.generatePareto(parameters);
+    }
+
+    /**
+     * Creates a {@link Generator} that samples a Zipf distribution, yielding ranks from 1 through
+     * {@code parameters.getElementCount()}, where rank 1 is the most likely.
+     * <p>
+     * Uses rejection-inversion, which takes constant time and space regardless of the number of elements,
+     * so is suitable for domains of billions of elements.
+     *
+     * @param parameters the parameters of the distribution
+     * @return a {@code LongGenerator}
+     */
+    public static LongGenerator generateZipf(ZipfParameters parameters) {
+        return StatisticalDistributions.generateZipf(parameters);
+    }
+
     /**
      * Creates a {@link Generator} that yields {@link Byte} arrays of varying sizes.
      *
@@ -399,6 +491,173 @@ public final class Generators {
         return Primitives.generateByteArray(size);
     }
 
+    /**
+     * Creates a {@link Generator} that yields {@code byte[]}s of various sizes.  Unlike {@link #generateByteArray()},
+     * the bytes are not boxed.
+     *
+     * @return a {@code Generator<byte[]>}
+     */
+    public static Generator<byte[]> generateBytes() {
+        return PrimitiveArrays.generateBytes();
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code byte[]}s of a specific size.  Unlike
+     * {@link #generateByteArray(int)}, the bytes are not boxed.
+     *
+     * @param size the size of the arrays returned; must be &gt;= 0
+     * @return a {@code Generator<byte[]>}
+     */
+    public static Generator<byte[]> generateBytesOfSize(int size) {
+        return PrimitiveArrays.generateBytesOfSize(size);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code byte[]}s of various sizes, within a specific range.
+     *
+     * @param sizeRange the size range of the arrays returned
+     * @return a {@code Generator<byte[]>}
+     */
+    public static Generator<byte[]> generateBytesOfSize(IntRange sizeRange) {
+        return PrimitiveArrays.generateBytesOfSize(sizeRange);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code int[]}s of various sizes.
+     * <p>
+     * To constrain the range of the elements, pass a ranged generator, e.g. {@code generateInt(IntRange.from(0).to(99))}.
+     *
+     * @param elements the generator for elements
+     * @return a {@code Generator<int[]>}
+     */
+    public static Generator<int[]> generateIntArray(IntGenerator elements) {
+        return PrimitiveArrays.generateIntArray(elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code int[]}s of a specific size.
+     *
+     * @param size     the size of the arrays returned; must be &gt;= 0
+     * @param elements the generator for elements
+     * @return a {@code Generator<int[]>}
+     */
+    public static Generator<int[]> generateIntArrayOfSize(int size, IntGenerator elements) {
+        return PrimitiveArrays.generateIntArrayOfSize(size, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code int[]}s of various sizes, within a specific range.
+     *
+     * @param sizeRange the size range of the arrays returned
+     * @param elements  the generator for elements
+     * @return a {@code Generator<int[]>}
+     */
+    public static Generator<int[]> generateIntArrayOfSize(IntRange sizeRange, IntGenerator elements) {
+        return PrimitiveArrays.generateIntArrayOfSize(sizeRange, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code long[]}s of various sizes.
+     * <p>
+     * To constrain the range of the elements, pass a ranged generator, e.g. {@code generateLong(LongRange.from(0).to(99))}.
+     *
+     * @param elements the generator for elements
+     * @return a {@code Generator<long[]>}
+     */
+    public static Generator<long[]> generateLongArray(LongGenerator elements) {
+        return PrimitiveArrays.generateLongArray(elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code long[]}s of a specific size.
+     *
+     * @param size     the size of the arrays returned; must be &gt;= 0
+     * @param elements the generator for elements
+     * @return a {@code Generator<long[]>}
+     */
+    public static Generator<long[]> generateLongArrayOfSize(int size, LongGenerator elements) {
+        return PrimitiveArrays.generateLongArrayOfSize(size, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code long[]}s of various sizes, within a specific range.
+     *
+     * @param sizeRange the size range of the arrays returned
+     * @param elements  the generator for elements
+     * @return a {@code Generator<long[]>}
+     */
+    public static Generator<long[]> generateLongArrayOfSize(IntRange sizeRange, LongGenerator elements) {
+        return PrimitiveArrays.generateLongArrayOfSize(sizeRange, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code double[]}s of various sizes.
+     * <p>
+     * To constrain the range of the elements, pass a ranged generator, e.g. {@code generateDouble(DoubleRange.from(0).to(1))}.
+     *
+     * @param elements the generator for elements
+     * @return a {@code Generator<double[]>}
+     */
+    public static Generator<double[]> generateDoubleArray(Generator<Double> elements) {
+        return PrimitiveArrays.generateDoubleArray(elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code double[]}s of a specific size.
+     *
+     * @param size     the size of the arrays returned; must be &gt;= 0
+     * @param elements the generator for elements
+     * @return a {@code Generator<double[]>}
+     */
+    public static Generator<double[]> generateDoubleArrayOfSize(int size, Generator<Double> elements) {
+        return PrimitiveArrays.generateDoubleArrayOfSize(size, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code double[]}s of various sizes, within a specific range.
+     *
+     * @param sizeRange the size range of the arrays returned
+     * @param elements  the generator for elements
+     * @return a {@code Generator<double[]>}
+     */
+    public static Generator<double[]> generateDoubleArrayOfSize(IntRange sizeRange, Generator<Double> elements) {
+        return PrimitiveArrays.generateDoubleArrayOfSize(sizeRange, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code float[]}s of various sizes.
+     * <p>
+     * To constrain the range of the elements, pass a ranged generator, e.g. {@code generateFloat(FloatRange.from(0).to(1))}.
+     *
+     * @param elements the generator for elements
+     * @return a {@code Generator<float[]>}
+     */
+    public static Generator<float[]> generateFloatArray(Generator<Float> elements) {
+        return PrimitiveArrays.generateFloatArray(elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code float[]}s of a specific size.
+     *
+     * @param size     the size of the arrays returned; must be &gt;= 0
+     * @param elements the generator for elements
+     * @return a {@code Generator<float[]>}
+     */
+    public static Generator<float[]> generateFloatArrayOfSize(int size, Generator<Float> elements) {
+        return PrimitiveArrays.generateFloatArrayOfSize(size, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@code float[]}s of various sizes, within a specific range.
+     *
+     * @param sizeRange the size range of the arrays returned
+     * @param elements  the generator for elements
+     * @return a {@code Generator<float[]>}
+     */
+    public static Generator<float[]> generateFloatArrayOfSize(IntRange sizeRange, Generator<Float> elements) {
+        return PrimitiveArrays.generateFloatArrayOfSize(sizeRange, elements);
+    }
+
     /**
      * Creates a {@link Generator} that yields boxed primitives.  When invoked, will return one of the following types:
      * {@link Integer}, {@link Long}, {@link Short}, {@link Byte}, {@link Double}, {@link Float}, {@link Boolean}, or {@link Character}.
@@ -442,6 +701,8 @@ public final class Generators {
      * Creates a {@link Generator} that dynamically creates another {@code Generator} depending on a randomly
      * generated size value.
      * Respects the size settings in the {@link GeneratorParameters} used to configure the generator.
+     * If {@link GeneratorParameters#getFlatMapCacheSize} is non-zero, {@code fn} may be applied only once per distinct
+     * size, so it should not have side effects.
      *
      * @param fn  a function that takes a size (an {@link Integer} &gt;= 0) and returns a {@code Generator}
      * @param <A> the type of value to generate
@@ -521,7 +782,7 @@ public final class Generators {
                                                              IntRange sizeRange,
                                                              Generator<A> gen) {
         Preconditions.requireNaturalSize(sizeRange);
-        return generateCollectionSize(sizeRange).flatMap(size -> aggregate(aggregator, size, gen));
+        return withCollectionSize(sizeRange, size -> aggregate(aggregator, size, gen));
     }
 
     /**
@@ -1744,6 +2005,22 @@ public final class Generators {
         return Choose.chooseOneValueFromDomain(domain);
     }
 
+    /**
+     * Creates a {@link Generator} that, when invoked, chooses a value from a custom domain, following a
+     * Zipf distribution in which the first element is the most likely.
+     * <p>
+     * The probability of the element at index {@code i} is proportional to 1 / (i + 1)<sup>exponent</sup>.
+     * No per-element tables are built, so this is suitable for very large domains.
+     *
+     * @param exponent the exponent; must be &gt; 0 and finite
+     * @param domain   the collection of candidates values, from most likely to least likely
+     * @param <A>      the output type
+     * @return a {@code Generator<A>}
+     */
+    public static <A> Generator<A> chooseOneValueFromDomainZipf(double exponent, NonEmptyVector<A> domain) {
+        return Choose.chooseOneValueFromDomainZipf(exponent, domain);
+    }
+
     /**
      * Creates a {@link Generator} that, when invoked, chooses one or more values from a collection and returns
      * a collection of the values chosen.
@@ -1886,7 +2163,9 @@ public final class Generators {
     }
 
     /**
-     * Creates a {@link Generator} that yields {@link HashSet}s of various sizes.
+     * Creates a {@link Generator} that yields {@link HashSet}s of various sizes.  Duplicate elements are discarded, so a
+     * {@code HashSet} may be smaller than the size chosen for it; use {@link #generateHashSetOfSize(int, Generator)} for
+     * an exact size.
      *
      * @param elements the generator for elements
      * @param <A>      the element type
@@ -1907,6 +2186,64 @@ public final class Generators {
         return Collections.generateNonEmptyHashSet(elements);
     }
 
+    /**
+     * Creates a {@link Generator} that yields {@link HashSet}s of exactly a specific size.
+     * <p>
+     * Values are drawn from {@code elements} until enough distinct values have been seen.  If {@code elements} yields
+     * too many duplicates in a row, generation fails with an {@link IllegalStateException}, so {@code elements} should
+     * have comfortably more than {@code size} distinct values.  For sets of integers, prefer
+     * {@link #generateDistinctInts(int, IntRange)} or {@link #generateDistinctLongs(int, LongRange)}, which never retry.
+     *
+     * @param size     the size of the {@code HashSet}s returned; must be &gt;= 0
+     * @param elements the generator for elements
+     * @param <A>      the element type
+     * @return a {@code Generator<HashSet<A>>}
+     */
+    public static <A> Generator<HashSet<A>> generateHashSetOfSize(int size, Generator<A> elements) {
+        return Distinct.generateHashSetOfSize(size, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@link HashSet}s of various sizes, within a specific range.
+     * Each {@code HashSet} has exactly the size chosen for it; see {@link #generateHashSetOfSize(int, Generator)}.
+     *
+     * @param sizeRange the size range of the {@code HashSet}s returned
+     * @param elements  the generator for elements
+     * @param <A>       the element type
+     * @return a {@code Generator<HashSet<A>>}
+     */
+    public static <A> Generator<HashSet<A>> generateHashSetOfSize(IntRange sizeRange, Generator<A> elements) {
+        return Distinct.generateHashSetOfSize(sizeRange, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields sets of exactly {@code size} distinct {@code int}s, chosen uniformly from
+     * {@code range}.
+     * <p>
+     * Uses Floyd's sampling algorithm, which makes one draw per element, however much of the range is chosen.
+     *
+     * @param size  the size of the sets returned; must be &gt;= 0 and no greater than the size of {@code range}
+     * @param range the range of the elements
+     * @return a {@code Generator<HashSet<Integer>>}
+     */
+    public static Generator<HashSet<Integer>> generateDistinctInts(int size, IntRange range) {
+        return Distinct.generateDistinctInts(size, range);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields sets of exactly {@code size} distinct {@code long}s, chosen uniformly
+     * from {@code range}.
+     * <p>
+     * Uses Floyd's sampling algorithm, which makes one draw per element, however much of the range is chosen.
+     *
+     * @param size  the size of the sets returned; must be &gt;= 0 and no greater than the size of {@code range}
+     * @param range the range of the elements
+     * @return a {@code Generator<HashSet<Long>>}
+     */
+    public static Generator<HashSet<Long>> generateDistinctLongs(int size, LongRange range) {
+        return Distinct.generateDistinctLongs(size, range);
+    }
+
     /**
      * Creates a {@link Generator} that yields {@link ImmutableVector}s of various sizes.
      *
@@ -1977,6 +2314,64 @@ public final class Generators {
         return Collections.generateNonEmptyVectorOfSize(sizeRange, elements);
     }
 
+    /**
+     * Creates a {@link Generator} that yields lazy {@link ImmutableVector}s of various sizes.
+     * <p>
+     * The elements of a lazy vector are not generated up front; each is generated when it is accessed, from a
+     * {@link Seed} derived from the vector's own {@code Seed} and the element's index.  So a lazy vector takes constant
+     * memory regardless of its size, each element can be accessed in constant time, and an element is the same each
+     * time it is accessed.  Unlike {@link #generateVector(Generator)}, the elements do not depend on one another's
+     * position in a sequence of draws, so the two yield different vectors for the same {@code Seed}.
+     *
+     * @param elements the generator for elements
+     * @param <A>      the element type
+     * @return a {@code Generator<ImmutableVector<A>>}
+     */
+    public static <A> Generator<ImmutableVector<A>> generateLazyVector(Generator<A> elements) {
+        return LazyVectors.generateLazyVector(elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields lazy {@link ImmutableVector}s of a specific size.
+     * See {@link #generateLazyVector(Generator)}.
+     *
+     * @param size     the size of the {@code ImmutableVector}s returned; must be &gt;= 0
+     * @param elements the generator for elements
+     * @param <A>      the element type
+     * @return a {@code Generator<ImmutableVector<A>>}
+     */
+    public static <A> Generator<ImmutableVector<A>> generateLazyVectorOfSize(int size, Generator<A> elements) {
+        return LazyVectors.generateLazyVectorOfSize(size, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields lazy {@link ImmutableVector}s of various sizes, within a specific range.
+     * See {@link #generateLazyVector(Generator)}.
+     *
+     * @param sizeRange the size range of the {@code ImmutableVector}s returned
+     * @param elements  the generator for elements
+     * @param <A>       the element type
+     * @return a {@code Generator<ImmutableVector<A>>}
+     */
+    public static <A> Generator<ImmutableVector<A>> generateLazyVectorOfSize(IntRange sizeRange, Generator<A> elements) {
+        return LazyVectors.generateLazyVectorOfSize(sizeRange, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields lazy {@link ImmutableVector}s of a specific size, each of which retains
+     * up to {@code cacheSize} of its elements once they have been generated.  See {@link #generateLazyVector(Generator)}.
+     *
+     * @param size      the size of the {@code ImmutableVector}s returned; must be &gt;= 0
+     * @param cacheSize the maximum number of elements each vector retains; must be &gt;= 0
+     * @param elements  the generator for elements
+     * @param <A>       the element type
+     * @return a {@code Generator<ImmutableVector<A>>}
+     */
+    public static <A> Generator<ImmutableVector<A>> generateLazyVectorOfSize(int size, int cacheSize,
+                                                                             Generator<A> elements) {
+        return LazyVectors.generateLazyVectorOfSize(size, cacheSize, elements);
+    }
+
     /**
      * Creates a {@link Generator} that yields {@link Map}s of various sizes.
      *
@@ -2033,6 +2428,43 @@ public final class Generators {
         return Collections.generateNonEmptyMap(generateKey, generateValue);
     }
 
+    /**
+     * Creates a {@link Generator} that yields {@link Map}s with exactly a specific number of entries.
+     * <p>
+     * Keys are drawn from {@code generateKey} until enough distinct keys have been seen; see
+     * {@link #generateHashSetOfSize(int, Generator)}.
+     *
+     * @param size          the number of entries in the {@code Map}s returned; must be &gt;= 0
+     * @param generateKey   the generator for keys
+     * @param generateValue the generator for values
+     * @param <K>           the key type
+     * @param <V>           the value type
+     * @return a {@code Generator<Map<K, V>>}
+     */
+    public static <K, V> Generator<Map<K, V>> generateMapOfSize(int size,
+                                                                Generator<K> generateKey,
+                                                                Generator<V> generateValue) {
+        return Distinct.generateMapOfSize(size, generateKey, generateValue);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields {@link Map}s with a number of entries within a specific range.
+     * Each {@code Map} has exactly the number of entries chosen for it; see
+     * {@link #generateMapOfSize(int, Generator, Generator)}.
+     *
+     * @param sizeRange     the range of the number of entries in the {@code Map}s returned
+     * @param generateKey   the generator for keys
+     * @param generateValue the generator for values
+     * @param <K>           the key type
+     * @param <V>           the value type
+     * @return a {@code Generator<Map<K, V>>}
+     */
+    public static <K, V> Generator<Map<K, V>> generateMapOfSize(IntRange sizeRange,
+                                                                Generator<K> generateKey,
+                                                                Generator<V> generateValue) {
+        return Distinct.generateMapOfSize(sizeRange, generateKey, generateValue);
+    }
+
     /**
      * Creates a {@link Generator} that yields infinite {@link Iterable}s.
      *
@@ -2044,6 +2476,51 @@ public final class Generators {
         return Infinite.generateInfiniteIterable(elements);
     }
 
+    /**
+     * Creates a {@link Generator} that yields finite {@link Stream}s of various sizes, whose elements are generated
+     * only as the {@code Stream} is consumed, so that arbitrarily large sequences need not be held in memory.
+     * <p>
+     * If {@code elements} makes a fixed number of draws per value (as the built-in primitive generators do), each
+     * {@code Stream} yields the same elements as the corresponding fixed-size collection generator, and leaves the
+     * {@link Seed} in the same state, found by jumping ahead rather than by consuming the {@code Stream}.  Otherwise,
+     * the {@code Stream} draws from a {@code Seed} split off the current one.
+     * <p>
+     * Each {@code Stream} can be consumed once, and can be consumed in parallel without changing its elements.
+     *
+     * @param elements the generator for elements
+     * @param <A>      the element type
+     * @return a {@code Generator<Stream<A>>}
+     */
+    public static <A> Generator<Stream<A>> generateStream(Generator<A> elements) {
+        return Streaming.generateStream(elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields finite {@link Stream}s of a specific size, whose elements are generated
+     * only as the {@code Stream} is consumed.  See {@link #generateStream(Generator)}.
+     *
+     * @param size     the number of elements in the {@code Stream}s returned; must be &gt;= 0
+     * @param elements the generator for elements
+     * @param <A>      the element type
+     * @return a {@code Generator<Stream<A>>}
+     */
+    public static <A> Generator<Stream<A>> generateStreamOfSize(int size, Generator<A> elements) {
+        return Streaming.generateStreamOfSize(size, elements);
+    }
+
+    /**
+     * Creates a {@link Generator} that yields finite {@link Stream}s of various sizes, within a specific range, whose
+     * elements are generated only as the {@code Stream} is consumed.  See {@link #generateStream(Generator)}.
+     *
+     * @param sizeRange the size range of the {@code Stream}s returned
+     * @param elements  the generator for elements
+     * @param <A>       the element type
+     * @return a {@code Generator<Stream<A>>}
+     */
+    public static <A> Generator<Stream<A>> generateStreamOfSize(IntRange sizeRange, Generator<A> elements) {
+        return Streaming.generateStreamOfSize(sizeRange, elements);
+    }
+
     /**
      * Creates a {@link Generator} that yields {@link Vector}s that contain the integers from {@code 0}..{@code count-1}
      * in random order.
@@ -12,7 +12,7 @@ final class Infinite {
     static <A> Generator<ValueSupply<A>> generateInfiniteIterable(Generator<A> gen) {
         return tap(gen, (g1, input) -> {
             Result<Seed, Long> initialState = BuildingBlocks.nextLong(input);
-            return valueSupply(g1, Seed.create(initialState._2()));
+            return valueSupply(g1, BuildingBlocks.reseed(initialState._2(), input));
         });
     }
 }
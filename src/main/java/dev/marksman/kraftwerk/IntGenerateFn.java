@@ -0,0 +1,36 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+
+/**
+ * A {@link CursorGenerateFn} that can produce {@code int}s without boxing.
+ */
+@FunctionalInterface
+interface IntGenerateFn extends CursorGenerateFn<Integer> {
+
+    int generateInt(MutableSeed cursor);
+
+    @Override
+    default Integer generate(MutableSeed cursor) {
+        return generateInt(cursor);
+    }
+
+    static IntGenerateFn intGenerateFn(IntGenerateFn fn) {
+        return fn;
+    }
+
+    /**
+     * Returns the unboxed form of {@code generateFn}, looking through any {@link DrawCount}.  If {@code generateFn}
+     * has no unboxed form, bridges through boxed values.
+     */
+    static IntGenerateFn unboxedInt(Fn1<Seed, ? extends Result<? extends Seed, Integer>> generateFn) {
+        Fn1<?, ?> inner = DrawCount.uncounted(generateFn);
+        if (inner instanceof IntGenerateFn) {
+            return (IntGenerateFn) inner;
+        }
+        return cursor -> runWithCursor(generateFn, cursor);
+    }
+}
@@ -0,0 +1,164 @@
+package dev.marksman.kraftwerk;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import static dev.marksman.kraftwerk.StandardGeneratorParameters.defaultGeneratorParameters;
+
+/**
+ * A {@link Generator} of {@code int}s that can produce its values without boxing.
+ * <p>
+ * An {@code IntGenerator} is a {@code Generator<Integer>}, and can be used anywhere one is expected.  The primitive
+ * mapping methods, and the iterators returned by {@link IntGenerator#runInts}, do not box intermediate values.
+ */
+public interface IntGenerator extends Generator<Integer> {
+
+    /**
+     * Creates a new {@code IntGenerator} that applies a function to the output of this one, without boxing.
+     *
+     * @param fn the function
+     * @return a {@code IntGenerator}
+     */
+    default IntGenerator mapInt(IntUnaryOperator fn) {
+        return PrimitiveGenerators.mapInt(fn, this);
+    }
+
+    /**
+     * Creates a new {@link LongGenerator} that applies a function to the output of this one, without boxing.
+     *
+     * @param fn the function
+     * @return a {@code LongGenerator}
+     */
+    default LongGenerator mapToLong(IntToLongFunction fn) {
+        return PrimitiveGenerators.mapIntToLong(fn, this);
+    }
+
+    /**
+     * Creates a new {@link DoubleGenerator} that applies a function to the output of this one, without boxing.
+     *
+     * @param fn the function
+     * @return a {@code DoubleGenerator}
+     */
+    default DoubleGenerator mapToDouble(IntToDoubleFunction fn) {
+        return PrimitiveGenerators.mapIntToDouble(fn, this);
+    }
+
+    /**
+     * Runs this {@code IntGenerator}, returning an infinite iterator of unboxed values.  The values are the
+     * same as those of {@link Generator#run(GeneratorParameters, Seed)}.
+     * <p>
+     * The iterator is not thread-safe.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param initialSeed         the initial {@link Seed}
+     * @return a {@code PrimitiveIterator.OfInt}
+     */
+    default PrimitiveIterator.OfInt runInts(GeneratorParameters generatorParameters, Seed initialSeed) {
+        return PrimitiveGenerators.intIterator(createGenerateFn(generatorParameters), initialSeed);
+    }
+
+    /**
+     * Runs this {@code IntGenerator} with the default {@link GeneratorParameters}, returning an infinite
+     * iterator of unboxed values.
+     *
+     * @param initialSeed the initial {@link Seed}
+     * @return a {@code PrimitiveIterator.OfInt}
+     */
+    default PrimitiveIterator.OfInt runInts(Seed initialSeed) {
+        return runInts(defaultGeneratorParameters(), initialSeed);
+    }
+
+    /**
+     * Generates a fixed number of unboxed values in a single pass, returning them along with the {@link Seed} that
+     * follows the last one.  The values are the first {@code count} values of {@link IntGenerator#runInts}.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param count               the number of values to generate; must be &gt;= 0
+     * @param initialSeed         the initial {@link Seed}
+     * @return a {@code Result} containing the final {@code Seed} and a {@code int[]}
+     */
+    default Result<Seed, int[]> runIntBatch(GeneratorParameters generatorParameters, int count, Seed initialSeed) {
+        return Batches.generateIntBatch(createGenerateFn(generatorParameters), count, initialSeed);
+    }
+
+    /**
+     * Generates a fixed number of unboxed values in a single pass, using the default {@link GeneratorParameters}.
+     *
+     * @param count       the number of values to generate; must be &gt;= 0
+     * @param initialSeed the initial {@link Seed}
+     * @return a {@code Result} containing the final {@code Seed} and a {@code int[]}
+     */
+    default Result<Seed, int[]> runIntBatch(int count, Seed initialSeed) {
+        return runIntBatch(defaultGeneratorParameters(), count, initialSeed);
+    }
+
+    /**
+     * Fills {@code dest} with the first {@code dest.length} values of {@link IntGenerator#runInts}.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param dest                the array to fill
+     * @param initialSeed         the initial {@link Seed}
+     * @return the {@code Seed} that follows the last value
+     */
+    default Seed fillInts(GeneratorParameters generatorParameters, int[] dest, Seed initialSeed) {
+        return Batches.fillInts(createGenerateFn(generatorParameters), dest, 0, dest.length, initialSeed);
+    }
+
+    /**
+     * Fills {@code dest} with values, using the default {@link GeneratorParameters}.
+     *
+     * @param dest        the array to fill
+     * @param initialSeed the initial {@link Seed}
+     * @return the {@code Seed} that follows the last value
+     */
+    default Seed fillInts(int[] dest, Seed initialSeed) {
+        return fillInts(defaultGeneratorParameters(), dest, initialSeed);
+    }
+
+    /**
+     * Runs this {@code IntGenerator}, returning an infinite, sequential {@link IntStream} of the same values as
+     * {@link IntGenerator#runInts}.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param initialSeed         the initial {@link Seed}
+     * @return a {@code IntStream}
+     */
+    default IntStream streamInts(GeneratorParameters generatorParameters, Seed initialSeed) {
+        return Batches.intStream(createGenerateFn(generatorParameters), initialSeed);
+    }
+
+    /**
+     * Runs this {@code IntGenerator} with the default {@link GeneratorParameters}, returning an infinite,
+     * sequential {@link IntStream}.
+     *
+     * @param initialSeed the initial {@link Seed}
+     * @return a {@code IntStream}
+     */
+    default IntStream streamInts(Seed initialSeed) {
+        return streamInts(defaultGeneratorParameters(), initialSeed);
+    }
+
+    @Override
+    default IntGenerator labeled(String label) {
+        return PrimitiveGenerators.toIntGenerator(Generator.super.labeled(label));
+    }
+
+    @Override
+    default IntGenerator attachApplicationData(Object applicationData) {
+        return PrimitiveGenerators.toIntGenerator(Generator.super.attachApplicationData(applicationData));
+    }
+
+    /**
+     * Converts a {@code Generator<Integer>} to a {@code IntGenerator}.  If {@code generator} is already
+     * a {@code IntGenerator}, it is returned as is.
+     *
+     * @param generator the {@code Generator}
+     * @return a {@code IntGenerator}
+     */
+    static IntGenerator intGenerator(Generator<Integer> generator) {
+        return PrimitiveGenerators.toIntGenerator(generator);
+    }
+}
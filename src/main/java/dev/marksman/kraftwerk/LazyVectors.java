@@ -0,0 +1,96 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.functions.Fn1;
+import dev.marksman.collectionviews.ImmutableVector;
+import dev.marksman.collectionviews.Vector;
+import dev.marksman.kraftwerk.constraints.IntRange;
+import dev.marksman.kraftwerk.core.BuildingBlocks;
+
+import static dev.marksman.kraftwerk.Collections.withCollectionSize;
+import static dev.marksman.kraftwerk.CompiledCache.compiledCache;
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.DrawCount.ONE_WIDE;
+import static dev.marksman.kraftwerk.DrawCount.withDrawCount;
+import static dev.marksman.kraftwerk.Result.result;
+import static dev.marksman.kraftwerk.core.BuildingBlocks.deriveSeed;
+import static dev.marksman.kraftwerk.core.MutableSeed.mutableSeed;
+
+/**
+ * Generators for {@link ImmutableVector}s whose elements are generated on access, rather than up front.
+ * <p>
+ * Each vector holds only a base {@link Seed} and its size.  Element {@code i} is generated from a {@code Seed} derived
+ * from the base {@code Seed} and {@code i}, so it is the same each time it is accessed, and accessing it does not
+ * require generating the elements before it.
+ */
+final class LazyVectors {
+    private static final Object NULL = new Object();
+
+    private LazyVectors() {
+    }
+
+    static <A> Generator<ImmutableVector<A>> generateLazyVector(Generator<A> gen) {
+        return Generators.sized(size -> generateLazyVectorOfSize(size, gen));
+    }
+
+    static <A> Generator<ImmutableVector<A>> generateLazyVectorOfSize(int size, Generator<A> gen) {
+        Preconditions.requireNaturalSize(size);
+        return new LazyVector<>(size, 0, gen);
+    }
+
+    static <A> Generator<ImmutableVector<A>> generateLazyVectorOfSize(IntRange sizeRange, Generator<A> gen) {
+        Preconditions.requireNaturalSize(sizeRange);
+        return withCollectionSize(sizeRange, size -> generateLazyVectorOfSize(size, gen));
+    }
+
+    static <A> Generator<ImmutableVector<A>> generateLazyVectorOfSize(int size, int cacheSize, Generator<A> gen) {
+        Preconditions.requireNaturalSize(size);
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize must be >= 0");
+        }
+        return new LazyVector<>(size, cacheSize, gen);
+    }
+
+    private static final class LazyVector<A> implements Generator<ImmutableVector<A>> {
+        private final int size;
+        private final int cacheSize;
+        private final Generator<A> elements;
+
+        private LazyVector(int size, int cacheSize, Generator<A> elements) {
+            this.size = size;
+            this.cacheSize = cacheSize;
+            this.elements = elements;
+        }
+
+        @Override
+        public GenerateFn<ImmutableVector<A>> createGenerateFn(GeneratorParameters generatorParameters) {
+            GenerateFn<A> elementFn = elements.createGenerateFn(generatorParameters);
+            return withDrawCount(ONE_WIDE, input -> {
+                Result<Seed, Long> draw = BuildingBlocks.nextLong(input);
+                Seed base = BuildingBlocks.reseed(draw.getValue(), input);
+                return result(draw.getNextState(), Vector.lazyFill(size, elementAt(elementFn, base)));
+            });
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return Maybe.just("lazyVector[" + size + "]");
+        }
+
+        @SuppressWarnings("unchecked")
+        private Fn1<Integer, A> elementAt(GenerateFn<A> elementFn, Seed base) {
+            Fn1<Integer, A> generate = index -> runWithCursor(elementFn, mutableSeed(deriveSeed(index, base)));
+            if (cacheSize == 0) {
+                return generate;
+            }
+            CompiledCache<Integer, Object> cache = compiledCache(cacheSize);
+            return index -> {
+                Object value = cache.get(index, i -> {
+                    A element = generate.apply(i);
+                    return element == null ? NULL : element;
+                });
+                return value == NULL ? null : (A) value;
+            };
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+
+/**
+ * A {@link CursorGenerateFn} that can produce {@code long}s without boxing.
+ */
+@FunctionalInterface
+interface LongGenerateFn extends CursorGenerateFn<Long> {
+
+    long generateLong(MutableSeed cursor);
+
+    @Override
+    default Long generate(MutableSeed cursor) {
+        return generateLong(cursor);
+    }
+
+    static LongGenerateFn longGenerateFn(LongGenerateFn fn) {
+        return fn;
+    }
+
+    /**
+     * Returns the unboxed form of {@code generateFn}, looking through any {@link DrawCount}.  If {@code generateFn}
+     * has no unboxed form, bridges through boxed values.
+     */
+    static LongGenerateFn unboxedLong(Fn1<Seed, ? extends Result<? extends Seed, Long>> generateFn) {
+        Fn1<?, ?> inner = DrawCount.uncounted(generateFn);
+        if (inner instanceof LongGenerateFn) {
+            return (LongGenerateFn) inner;
+        }
+        return cursor -> runWithCursor(generateFn, cursor);
+    }
+}
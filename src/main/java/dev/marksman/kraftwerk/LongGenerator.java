@@ -0,0 +1,164 @@
+package dev.marksman.kraftwerk;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+import static dev.marksman.kraftwerk.StandardGeneratorParameters.defaultGeneratorParameters;
+
+/**
+ * A {@link Generator} of {@code long}s that can produce its values without boxing.
+ * <p>
+ * A {@code LongGenerator} is a {@code Generator<Long>}, and can be used anywhere one is expected.  The primitive
+ * mapping methods, and the iterators returned by {@link LongGenerator#runLongs}, do not box intermediate values.
+ */
+public interface LongGenerator extends Generator<Long> {
+
+    /**
+     * Creates a new {@code LongGenerator} that applies a function to the output of this one, without boxing.
+     *
+     * @param fn the function
+     * @return a {@code LongGenerator}
+     */
+    default LongGenerator mapLong(LongUnaryOperator fn) {
+        return PrimitiveGenerators.mapLong(fn, this);
+    }
+
+    /**
+     * Creates a new {@link IntGenerator} that applies a function to the output of this one, without boxing.
+     *
+     * @param fn the function
+     * @return a {@code IntGenerator}
+     */
+    default IntGenerator mapToInt(LongToIntFunction fn) {
+        return PrimitiveGenerators.mapLongToInt(fn, this);
+    }
+
+    /**
+     * Creates a new {@link DoubleGenerator} that applies a function to the output of this one, without boxing.
+     *
+     * @param fn the function
+     * @return a {@code DoubleGenerator}
+     */
+    default DoubleGenerator mapToDouble(LongToDoubleFunction fn) {
+        return PrimitiveGenerators.mapLongToDouble(fn, this);
+    }
+
+    /**
+     * Runs this {@code LongGenerator}, returning an infinite iterator of unboxed values.  The values are the
+     * same as those of {@link Generator#run(GeneratorParameters, Seed)}.
+     * <p>
+     * The iterator is not thread-safe.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param initialSeed         the initial {@link Seed}
+     * @return a {@code PrimitiveIterator.OfLong}
+     */
+    default PrimitiveIterator.OfLong runLongs(GeneratorParameters generatorParameters, Seed initialSeed) {
+        return PrimitiveGenerators.longIterator(createGenerateFn(generatorParameters), initialSeed);
+    }
+
+    /**
+     * Runs this {@code LongGenerator} with the default {@link GeneratorParameters}, returning an infinite
+     * iterator of unboxed values.
+     *
+     * @param initialSeed the initial {@link Seed}
+     * @return a {@code PrimitiveIterator.OfLong}
+     */
+    default PrimitiveIterator.OfLong runLongs(Seed initialSeed) {
+        return runLongs(defaultGeneratorParameters(), initialSeed);
+    }
+
+    /**
+     * Generates a fixed number of unboxed values in a single pass, returning them along with the {@link Seed} that
+     * follows the last one.  The values are the first {@code count} values of {@link LongGenerator#runLongs}.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param count               the number of values to generate; must be &gt;= 0
+     * @param initialSeed         the initial {@link Seed}
+     * @return a {@code Result} containing the final {@code Seed} and a {@code long[]}
+     */
+    default Result<Seed, long[]> runLongBatch(GeneratorParameters generatorParameters, int count, Seed initialSeed) {
+        return Batches.generateLongBatch(createGenerateFn(generatorParameters), count, initialSeed);
+    }
+
+    /**
+     * Generates a fixed number of unboxed values in a single pass, using the default {@link GeneratorParameters}.
+     *
+     * @param count       the number of values to generate; must be &gt;= 0
+     * @param initialSeed the initial {@link Seed}
+     * @return a {@code Result} containing the final {@code Seed} and a {@code long[]}
+     */
+    default Result<Seed, long[]> runLongBatch(int count, Seed initialSeed) {
+        return runLongBatch(defaultGeneratorParameters(), count, initialSeed);
+    }
+
+    /**
+     * Fills {@code dest} with the first {@code dest.length} values of {@link LongGenerator#runLongs}.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param dest                the array to fill
+     * @param initialSeed         the initial {@link Seed}
+     * @return the {@code Seed} that follows the last value
+     */
+    default Seed fillLongs(GeneratorParameters generatorParameters, long[] dest, Seed initialSeed) {
+        return Batches.fillLongs(createGenerateFn(generatorParameters), dest, 0, dest.length, initialSeed);
+    }
+
+    /**
+     * Fills {@code dest} with values, using the default {@link GeneratorParameters}.
+     *
+     * @param dest        the array to fill
+     * @param initialSeed the initial {@link Seed}
+     * @return the {@code Seed} that follows the last value
+     */
+    default Seed fillLongs(long[] dest, Seed initialSeed) {
+        return fillLongs(defaultGeneratorParameters(), dest, initialSeed);
+    }
+
+    /**
+     * Runs this {@code LongGenerator}, returning an infinite, sequential {@link LongStream} of the same values as
+     * {@link LongGenerator#runLongs}.
+     *
+     * @param generatorParameters the {@link GeneratorParameters}
+     * @param initialSeed         the initial {@link Seed}
+     * @return a {@code LongStream}
+     */
+    default LongStream streamLongs(GeneratorParameters generatorParameters, Seed initialSeed) {
+        return Batches.longStream(createGenerateFn(generatorParameters), initialSeed);
+    }
+
+    /**
+     * Runs this {@code LongGenerator} with the default {@link GeneratorParameters}, returning an infinite,
+     * sequential {@link LongStream}.
+     *
+     * @param initialSeed the initial {@link Seed}
+     * @return a {@code LongStream}
+     */
+    default LongStream streamLongs(Seed initialSeed) {
+        return streamLongs(defaultGeneratorParameters(), initialSeed);
+    }
+
+    @Override
+    default LongGenerator labeled(String label) {
+        return PrimitiveGenerators.toLongGenerator(Generator.super.labeled(label));
+    }
+
+    @Override
+    default LongGenerator attachApplicationData(Object applicationData) {
+        return PrimitiveGenerators.toLongGenerator(Generator.super.attachApplicationData(applicationData));
+    }
+
+    /**
+     * Converts a {@code Generator<Long>} to a {@code LongGenerator}.  If {@code generator} is already
+     * a {@code LongGenerator}, it is returned as is.
+     *
+     * @param generator the {@code Generator}
+     * @return a {@code LongGenerator}
+     */
+    static LongGenerator longGenerator(Generator<Long> generator) {
+        return PrimitiveGenerators.toLongGenerator(generator);
+    }
+}
@@ -2,78 +2,93 @@ package dev.marksman.kraftwerk;
 
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.Fn1;
-import dev.marksman.collectionviews.Vector;
+import dev.marksman.kraftwerk.Optimizer.Optimizable;
 
-import java.util.ArrayList;
 import java.util.function.Function;
 
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Reverse.reverse;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
-import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
+import static dev.marksman.kraftwerk.Constant.constant;
+import static dev.marksman.kraftwerk.CursorGenerateFn.cursorGenerateFn;
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.DrawCount.combineDrawCounts;
 
 final class Mapping {
     private Mapping() {
     }
 
+    @SuppressWarnings("unchecked")
     static <A, B> Generator<B> mapped(Fn1<? super A, ? extends B> fn, Generator<A> source) {
-        return new Mapped<>(source, fn::apply);
+        return new Mapped<>(source, null, o -> fn.apply((A) o), 1);
     }
 
-    private static class Mapped<In, A> implements Generator<A> {
+    /**
+     * A {@link Generator} that can apply a function to its output as part of its own {@link GenerateFn},
+     * so that mapping it adds no extra layer.
+     */
+    interface Fusible<A> {
+        <B> GenerateFn<B> createGenerateFn(GeneratorParameters generatorParameters,
+                                           Function<? super A, ? extends B> post);
+    }
+
+    /**
+     * A chain of {@code fmap}s over {@code source}.  Each node links to the stage before it, so {@code fmap}
+     * allocates a single node.  The stages are fused into one function when the {@link GenerateFn} is created.
+     */
+    private static final class Mapped<A> implements Generator<A>, Optimizable<A> {
         private static final Maybe<String> LABEL = Maybe.just("fmap");
 
-        private final Generator<In> source;
-        private final Fn1<In, A> fn;
+        private final Generator<?> source;
+        private final Mapped<?> previous;
+        private final Function<Object, Object> fn;
+        private final int stageCount;
 
-        private Mapped(Generator<In> source, Fn1<In, A> fn) {
+        private Mapped(Generator<?> source, Mapped<?> previous, Function<Object, Object> fn, int stageCount) {
             this.source = source;
+            this.previous = previous;
             this.fn = fn;
+            this.stageCount = stageCount;
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public GenerateFn<A> createGenerateFn(GeneratorParameters generatorParameters) {
-            GenerateFn<In> g = source.createGenerateFn(generatorParameters);
-            return input -> g.apply(input).fmap(fn);
+            Function<Object, Object> fused = fuse(stages(), 0, stageCount);
+            if (source instanceof Fusible<?>) {
+                return ((Fusible<Object>) source).createGenerateFn(generatorParameters, o -> (A) fused.apply(o));
+            }
+            GenerateFn<Object> g = (GenerateFn<Object>) source.createGenerateFn(generatorParameters);
+            return combineDrawCounts(cursorGenerateFn(cursor -> (A) fused.apply(runWithCursor(g, cursor))), g);
         }
 
         @SuppressWarnings("unchecked")
         @Override
         public <B> Generator<B> fmap(Fn1<? super A, ? extends B> fn) {
-            Iterable<Function<Object, Object>> fs = Vector.of(o -> fn.apply((A) o),
-                    o -> this.fn.apply((In) o));
-            return new ManyMapped<>(source, fs);
-        }
-
-        @Override
-        public Maybe<String> getLabel() {
-            return LABEL;
-        }
-    }
-
-    private static class ManyMapped<In, A> implements Generator<A> {
-        private static final Maybe<String> LABEL = Maybe.just("fmap");
-
-        private final Generator<In> source;
-        private final Iterable<Function<Object, Object>> functions;
-
-        private ManyMapped(Generator<In> source, Iterable<Function<Object, Object>> functions) {
-            this.source = source;
-            this.functions = functions;
-        }
-
-        @SuppressWarnings("unchecked")
-        @Override
-        public GenerateFn<A> createGenerateFn(GeneratorParameters generatorParameters) {
-            GenerateFn<In> g = source.createGenerateFn(generatorParameters);
-            Fn1<Object, Object> fn = buildFn();
-            return input -> g.apply(input).fmap(x -> (A) fn.apply(x));
+            return new Mapped<>(source, this, o -> fn.apply((A) o), stageCount + 1);
         }
 
         @SuppressWarnings("unchecked")
         @Override
-        public <B> Generator<B> fmap(Fn1<? super A, ? extends B> fn) {
-            return new ManyMapped<>(source, cons(o -> fn.apply((A) o), functions));
+        public Generator<A> optimize(Optimizer optimizer) {
+            Generator<?> optimizedSource = optimizer.rewrite(source);
+            if (optimizedSource == source) {
+                return this;
+            }
+            Function<Object, Object>[] stages = stages();
+            if (optimizedSource instanceof Constant<?>) {
+                return constant((A) fuse(stages, 0, stageCount).apply(((Constant<?>) optimizedSource).getValue()));
+            }
+            // append these stages to the chain they now sit on top of
+            Mapped<?> chain = null;
+            Generator<?> root = optimizedSource;
+            int count = 0;
+            if (optimizedSource instanceof Mapped<?>) {
+                chain = (Mapped<?>) optimizedSource;
+                root = chain.source;
+                count = chain.stageCount;
+            }
+            for (Function<Object, Object> stage : stages) {
+                chain = new Mapped<>(root, chain, stage, ++count);
+            }
+            return (Generator<A>) chain;
         }
 
         @Override
@@ -81,9 +96,37 @@ final class Mapping {
             return LABEL;
         }
 
-        private Fn1<Object, Object> buildFn() {
-            ArrayList<Function<Object, Object>> fnChain = toCollection(ArrayList::new, reverse(functions));
-            return o -> foldLeft((x, fn) -> fn.apply(x), o, fnChain);
+        @SuppressWarnings("unchecked")
+        private Function<Object, Object>[] stages() {
+            Function<Object, Object>[] result = (Function<Object, Object>[]) new Function<?, ?>[stageCount];
+            Mapped<?> current = this;
+            for (int i = stageCount - 1; i >= 0; i--) {
+                result[i] = current.fn;
+                current = current.previous;
+            }
+            return result;
+        }
+
+        // Composes as a balanced tree, so that long chains stay within a shallow stack.
+        private static Function<Object, Object> fuse(Function<Object, Object>[] stages, int from, int until) {
+            int count = until - from;
+            if (count == 1) {
+                return stages[from];
+            } else if (count == 2) {
+                Function<Object, Object> f = stages[from];
+                Function<Object, Object> g = stages[from + 1];
+                return o -> g.apply(f.apply(o));
+            } else if (count == 3) {
+                Function<Object, Object> f = stages[from];
+                Function<Object, Object> g = stages[from + 1];
+                Function<Object, Object> h = stages[from + 2];
+                return o -> h.apply(g.apply(f.apply(o)));
+            } else {
+                int mid = from + count / 2;
+                Function<Object, Object> first = fuse(stages, from, mid);
+                Function<Object, Object> second = fuse(stages, mid, until);
+                return o -> second.apply(first.apply(o));
+            }
         }
     }
 }
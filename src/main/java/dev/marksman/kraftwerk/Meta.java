@@ -1,6 +1,7 @@
 package dev.marksman.kraftwerk;
 
 import com.jnape.palatable.lambda.adt.Maybe;
+import dev.marksman.kraftwerk.Optimizer.Optimizable;
 
 final class Meta {
     private Meta() {
@@ -13,7 +14,7 @@ final class Meta {
         return new WithMetadata<>(label, applicationData, underlying);
     }
 
-    private static class WithMetadata<A> implements Generator<A> {
+    private static class WithMetadata<A> implements Generator<A>, Optimizable<A> {
         private final Maybe<String> label;
         private final Maybe<Object> applicationData;
         private final Generator<A> underlying;
@@ -42,5 +43,10 @@ final class Meta {
         public GenerateFn<A> createGenerateFn(GeneratorParameters generatorParameters) {
             return underlying.createGenerateFn(generatorParameters);
         }
+
+        @Override
+        public Generator<A> optimize(Optimizer optimizer) {
+            return optimizer.rewrite(underlying);
+        }
     }
 }
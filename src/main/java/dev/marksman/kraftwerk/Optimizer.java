@@ -0,0 +1,50 @@
+package dev.marksman.kraftwerk;
+
+import java.util.IdentityHashMap;
+
+/**
+ * Rewrites a tree of {@link Generator}s into a cheaper equivalent before it is compiled.
+ * <p>
+ * A rewritten tree yields exactly the same values, and consumes exactly the same seeds, as the original.
+ * Rewrites apply only to the built-in combinators that implement {@link Optimizable}; any other {@code Generator}
+ * is left as is.  Each distinct node is rewritten once per pass, so shared subtrees stay shared.
+ */
+final class Optimizer {
+    private final IdentityHashMap<Generator<?>, Generator<?>> rewritten;
+
+    private Optimizer() {
+        this.rewritten = new IdentityHashMap<>();
+    }
+
+    static <A> Generator<A> optimize(Generator<A> generator) {
+        if (generator instanceof Optimizable<?>) {
+            return new Optimizer().rewrite(generator);
+        } else {
+            return generator;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <A> Generator<A> rewrite(Generator<A> generator) {
+        if (!(generator instanceof Optimizable<?>)) {
+            return generator;
+        }
+        Generator<?> result = rewritten.get(generator);
+        if (result == null) {
+            result = ((Optimizable<A>) generator).optimize(this);
+            rewritten.put(generator, result);
+        }
+        return (Generator<A>) result;
+    }
+
+    /**
+     * A {@link Generator} that can rewrite itself into a cheaper equivalent.
+     */
+    interface Optimizable<A> {
+        /**
+         * Returns an equivalent {@code Generator}, rewriting its children with {@code optimizer}.  Returns
+         * {@code this} if there is nothing to rewrite.
+         */
+        Generator<A> optimize(Optimizer optimizer);
+    }
+}
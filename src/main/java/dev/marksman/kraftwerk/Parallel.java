@@ -0,0 +1,63 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import dev.marksman.collectionviews.ImmutableVector;
+import dev.marksman.collectionviews.Vector;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.core.BuildingBlocks.checkCount;
+import static dev.marksman.kraftwerk.core.MutableSeed.mutableSeed;
+
+final class Parallel {
+    // the shape of the split tree must depend only on the count, never on the number of workers
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private Parallel() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> ImmutableVector<A> generateParallel(GenerateFn<A> generateFn, int count, Seed initialSeed,
+                                                   ForkJoinPool pool) {
+        checkCount(count);
+        Object[] dest = new Object[count];
+        pool.invoke(new FillTask<>(generateFn, dest, 0, count, initialSeed));
+        return (ImmutableVector<A>) Vector.copyFrom(dest);
+    }
+
+    private static class FillTask<A> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GenerateFn<A> generateFn;
+        private final Object[] dest;
+        private final int from;
+        private final int until;
+        private final Seed seed;
+
+        private FillTask(GenerateFn<A> generateFn, Object[] dest, int from, int until, Seed seed) {
+            this.generateFn = generateFn;
+            this.dest = dest;
+            this.from = from;
+            this.until = until;
+            this.seed = seed;
+        }
+
+        @Override
+        protected void compute() {
+            if (until - from <= SEQUENTIAL_THRESHOLD) {
+                MutableSeed cursor = mutableSeed(seed);
+                for (int i = from; i < until; i++) {
+                    dest[i] = runWithCursor(generateFn, cursor);
+                }
+            } else {
+                int mid = (from + until) >>> 1;
+                Tuple2<Seed, Seed> children = seed.split();
+                invokeAll(new FillTask<>(generateFn, dest, from, mid, children._1()),
+                        new FillTask<>(generateFn, dest, mid, until, children._2()));
+            }
+        }
+    }
+}
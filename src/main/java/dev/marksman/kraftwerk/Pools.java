@@ -0,0 +1,160 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import dev.marksman.collectionviews.ImmutableVector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static dev.marksman.kraftwerk.CursorGenerateFn.cursorGenerateFn;
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.DrawCount.combineDrawCounts;
+
+final class Pools {
+    private static final int MAX_CACHED_POOLS = 16;
+    private static final Seed DEFAULT_POOL_SEED = Seed.create(0L);
+
+    // Keeps up to MAX_CACHED_POOLS whole pools, and the generators that built them, reachable for as long as this
+    // class is loaded; least recently used pools are evicted first.
+    private static final PoolCache CACHE = new PoolCache();
+
+    private Pools() {
+    }
+
+    static <A> Generator<A> pooled(Generator<A> underlying, int poolSize) {
+        return pooled(underlying, poolSize, DEFAULT_POOL_SEED, Maybe.nothing());
+    }
+
+    static <A> Generator<A> pooled(Generator<A> underlying, int poolSize, Seed poolSeed, Maybe<Executor> executor) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be >= 1");
+        }
+        return new Pooled<>(underlying, poolSize, poolSeed, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> CompletableFuture<ImmutableVector<A>> pool(PoolKey key, Supplier<ImmutableVector<A>> build,
+                                                                  Maybe<Executor> executor) {
+        CompletableFuture<ImmutableVector<A>> pool;
+        synchronized (CACHE) {
+            pool = (CompletableFuture<ImmutableVector<A>>) CACHE.get(key);
+            if (pool != null) {
+                return pool;
+            }
+            pool = new CompletableFuture<>();
+            CACHE.put(key, pool);
+        }
+        // build outside the lock; anyone else who needs this pool waits on the same future
+        CompletableFuture<ImmutableVector<A>> target = pool;
+        Executor background = executor.orElse(null);
+        if (background != null) {
+            background.execute(() -> {
+                try {
+                    target.complete(build.get());
+                } catch (Throwable t) {
+                    evict(key, target);
+                    target.completeExceptionally(t);
+                }
+            });
+        } else {
+            try {
+                target.complete(build.get());
+            } catch (RuntimeException | Error e) {
+                evict(key, target);
+                target.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return pool;
+    }
+
+    private static void evict(PoolKey key, CompletableFuture<?> pool) {
+        synchronized (CACHE) {
+            CACHE.remove(key, pool);
+        }
+    }
+
+    private static final class Pooled<A> implements Generator<A> {
+        private static final Maybe<String> LABEL = Maybe.just("pooled");
+
+        private final Generator<A> underlying;
+        private final int poolSize;
+        private final Seed poolSeed;
+        private final Maybe<Executor> executor;
+
+        private Pooled(Generator<A> underlying, int poolSize, Seed poolSeed, Maybe<Executor> executor) {
+            this.underlying = underlying;
+            this.poolSize = poolSize;
+            this.poolSeed = poolSeed;
+            this.executor = executor;
+        }
+
+        @Override
+        public GenerateFn<A> createGenerateFn(GeneratorParameters generatorParameters) {
+            PoolKey key = new PoolKey(underlying, poolSize, generatorParameters, poolSeed);
+            CompletableFuture<ImmutableVector<A>> pool = pool(key, () -> Batches.generateBatch(
+                    Optimizer.optimize(underlying).createGenerateFn(generatorParameters), poolSize, poolSeed)
+                    .getValue(), executor);
+            GenerateFn<Integer> index = Primitives.generateIntIndex(poolSize).createGenerateFn(generatorParameters);
+            return combineDrawCounts(cursorGenerateFn(cursor -> pool.join().unsafeGet(runWithCursor(index, cursor))),
+                    index);
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return LABEL;
+        }
+    }
+
+    private static final class PoolCache extends LinkedHashMap<PoolKey, CompletableFuture<?>> {
+        private static final long serialVersionUID = 1L;
+
+        private PoolCache() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PoolKey, CompletableFuture<?>> eldest) {
+            return size() > MAX_CACHED_POOLS;
+        }
+    }
+
+    private static final class PoolKey {
+        private final Generator<?> generator;
+        private final int poolSize;
+        private final GeneratorParameters generatorParameters;
+        private final Seed poolSeed;
+
+        private PoolKey(Generator<?> generator, int poolSize, GeneratorParameters generatorParameters, Seed poolSeed) {
+            this.generator = generator;
+            this.poolSize = poolSize;
+            this.generatorParameters = generatorParameters;
+            this.poolSeed = poolSeed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            PoolKey that = (PoolKey) o;
+
+            if (poolSize != that.poolSize) return false;
+            if (!generator.equals(that.generator)) return false;
+            if (!generatorParameters.equals(that.generatorParameters)) return false;
+            return poolSeed.equals(that.poolSeed);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = generator.hashCode();
+            result = 31 * result + poolSize;
+            result = 31 * result + generatorParameters.hashCode();
+            result = 31 * result + poolSeed.hashCode();
+            return result;
+        }
+    }
+}
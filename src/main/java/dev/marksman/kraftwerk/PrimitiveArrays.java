@@ -0,0 +1,236 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import dev.marksman.kraftwerk.constraints.IntRange;
+
+import static dev.marksman.kraftwerk.Collections.withCollectionSize;
+import static dev.marksman.kraftwerk.CursorGenerateFn.cursorGenerateFn;
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.DoubleGenerateFn.unboxedDouble;
+import static dev.marksman.kraftwerk.DrawCount.drawCount;
+import static dev.marksman.kraftwerk.DrawCount.withDrawCount;
+import static dev.marksman.kraftwerk.IntGenerateFn.unboxedInt;
+import static dev.marksman.kraftwerk.LongGenerateFn.unboxedLong;
+
+/**
+ * Generators for arrays of primitives, which fill the array directly rather than boxing each element.
+ */
+final class PrimitiveArrays {
+    private PrimitiveArrays() {
+    }
+
+    static Generator<byte[]> generateBytes() {
+        return Generators.sized(PrimitiveArrays::generateBytesOfSize);
+    }
+
+    static Generator<byte[]> generateBytesOfSize(int size) {
+        Preconditions.requireNaturalSize(size);
+        return new BytesOfSize(size);
+    }
+
+    static Generator<byte[]> generateBytesOfSize(IntRange sizeRange) {
+        Preconditions.requireNaturalSize(sizeRange);
+        return withCollectionSize(sizeRange, PrimitiveArrays::generateBytesOfSize);
+    }
+
+    static Generator<int[]> generateIntArray(IntGenerator elements) {
+        return Generators.sized(size -> generateIntArrayOfSize(size, elements));
+    }
+
+    static Generator<int[]> generateIntArrayOfSize(int size, IntGenerator elements) {
+        Preconditions.requireNaturalSize(size);
+        return new IntArrayOfSize(size, elements);
+    }
+
+    static Generator<int[]> generateIntArrayOfSize(IntRange sizeRange, IntGenerator elements) {
+        Preconditions.requireNaturalSize(sizeRange);
+        return withCollectionSize(sizeRange, size -> generateIntArrayOfSize(size, elements));
+    }
+
+    static Generator<long[]> generateLongArray(LongGenerator elements) {
+        return Generators.sized(size -> generateLongArrayOfSize(size, elements));
+    }
+
+    static Generator<long[]> generateLongArrayOfSize(int size, LongGenerator elements) {
+        Preconditions.requireNaturalSize(size);
+        return new LongArrayOfSize(size, elements);
+    }
+
+    static Generator<long[]> generateLongArrayOfSize(IntRange sizeRange, LongGenerator elements) {
+        Preconditions.requireNaturalSize(sizeRange);
+        return withCollectionSize(sizeRange, size -> generateLongArrayOfSize(size, elements));
+    }
+
+    static Generator<double[]> generateDoubleArray(Generator<Double> elements) {
+        return Generators.sized(size -> generateDoubleArrayOfSize(size, elements));
+    }
+
+    static Generator<double[]> generateDoubleArrayOfSize(int size, Generator<Double> elements) {
+        Preconditions.requireNaturalSize(size);
+        return new DoubleArrayOfSize(size, elements);
+    }
+
+    static Generator<double[]> generateDoubleArrayOfSize(IntRange sizeRange, Generator<Double> elements) {
+        Preconditions.requireNaturalSize(sizeRange);
+        return withCollectionSize(sizeRange, size -> generateDoubleArrayOfSize(size, elements));
+    }
+
+    static Generator<float[]> generateFloatArray(Generator<Float> elements) {
+        return Generators.sized(size -> generateFloatArrayOfSize(size, elements));
+    }
+
+    static Generator<float[]> generateFloatArrayOfSize(int size, Generator<Float> elements) {
+        Preconditions.requireNaturalSize(size);
+        return new FloatArrayOfSize(size, elements);
+    }
+
+    static Generator<float[]> generateFloatArrayOfSize(IntRange sizeRange, Generator<Float> elements) {
+        Preconditions.requireNaturalSize(sizeRange);
+        return withCollectionSize(sizeRange, size -> generateFloatArrayOfSize(size, elements));
+    }
+
+    // An array of n elements makes n times the draws of a single element.
+    private static <A> GenerateFn<A> withElementDrawCount(GenerateFn<A> arrayFn, GenerateFn<?> elementFn, int size) {
+        DrawCount perElement = drawCount(elementFn).orElse(null);
+        return perElement == null
+                ? arrayFn
+                : withDrawCount(perElement.times(size), arrayFn);
+    }
+
+    private static Maybe<String> label(String elementType, int size) {
+        return Maybe.just(elementType + "[" + size + "]");
+    }
+
+    private static final class BytesOfSize implements Generator<byte[]> {
+        private final int size;
+
+        private BytesOfSize(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public GenerateFn<byte[]> createGenerateFn(GeneratorParameters generatorParameters) {
+            return cursorGenerateFn(cursor -> {
+                byte[] result = new byte[size];
+                cursor.nextBytes(result);
+                return result;
+            });
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return label("byte", size);
+        }
+    }
+
+    private static final class IntArrayOfSize implements Generator<int[]> {
+        private final int size;
+        private final IntGenerator elements;
+
+        private IntArrayOfSize(int size, IntGenerator elements) {
+            this.size = size;
+            this.elements = elements;
+        }
+
+        @Override
+        public GenerateFn<int[]> createGenerateFn(GeneratorParameters generatorParameters) {
+            GenerateFn<Integer> elementFn = elements.createGenerateFn(generatorParameters);
+            IntGenerateFn unboxed = unboxedInt(elementFn);
+            return withElementDrawCount(cursorGenerateFn(cursor -> {
+                int[] result = new int[size];
+                for (int i = 0; i < size; i++) {
+                    result[i] = unboxed.generateInt(cursor);
+                }
+                return result;
+            }), elementFn, size);
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return label("int", size);
+        }
+    }
+
+    private static final class LongArrayOfSize implements Generator<long[]> {
+        private final int size;
+        private final LongGenerator elements;
+
+        private LongArrayOfSize(int size, LongGenerator elements) {
+            this.size = size;
+            this.elements = elements;
+        }
+
+        @Override
+        public GenerateFn<long[]> createGenerateFn(GeneratorParameters generatorParameters) {
+            GenerateFn<Long> elementFn = elements.createGenerateFn(generatorParameters);
+            LongGenerateFn unboxed = unboxedLong(elementFn);
+            return withElementDrawCount(cursorGenerateFn(cursor -> {
+                long[] result = new long[size];
+                for (int i = 0; i < size; i++) {
+                    result[i] = unboxed.generateLong(cursor);
+                }
+                return result;
+            }), elementFn, size);
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return label("long", size);
+        }
+    }
+
+    private static final class DoubleArrayOfSize implements Generator<double[]> {
+        private final int size;
+        private final Generator<Double> elements;
+
+        private DoubleArrayOfSize(int size, Generator<Double> elements) {
+            this.size = size;
+            this.elements = elements;
+        }
+
+        @Override
+        public GenerateFn<double[]> createGenerateFn(GeneratorParameters generatorParameters) {
+            GenerateFn<Double> elementFn = elements.createGenerateFn(generatorParameters);
+            DoubleGenerateFn unboxed = unboxedDouble(elementFn);
+            return withElementDrawCount(cursorGenerateFn(cursor -> {
+                double[] result = new double[size];
+                for (int i = 0; i < size; i++) {
+                    result[i] = unboxed.generateDouble(cursor);
+                }
+                return result;
+            }), elementFn, size);
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return label("double", size);
+        }
+    }
+
+    private static final class FloatArrayOfSize implements Generator<float[]> {
+        private final int size;
+        private final Generator<Float> elements;
+
+        private FloatArrayOfSize(int size, Generator<Float> elements) {
+            this.size = size;
+            this.elements = elements;
+        }
+
+        @Override
+        public GenerateFn<float[]> createGenerateFn(GeneratorParameters generatorParameters) {
+            GenerateFn<Float> elementFn = elements.createGenerateFn(generatorParameters);
+            return withElementDrawCount(cursorGenerateFn(cursor -> {
+                float[] result = new float[size];
+                for (int i = 0; i < size; i++) {
+                    result[i] = runWithCursor(elementFn, cursor);
+                }
+                return result;
+            }), elementFn, size);
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return label("float", size);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.functions.Fn1;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static dev.marksman.kraftwerk.DoubleGenerateFn.doubleGenerateFn;
+import static dev.marksman.kraftwerk.DoubleGenerateFn.unboxedDouble;
+import static dev.marksman.kraftwerk.DrawCount.combineDrawCounts;
+import static dev.marksman.kraftwerk.IntGenerateFn.intGenerateFn;
+import static dev.marksman.kraftwerk.IntGenerateFn.unboxedInt;
+import static dev.marksman.kraftwerk.LongGenerateFn.longGenerateFn;
+import static dev.marksman.kraftwerk.LongGenerateFn.unboxedLong;
+import static dev.marksman.kraftwerk.core.MutableSeed.mutableSeed;
+
+final class PrimitiveGenerators {
+    private PrimitiveGenerators() {
+
+    }
+
+    static IntGenerator intGenerator(Maybe<String> label, Fn1<GeneratorParameters, GenerateFn<Integer>> createFn) {
+        return new SpecializedIntGenerator(label, nothing(), createFn);
+    }
+
+    static LongGenerator longGenerator(Maybe<String> label, Fn1<GeneratorParameters, GenerateFn<Long>> createFn) {
+        return new SpecializedLongGenerator(label, nothing(), createFn);
+    }
+
+    static DoubleGenerator doubleGenerator(Maybe<String> label, Fn1<GeneratorParameters, GenerateFn<Double>> createFn) {
+        return new SpecializedDoubleGenerator(label, nothing(), createFn);
+    }
+
+    static IntGenerator toIntGenerator(Generator<Integer> generator) {
+        return generator instanceof IntGenerator
+                ? (IntGenerator) generator
+                : new SpecializedIntGenerator(generator.getLabel(), generator.getApplicationData(),
+                generator::createGenerateFn);
+    }
+
+    static LongGenerator toLongGenerator(Generator<Long> generator) {
+        return generator instanceof LongGenerator
+                ? (LongGenerator) generator
+                : new SpecializedLongGenerator(generator.getLabel(), generator.getApplicationData(),
+                generator::createGenerateFn);
+    }
+
+    static DoubleGenerator toDoubleGenerator(Generator<Double> generator) {
+        return generator instanceof DoubleGenerator
+                ? (DoubleGenerator) generator
+                : new SpecializedDoubleGenerator(generator.getLabel(), generator.getApplicationData(),
+                generator::createGenerateFn);
+    }
+
+    static IntGenerator mapInt(IntUnaryOperator fn, IntGenerator source) {
+        return intGenerator(nothing(), generatorParameters -> {
+            GenerateFn<Integer> g = source.createGenerateFn(generatorParameters);
+            IntGenerateFn unboxed = unboxedInt(g);
+            return combineDrawCounts(intGenerateFn(cursor -> fn.applyAsInt(unboxed.generateInt(cursor))), g);
+        });
+    }
+
+    static LongGenerator mapIntToLong(IntToLongFunction fn, IntGenerator source) {
+        return longGenerator(nothing(), generatorParameters -> {
+            GenerateFn<Integer> g = source.createGenerateFn(generatorParameters);
+            IntGenerateFn unboxed = unboxedInt(g);
+            return combineDrawCounts(longGenerateFn(cursor -> fn.applyAsLong(unboxed.generateInt(cursor))), g);
+        });
+    }
+
+    static DoubleGenerator mapIntToDouble(IntToDoubleFunction fn, IntGenerator source) {
+        return doubleGenerator(nothing(), generatorParameters -> {
+            GenerateFn<Integer> g = source.createGenerateFn(generatorParameters);
+            IntGenerateFn unboxed = unboxedInt(g);
+            return combineDrawCounts(doubleGenerateFn(cursor -> fn.applyAsDouble(unboxed.generateInt(cursor))), g);
+        });
+    }
+
+    static LongGenerator mapLong(LongUnaryOperator fn, LongGenerator source) {
+        return longGenerator(nothing(), generatorParameters -> {
+            GenerateFn<Long> g = source.createGenerateFn(generatorParameters);
+            LongGenerateFn unboxed = unboxedLong(g);
+            return combineDrawCounts(longGenerateFn(cursor -> fn.applyAsLong(unboxed.generateLong(cursor))), g);
+        });
+    }
+
+    static IntGenerator mapLongToInt(LongToIntFunction fn, LongGenerator source) {
+        return intGenerator(nothing(), generatorParameters -> {
+            GenerateFn<Long> g = source.createGenerateFn(generatorParameters);
+            LongGenerateFn unboxed = unboxedLong(g);
+            return combineDrawCounts(intGenerateFn(cursor -> fn.applyAsInt(unboxed.generateLong(cursor))), g);
+        });
+    }
+
+    static DoubleGenerator mapLongToDouble(LongToDoubleFunction fn, LongGenerator source) {
+        return doubleGenerator(nothing(), generatorParameters -> {
+            GenerateFn<Long> g = source.createGenerateFn(generatorParameters);
+            LongGenerateFn unboxed = unboxedLong(g);
+            return combineDrawCounts(doubleGenerateFn(cursor -> fn.applyAsDouble(unboxed.generateLong(cursor))), g);
+        });
+    }
+
+    static DoubleGenerator mapDouble(DoubleUnaryOperator fn, DoubleGenerator source) {
+        return doubleGenerator(nothing(), generatorParameters -> {
+            GenerateFn<Double> g = source.createGenerateFn(generatorParameters);
+            DoubleGenerateFn unboxed = unboxedDouble(g);
+            return combineDrawCounts(doubleGenerateFn(cursor -> fn.applyAsDouble(unboxed.generateDouble(cursor))), g);
+        });
+    }
+
+    static IntGenerator mapDoubleToInt(DoubleToIntFunction fn, DoubleGenerator source) {
+        return intGenerator(nothing(), generatorParameters -> {
+            GenerateFn<Double> g = source.createGenerateFn(generatorParameters);
+            DoubleGenerateFn unboxed = unboxedDouble(g);
+            return combineDrawCounts(intGenerateFn(cursor -> fn.applyAsInt(unboxed.generateDouble(cursor))), g);
+        });
+    }
+
+    static LongGenerator mapDoubleToLong(DoubleToLongFunction fn, DoubleGenerator source) {
+        return longGenerator(nothing(), generatorParameters -> {
+            GenerateFn<Double> g = source.createGenerateFn(generatorParameters);
+            DoubleGenerateFn unboxed = unboxedDouble(g);
+            return combineDrawCounts(longGenerateFn(cursor -> fn.applyAsLong(unboxed.generateDouble(cursor))), g);
+        });
+    }
+
+    static PrimitiveIterator.OfInt intIterator(GenerateFn<Integer> generateFn, Seed initialSeed) {
+        IntGenerateFn unboxed = unboxedInt(generateFn);
+        MutableSeed cursor = mutableSeed(initialSeed);
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public int nextInt() {
+                return unboxed.generateInt(cursor);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+        };
+    }
+
+    static PrimitiveIterator.OfLong longIterator(GenerateFn<Long> generateFn, Seed initialSeed) {
+        LongGenerateFn unboxed = unboxedLong(generateFn);
+        MutableSeed cursor = mutableSeed(initialSeed);
+        return new PrimitiveIterator.OfLong() {
+            @Override
+            public long nextLong() {
+                return unboxed.generateLong(cursor);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+        };
+    }
+
+    static PrimitiveIterator.OfDouble doubleIterator(GenerateFn<Double> generateFn, Seed initialSeed) {
+        DoubleGenerateFn unboxed = unboxedDouble(generateFn);
+        MutableSeed cursor = mutableSeed(initialSeed);
+        return new PrimitiveIterator.OfDouble() {
+            @Override
+            public double nextDouble() {
+                return unboxed.generateDouble(cursor);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+        };
+    }
+
+    private static final class SpecializedIntGenerator implements IntGenerator {
+        private final Maybe<String> label;
+        private final Maybe<Object> applicationData;
+        private final Fn1<GeneratorParameters, GenerateFn<Integer>> createFn;
+
+        private SpecializedIntGenerator(Maybe<String> label, Maybe<Object> applicationData,
+                                        Fn1<GeneratorParameters, GenerateFn<Integer>> createFn) {
+            this.label = label;
+            this.applicationData = applicationData;
+            this.createFn = createFn;
+        }
+
+        @Override
+        public GenerateFn<Integer> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createFn.apply(generatorParameters);
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return label;
+        }
+
+        @Override
+        public Maybe<Object> getApplicationData() {
+            return applicationData;
+        }
+    }
+
+    private static final class SpecializedLongGenerator implements LongGenerator {
+        private final Maybe<String> label;
+        private final Maybe<Object> applicationData;
+        private final Fn1<GeneratorParameters, GenerateFn<Long>> createFn;
+
+        private SpecializedLongGenerator(Maybe<String> label, Maybe<Object> applicationData,
+                                        Fn1<GeneratorParameters, GenerateFn<Long>> createFn) {
+            this.label = label;
+            this.applicationData = applicationData;
+            this.createFn = createFn;
+        }
+
+        @Override
+        public GenerateFn<Long> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createFn.apply(generatorParameters);
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return label;
+        }
+
+        @Override
+        public Maybe<Object> getApplicationData() {
+            return applicationData;
+        }
+    }
+
+    private static final class SpecializedDoubleGenerator implements DoubleGenerator {
+        private final Maybe<String> label;
+        private final Maybe<Object> applicationData;
+        private final Fn1<GeneratorParameters, GenerateFn<Double>> createFn;
+
+        private SpecializedDoubleGenerator(Maybe<String> label, Maybe<Object> applicationData,
+                                        Fn1<GeneratorParameters, GenerateFn<Double>> createFn) {
+            this.label = label;
+            this.applicationData = applicationData;
+            this.createFn = createFn;
+        }
+
+        @Override
+        public GenerateFn<Double> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createFn.apply(generatorParameters);
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return label;
+        }
+
+        @Override
+        public Maybe<Object> getApplicationData() {
+            return applicationData;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package dev.marksman.kraftwerk;
 
 import com.jnape.palatable.lambda.adt.Maybe;
-import com.jnape.palatable.lambda.adt.Unit;
 import com.jnape.palatable.lambda.functions.Fn1;
 import dev.marksman.kraftwerk.bias.BiasSetting;
 import dev.marksman.kraftwerk.constraints.ByteRange;
@@ -12,6 +11,7 @@ import dev.marksman.kraftwerk.constraints.IntRange;
 import dev.marksman.kraftwerk.constraints.LongRange;
 import dev.marksman.kraftwerk.constraints.ShortRange;
 import dev.marksman.kraftwerk.core.BuildingBlocks;
+import dev.marksman.kraftwerk.core.MutableSeed;
 import dev.marksman.kraftwerk.frequency.FrequencyMap;
 import dev.marksman.kraftwerk.util.Labeling;
 
@@ -20,7 +20,14 @@ import java.util.ArrayList;
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Constantly.constantly;
+import static dev.marksman.kraftwerk.CursorGenerateFn.cursorGenerateFn;
+import static dev.marksman.kraftwerk.DoubleGenerateFn.doubleGenerateFn;
+import static dev.marksman.kraftwerk.DrawCount.ONE_NARROW;
+import static dev.marksman.kraftwerk.DrawCount.ONE_WIDE;
+import static dev.marksman.kraftwerk.DrawCount.withDrawCount;
 import static dev.marksman.kraftwerk.Generators.constant;
+import static dev.marksman.kraftwerk.IntGenerateFn.intGenerateFn;
+import static dev.marksman.kraftwerk.LongGenerateFn.longGenerateFn;
 import static dev.marksman.kraftwerk.Normalize.normalizeSizeRange;
 import static dev.marksman.kraftwerk.Result.result;
 import static dev.marksman.kraftwerk.SizeParameters.sizeParameters;
@@ -30,16 +37,6 @@ import static dev.marksman.kraftwerk.core.BuildingBlocks.checkBound;
 import static dev.marksman.kraftwerk.core.BuildingBlocks.checkCount;
 import static dev.marksman.kraftwerk.core.BuildingBlocks.checkMinMax;
 import static dev.marksman.kraftwerk.core.BuildingBlocks.checkOriginBound;
-import static dev.marksman.kraftwerk.core.BuildingBlocks.nextBytes;
-import static dev.marksman.kraftwerk.core.BuildingBlocks.unsafeNextDoubleBetween;
-import static dev.marksman.kraftwerk.core.BuildingBlocks.unsafeNextIntBounded;
-import static dev.marksman.kraftwerk.core.BuildingBlocks.unsafeNextIntBoundedPowerOf2;
-import static dev.marksman.kraftwerk.core.BuildingBlocks.unsafeNextIntExclusive;
-import static dev.marksman.kraftwerk.core.BuildingBlocks.unsafeNextIntExclusivePowerOf2;
-import static dev.marksman.kraftwerk.core.BuildingBlocks.unsafeNextIntExclusiveWide;
-import static dev.marksman.kraftwerk.core.BuildingBlocks.unsafeNextLongExclusive;
-import static dev.marksman.kraftwerk.core.BuildingBlocks.unsafeNextLongExclusivePowerOf2;
-import static dev.marksman.kraftwerk.core.BuildingBlocks.unsafeNextLongExclusiveWithOverflow;
 
 final class Primitives {
     private static final DoubleRange DEFAULT_DOUBLE_RANGE = DoubleRange.inclusive(-1E16, 1E16);
@@ -48,52 +45,53 @@ final class Primitives {
     private Primitives() {
     }
 
-    static Generator<Integer> generateInt() {
-        return IntGenerator.INSTANCE;
+    static IntGenerator generateInt() {
+        return FullRangeIntGenerator.INSTANCE;
     }
 
-    static Generator<Integer> generateInt(IntRange range) {
+    static IntGenerator generateInt(IntRange range) {
         return generateInt(range.minInclusive(), range.maxInclusive());
     }
 
-    private static Generator<Integer> generateInt(int min, int max) {
+    private static IntGenerator generateInt(int min, int max) {
         checkMinMax(min, max);
         if (min == max) {
-            return constant(min).labeled(Labeling.intInterval(min, max, false));
+            return IntGenerator.intGenerator(constant(min).labeled(Labeling.intInterval(min, max, false)));
         } else if (max == Integer.MAX_VALUE) {
             if (min == Integer.MIN_VALUE) {
                 return generateInt();
             } else {
                 return generateIntExclusive(min - 1, max)
-                        .fmap(n -> n + 1);
+                        .mapInt(n -> n + 1);
             }
         } else {
             return generateIntExclusive(min, max + 1);
         }
     }
 
-    private static Generator<Integer> generateIntExclusive(int bound) {
+    private static IntGenerator generateIntExclusive(int bound) {
         return generateIntExclusiveImpl(bound, p -> p.getBiasSettings().intBias(IntRange.exclusive(bound)));
     }
 
-    private static Generator<Integer> generateIntExclusiveImpl(int bound,
-                                                               Fn1<GeneratorParameters, BiasSetting<Integer>> getBias) {
+    private static IntGenerator generateIntExclusiveImpl(int bound,
+                                                         Fn1<GeneratorParameters, BiasSetting<Integer>> getBias) {
         checkBound(bound);
         Maybe<String> label = just(Labeling.intInterval(0, bound, true));
 
         if ((bound & -bound) == bound) { // bound is a power of 2
-            return simpleGenerator(label, getBias, input -> unsafeNextIntBoundedPowerOf2(bound, input));
+            return simpleIntGenerator(label, getBias,
+                    withDrawCount(ONE_NARROW, intGenerateFn(cursor -> cursor.unsafeNextIntBoundedPowerOf2(bound))));
         } else {
-            return simpleGenerator(label, getBias, input -> unsafeNextIntBounded(bound, input));
+            return simpleIntGenerator(label, getBias, intGenerateFn(cursor -> cursor.unsafeNextIntBounded(bound)));
         }
     }
 
-    private static Generator<Integer> generateIntExclusive(int origin, int bound) {
+    private static IntGenerator generateIntExclusive(int origin, int bound) {
         return generateIntExclusiveImpl(origin, bound, p -> p.getBiasSettings().intBias(IntRange.exclusive(origin, bound)));
     }
 
-    private static Generator<Integer> generateIntExclusiveImpl(int origin, int bound,
-                                                               Fn1<GeneratorParameters, BiasSetting<Integer>> getBias) {
+    private static IntGenerator generateIntExclusiveImpl(int origin, int bound,
+                                                         Fn1<GeneratorParameters, BiasSetting<Integer>> getBias) {
         checkOriginBound(origin, bound);
         if (origin == 0) {
             return generateIntExclusive(bound);
@@ -101,17 +99,20 @@ final class Primitives {
             long range = (long) bound - origin;
             long m = range - 1;
             if (range < Integer.MAX_VALUE) {
-                return simpleGenerator(nothing(), getBias, input -> unsafeNextIntExclusive(origin, (int) range, input));
+                return simpleIntGenerator(nothing(), getBias,
+                        intGenerateFn(cursor -> cursor.unsafeNextIntExclusive(origin, (int) range)));
             } else if ((range & m) == 0) {
                 // power of two
-                return simpleGenerator(nothing(), getBias, input -> unsafeNextIntExclusivePowerOf2(origin, range, input));
+                return simpleIntGenerator(nothing(), getBias,
+                        withDrawCount(ONE_NARROW, intGenerateFn(cursor -> cursor.unsafeNextIntExclusivePowerOf2(origin, range))));
             } else {
-                return simpleGenerator(nothing(), getBias, input -> unsafeNextIntExclusiveWide(origin, range, input));
+                return simpleIntGenerator(nothing(), getBias,
+                        intGenerateFn(cursor -> cursor.unsafeNextIntExclusiveWide(origin, range)));
             }
         }
     }
 
-    static Generator<Integer> generateIntIndex(int bound) {
+    static IntGenerator generateIntIndex(int bound) {
         return generateIntExclusiveImpl(bound, constantly(noBias()));
     }
 
@@ -120,15 +121,15 @@ final class Primitives {
     }
 
     static FloatingPointGenerator<Double> generateDouble() {
-        return new DoubleGenerator(just(DEFAULT_DOUBLE_RANGE), false, false);
+        return new BasicDoubleGenerator(just(DEFAULT_DOUBLE_RANGE), false, false);
     }
 
     static FloatingPointGenerator<Double> generateDoubleFractional() {
-        return DoubleGenerator.DEFAULT_DOUBLE_GENERATOR;
+        return BasicDoubleGenerator.DEFAULT_DOUBLE_GENERATOR;
     }
 
     static FloatingPointGenerator<Double> generateDouble(DoubleRange range) {
-        return new DoubleGenerator(just(range), false, false);
+        return new BasicDoubleGenerator(just(range), false, false);
     }
 
     static FloatingPointGenerator<Float> generateFloat() {
@@ -143,58 +144,59 @@ final class Primitives {
         return new FloatGenerator(just(range), false, false);
     }
 
-    static Generator<Long> generateLong() {
-        return LongGenerator.INSTANCE;
+    static LongGenerator generateLong() {
+        return FullRangeLongGenerator.INSTANCE;
     }
 
-    static Generator<Long> generateLong(LongRange range) {
+    static LongGenerator generateLong(LongRange range) {
         return generateLong(range.minInclusive(), range.maxInclusive());
     }
 
-    private static Generator<Long> generateLong(long min, long max) {
+    private static LongGenerator generateLong(long min, long max) {
         checkMinMax(min, max);
         if (min == max) {
-            return constant(min).labeled(Labeling.longInterval(min, max, false));
+            return LongGenerator.longGenerator(constant(min).labeled(Labeling.longInterval(min, max, false)));
         } else if (max == Long.MAX_VALUE) {
             if (min == Long.MIN_VALUE) {
                 return generateLong();
             } else {
                 return generateLongExclusive(min - 1, max)
-                        .fmap(n -> n + 1);
+                        .mapLong(n -> n + 1);
             }
         } else {
             return generateLongExclusive(min, max + 1);
         }
     }
 
-    private static Generator<Long> generateLongExclusive(long bound) {
+    private static LongGenerator generateLongExclusive(long bound) {
         checkBound(bound);
         if (bound <= Integer.MAX_VALUE) {
-            return generateIntExclusive((int) bound).fmap(Integer::longValue);
+            return generateIntExclusive((int) bound).mapToLong(n -> n);
         } else {
             return generateLongExclusive(0, bound);
         }
     }
 
-    static Generator<Long> generateLongExclusiveImpl(long bound,
-                                                     Fn1<GeneratorParameters, BiasSetting<Long>> getBias) {
+    static LongGenerator generateLongExclusiveImpl(long bound,
+                                                   Fn1<GeneratorParameters, BiasSetting<Long>> getBias) {
         checkBound(bound);
         if (bound <= Integer.MAX_VALUE) {
-            return generateIntExclusive((int) bound).fmap(Integer::longValue);
+            return generateIntExclusive((int) bound).mapToLong(n -> n);
         } else {
             return generateLongExclusive(0, bound);
         }
     }
 
-    private static Generator<Long> generateLongExclusive(long origin, long bound) {
+    private static LongGenerator generateLongExclusive(long origin, long bound) {
         return generateLongExclusiveImpl(origin, bound, p -> p.getBiasSettings().longBias(LongRange.exclusive(origin, bound)));
     }
 
-    private static Generator<Long> generateLongExclusiveImpl(long origin, long bound, Fn1<GeneratorParameters, BiasSetting<Long>> getBias) {
+    private static LongGenerator generateLongExclusiveImpl(long origin, long bound, Fn1<GeneratorParameters, BiasSetting<Long>> getBias) {
         checkOriginBound(origin, bound);
 
         if (origin < 0 && bound > 0 && bound > Math.abs(origin - Long.MIN_VALUE)) {
-            return simpleGenerator(nothing(), getBias, input -> unsafeNextLongExclusiveWithOverflow(origin, bound, input));
+            return simpleLongGenerator(nothing(), getBias,
+                    longGenerateFn(cursor -> cursor.unsafeNextLongExclusiveWithOverflow(origin, bound)));
         }
 
         long range = bound - origin;
@@ -202,13 +204,15 @@ final class Primitives {
 
         if ((range & m) == 0L) {
             // power of two
-            return simpleGenerator(nothing(), getBias, input -> unsafeNextLongExclusivePowerOf2(origin, range, input));
+            return simpleLongGenerator(nothing(), getBias,
+                    withDrawCount(ONE_WIDE, longGenerateFn(cursor -> cursor.unsafeNextLongExclusivePowerOf2(origin, range))));
         } else {
-            return simpleGenerator(nothing(), getBias, input -> unsafeNextLongExclusive(origin, range, input));
+            return simpleLongGenerator(nothing(), getBias,
+                    longGenerateFn(cursor -> cursor.unsafeNextLongExclusive(origin, range)));
         }
     }
 
-    static Generator<Long> generateLongIndex(long bound) {
+    static LongGenerator generateLongIndex(long bound) {
         return generateLongExclusiveImpl(bound, constantly(noBias()));
     }
 
@@ -248,7 +252,7 @@ final class Primitives {
                 .toGenerator();
     }
 
-    static Generator<Double> generateGaussian() {
+    static DoubleGenerator generateGaussian() {
         return GaussianGenerator.INSTANCE;
     }
 
@@ -275,23 +279,21 @@ final class Primitives {
     }
 
     static <A> Generator<A> sized(Fn1<Integer, Generator<A>> fn) {
-        return generateSize().flatMap(fn);
+        return Composition.flatMappedByValue(fn, generateSize());
     }
 
-    private static <A> Generator<A> simpleGenerator(Maybe<String> label,
-                                                    Fn1<GeneratorParameters, BiasSetting<A>> getBias,
-                                                    GenerateFn<A> runFn) {
-        return new Generator<A>() {
-            @Override
-            public GenerateFn<A> createGenerateFn(GeneratorParameters generatorParameters) {
-                return Bias.applyBiasSetting(getBias.apply(generatorParameters), runFn);
-            }
+    private static IntGenerator simpleIntGenerator(Maybe<String> label,
+                                                   Fn1<GeneratorParameters, BiasSetting<Integer>> getBias,
+                                                   GenerateFn<Integer> runFn) {
+        return PrimitiveGenerators.intGenerator(label,
+                generatorParameters -> Bias.applyIntBiasSetting(getBias.apply(generatorParameters), runFn));
+    }
 
-            @Override
-            public Maybe<String> getLabel() {
-                return label;
-            }
-        };
+    private static LongGenerator simpleLongGenerator(Maybe<String> label,
+                                                     Fn1<GeneratorParameters, BiasSetting<Long>> getBias,
+                                                     GenerateFn<Long> runFn) {
+        return PrimitiveGenerators.longGenerator(label,
+                generatorParameters -> Bias.applyLongBiasSetting(getBias.apply(generatorParameters), runFn));
     }
 
     private static class BooleanGenerator implements Generator<Boolean> {
@@ -304,7 +306,7 @@ final class Primitives {
 
         @Override
         public GenerateFn<Boolean> createGenerateFn(GeneratorParameters generatorParameters) {
-            return BuildingBlocks::nextBoolean;
+            return withDrawCount(ONE_NARROW, cursorGenerateFn(MutableSeed::nextBoolean));
         }
 
         @Override
@@ -314,15 +316,15 @@ final class Primitives {
 
     }
 
-    private static class DoubleGenerator implements FloatingPointGenerator<Double> {
+    private static class BasicDoubleGenerator implements FloatingPointGenerator<Double>, DoubleGenerator {
         private static final Maybe<String> LABEL = Maybe.just("double");
         private static final DoubleRange DEFAULT_RANGE = DoubleRange.exclusive(1d);
-        private static final DoubleGenerator DEFAULT_DOUBLE_GENERATOR = new DoubleGenerator(nothing(), false, false);
+        private static final BasicDoubleGenerator DEFAULT_DOUBLE_GENERATOR = new BasicDoubleGenerator(nothing(), false, false);
         private final Maybe<DoubleRange> range;
         private final boolean includeNaNs;
         private final boolean includeInfinities;
 
-        private DoubleGenerator(Maybe<DoubleRange> range, boolean includeNaNs, boolean includeInfinities) {
+        private BasicDoubleGenerator(Maybe<DoubleRange> range, boolean includeNaNs, boolean includeInfinities) {
             this.range = range;
             this.includeNaNs = includeNaNs;
             this.includeInfinities = includeInfinities;
@@ -330,7 +332,7 @@ final class Primitives {
 
         @Override
         public GenerateFn<Double> createGenerateFn(GeneratorParameters generatorParameters) {
-            return Bias.applyBiasSetting(buildBiasSetting(generatorParameters),
+            return Bias.applyDoubleBiasSetting(buildBiasSetting(generatorParameters),
                     range.match(__ -> defaultGenerate(),
                             this::constrainedGenerate));
         }
@@ -338,14 +340,14 @@ final class Primitives {
         @Override
         public FloatingPointGenerator<Double> withNaNs(boolean enabled) {
             return (enabled != includeNaNs)
-                    ? new DoubleGenerator(range, enabled, includeInfinities)
+                    ? new BasicDoubleGenerator(range, enabled, includeInfinities)
                     : this;
         }
 
         @Override
         public FloatingPointGenerator<Double> withInfinities(boolean enabled) {
             return (enabled != includeInfinities)
-                    ? new DoubleGenerator(range, includeNaNs, enabled)
+                    ? new BasicDoubleGenerator(range, includeNaNs, enabled)
                     : this;
         }
 
@@ -369,25 +371,20 @@ final class Primitives {
         }
 
         private GenerateFn<Double> defaultGenerate() {
-            return BuildingBlocks::nextDoubleFractional;
+            return withDrawCount(ONE_WIDE, doubleGenerateFn(MutableSeed::nextDoubleFractional));
         }
 
         private GenerateFn<Double> constrainedGenerate(DoubleRange range) {
             double min = range.minInclusive();
             double max = range.maxInclusive();
             if (min == max) {
-                return input -> result(input, min);
+                return doubleGenerateFn(cursor -> min);
             } else if (max == Math.nextAfter(min, Double.POSITIVE_INFINITY)) {
-                return input -> {
-                    Result<Seed, Boolean> booleanResult = BuildingBlocks.nextBoolean(input);
-                    return booleanResult.getValue()
-                            ? result(booleanResult.getNextState(), min)
-                            : result(booleanResult.getNextState(), max);
-                };
+                return doubleGenerateFn(cursor -> cursor.nextBoolean() ? min : max);
             } else {
                 double maxExclusive = range.maxExclusive();
                 double bound = maxExclusive == Double.POSITIVE_INFINITY ? max : maxExclusive;
-                return input -> unsafeNextDoubleBetween(min, bound, input);
+                return withDrawCount(ONE_WIDE, doubleGenerateFn(cursor -> cursor.unsafeNextDoubleBetween(min, bound)));
             }
         }
     }
@@ -447,46 +444,38 @@ final class Primitives {
         }
 
         private GenerateFn<Float> defaultGenerate() {
-            return BuildingBlocks::nextFloatFractional;
+            return withDrawCount(ONE_NARROW, cursorGenerateFn(MutableSeed::nextFloatFractional));
         }
 
         private GenerateFn<Float> constrainedGenerate(FloatRange range) {
             float min = range.minInclusive();
             float max = range.maxInclusive();
             if (min == max) {
-                return input -> result(input, min);
+                return cursorGenerateFn(cursor -> min);
             } else if (max == Math.nextAfter(min, Float.POSITIVE_INFINITY)) {
-                return input -> {
-                    Result<Seed, Boolean> booleanResult = BuildingBlocks.nextBoolean(input);
-                    return booleanResult.getValue()
-                            ? result(booleanResult.getNextState(), min)
-                            : result(booleanResult.getNextState(), max);
-                };
+                return cursorGenerateFn(cursor -> cursor.nextBoolean() ? min : max);
             } else {
                 double bound = Math.nextAfter((double) max, Double.POSITIVE_INFINITY);
-                return input -> {
-                    Result<Seed, Double> doubleResult = unsafeNextDoubleBetween(min, bound, input);
-                    double doubleValue = doubleResult.getValue();
-                    return result(doubleResult.getNextState(), (float) doubleValue);
-                };
+                return withDrawCount(ONE_WIDE,
+                        cursorGenerateFn(cursor -> (float) cursor.unsafeNextDoubleBetween(min, bound)));
             }
         }
     }
 
-    private static class IntGenerator implements Generator<Integer> {
+    private static class FullRangeIntGenerator implements IntGenerator {
         private static final Maybe<String> LABEL = Maybe.just("int");
 
-        private static final IntGenerator INSTANCE = new IntGenerator();
+        private static final FullRangeIntGenerator INSTANCE = new FullRangeIntGenerator();
 
-        private IntGenerator() {
+        private FullRangeIntGenerator() {
         }
 
         @Override
         public GenerateFn<Integer> createGenerateFn(GeneratorParameters generatorParameters) {
 
-            return Bias.applyBiasSetting(generatorParameters.getBiasSettings()
+            return Bias.applyIntBiasSetting(generatorParameters.getBiasSettings()
                             .intBias(IntRange.fullRange()),
-                    BuildingBlocks::nextInt);
+                    withDrawCount(ONE_NARROW, intGenerateFn(MutableSeed::nextInt)));
         }
 
         @Override
@@ -495,19 +484,19 @@ final class Primitives {
         }
     }
 
-    private static class LongGenerator implements Generator<Long> {
+    private static class FullRangeLongGenerator implements LongGenerator {
         private static final Maybe<String> LABEL = Maybe.just("long");
 
-        private static final LongGenerator INSTANCE = new LongGenerator();
+        private static final FullRangeLongGenerator INSTANCE = new FullRangeLongGenerator();
 
-        private LongGenerator() {
+        private FullRangeLongGenerator() {
         }
 
         @Override
         public GenerateFn<Long> createGenerateFn(GeneratorParameters generatorParameters) {
-            return Bias.applyBiasSetting(generatorParameters.getBiasSettings()
+            return Bias.applyLongBiasSetting(generatorParameters.getBiasSettings()
                             .longBias(LongRange.fullRange()),
-                    BuildingBlocks::nextLong);
+                    withDrawCount(ONE_WIDE, longGenerateFn(MutableSeed::nextLong)));
         }
 
         @Override
@@ -516,7 +505,7 @@ final class Primitives {
         }
     }
 
-    private static class GaussianGenerator implements Generator<Double> {
+    private static class GaussianGenerator implements DoubleGenerator {
         private static final Maybe<String> LABEL = Maybe.just("gaussian");
 
         private static final GaussianGenerator INSTANCE = new GaussianGenerator();
@@ -526,7 +515,7 @@ final class Primitives {
 
         @Override
         public GenerateFn<Double> createGenerateFn(GeneratorParameters generatorParameters) {
-            return BuildingBlocks::nextGaussian;
+            return doubleGenerateFn(MutableSeed::nextZigguratGaussian);
         }
 
         @Override
@@ -548,8 +537,9 @@ final class Primitives {
 
         @Override
         public GenerateFn<Byte> createGenerateFn(GeneratorParameters generatorParameters) {
+            Fn1<Integer, Byte> mapper = getMapper();
             return Bias.applyBiasSetting(generatorParameters.getBiasSettings().byteBias(range),
-                    input -> unsafeNextIntBounded(256, input).fmap(getMapper()));
+                    cursorGenerateFn(cursor -> mapper.apply(cursor.unsafeNextIntBounded(256))));
         }
 
         @Override
@@ -581,8 +571,9 @@ final class Primitives {
 
         @Override
         public GenerateFn<Short> createGenerateFn(GeneratorParameters generatorParameters) {
+            Fn1<Integer, Short> mapper = getMapper();
             return Bias.applyBiasSetting(generatorParameters.getBiasSettings().shortBias(range),
-                    input -> unsafeNextIntBounded(65536, input).fmap(getMapper()));
+                    cursorGenerateFn(cursor -> mapper.apply(cursor.unsafeNextIntBounded(65536))));
         }
 
         @Override
@@ -617,7 +608,7 @@ final class Primitives {
             int min = range.minInclusive();
             int span = (range.maxInclusive() - min) + 1;
             return Bias.applyBiasSetting(generatorParameters.getBiasSettings().charBias(range),
-                    input -> unsafeNextIntBounded(span, input).fmap(i -> (char) (min + i)));
+                    cursorGenerateFn(cursor -> (char) (min + cursor.unsafeNextIntBounded(span))));
         }
 
         @Override
@@ -635,16 +626,16 @@ final class Primitives {
 
         @Override
         public GenerateFn<Byte[]> createGenerateFn(GeneratorParameters generatorParameters) {
-            return input -> {
+            return cursorGenerateFn(cursor -> {
                 byte[] buffer = new byte[count];
-                Result<? extends Seed, Unit> next = nextBytes(buffer, input);
+                cursor.nextBytes(buffer);
                 Byte[] result = new Byte[count];
                 int i = 0;
                 for (byte b : buffer) {
                     result[i++] = b;
                 }
-                return next.fmap(__ -> result);
-            };
+                return result;
+            });
         }
 
         @Override
@@ -660,10 +651,10 @@ final class Primitives {
 
         @Override
         public GenerateFn<Seed> createGenerateFn(GeneratorParameters generatorParameters) {
-            return seed -> {
+            return withDrawCount(ONE_WIDE, seed -> {
                 Result<Seed, Long> longResult = BuildingBlocks.nextLong(seed);
-                return result(longResult.getNextState(), Seed.create(longResult.getValue()));
-            };
+                return result(longResult.getNextState(), BuildingBlocks.reseed(longResult.getValue(), seed));
+            });
         }
 
         @Override
@@ -9,8 +9,15 @@ import com.jnape.palatable.lambda.functions.Fn5;
 import com.jnape.palatable.lambda.functions.Fn6;
 import com.jnape.palatable.lambda.functions.Fn7;
 import com.jnape.palatable.lambda.functions.Fn8;
+import dev.marksman.kraftwerk.Mapping.Fusible;
+import dev.marksman.kraftwerk.Optimizer.Optimizable;
 
-import static dev.marksman.kraftwerk.Result.result;
+import java.util.function.Function;
+
+import static dev.marksman.kraftwerk.CursorGenerateFn.cursorGenerateFn;
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.DrawCount.combineDrawCounts;
+import static java.util.function.Function.identity;
 
 final class Products {
     private Products() {
@@ -79,7 +86,7 @@ final class Products {
         return new Product8<>(a, b, c, d, e, f, g, h, combine);
     }
 
-    private static class Product2<A, B, Out> implements Generator<Out> {
+    private static class Product2<A, B, Out> implements Generator<Out>, Fusible<Out>, Optimizable<Out> {
         private static final Maybe<String> LABEL = Maybe.just("product2");
 
         private final Generator<A> a;
@@ -94,15 +101,29 @@ final class Products {
 
         @Override
         public GenerateFn<Out> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createGenerateFn(generatorParameters, identity());
+        }
+
+        @Override
+        public <R> GenerateFn<R> createGenerateFn(GeneratorParameters generatorParameters,
+                                                  Function<? super Out, ? extends R> post) {
             Fn1<Seed, Result<? extends Seed, A>> runA = a.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, B>> runB = b.createGenerateFn(generatorParameters);
-            return input -> {
-                Result<? extends Seed, A> ra = runA.apply(input);
-                Result<? extends Seed, B> rb = runB.apply(ra.getNextState());
-                return result(rb.getNextState(),
-                        combine.apply(ra.getValue(),
-                                rb.getValue()));
-            };
+            return combineDrawCounts(cursorGenerateFn(cursor -> {
+                A a = runWithCursor(runA, cursor);
+                B b = runWithCursor(runB, cursor);
+                return post.apply(combine.apply(a, b));
+            }), runA, runB);
+        }
+
+        @Override
+        public Generator<Out> optimize(Optimizer optimizer) {
+            Generator<A> a = optimizer.rewrite(this.a);
+            Generator<B> b = optimizer.rewrite(this.b);
+            if (a == this.a && b == this.b) {
+                return this;
+            }
+            return new Product2<>(a, b, combine);
         }
 
         @Override
@@ -111,7 +132,7 @@ final class Products {
         }
     }
 
-    private static class Product3<A, B, C, Out> implements Generator<Out> {
+    private static class Product3<A, B, C, Out> implements Generator<Out>, Fusible<Out>, Optimizable<Out> {
         private static final Maybe<String> LABEL = Maybe.just("product3");
 
         private final Generator<A> a;
@@ -128,18 +149,32 @@ final class Products {
 
         @Override
         public GenerateFn<Out> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createGenerateFn(generatorParameters, identity());
+        }
+
+        @Override
+        public <R> GenerateFn<R> createGenerateFn(GeneratorParameters generatorParameters,
+                                                  Function<? super Out, ? extends R> post) {
             Fn1<Seed, Result<? extends Seed, A>> runA = a.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, B>> runB = b.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, C>> runC = c.createGenerateFn(generatorParameters);
-            return input -> {
-                Result<? extends Seed, A> ra = runA.apply(input);
-                Result<? extends Seed, B> rb = runB.apply(ra.getNextState());
-                Result<? extends Seed, C> rc = runC.apply(rb.getNextState());
-                return result(rc.getNextState(),
-                        combine.apply(ra.getValue(),
-                                rb.getValue(),
-                                rc.getValue()));
-            };
+            return combineDrawCounts(cursorGenerateFn(cursor -> {
+                A a = runWithCursor(runA, cursor);
+                B b = runWithCursor(runB, cursor);
+                C c = runWithCursor(runC, cursor);
+                return post.apply(combine.apply(a, b, c));
+            }), runA, runB, runC);
+        }
+
+        @Override
+        public Generator<Out> optimize(Optimizer optimizer) {
+            Generator<A> a = optimizer.rewrite(this.a);
+            Generator<B> b = optimizer.rewrite(this.b);
+            Generator<C> c = optimizer.rewrite(this.c);
+            if (a == this.a && b == this.b && c == this.c) {
+                return this;
+            }
+            return new Product3<>(a, b, c, combine);
         }
 
         @Override
@@ -148,7 +183,7 @@ final class Products {
         }
     }
 
-    private static class Product4<A, B, C, D, Out> implements Generator<Out> {
+    private static class Product4<A, B, C, D, Out> implements Generator<Out>, Fusible<Out>, Optimizable<Out> {
         private static final Maybe<String> LABEL = Maybe.just("product4");
 
         private final Generator<A> a;
@@ -167,21 +202,35 @@ final class Products {
 
         @Override
         public GenerateFn<Out> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createGenerateFn(generatorParameters, identity());
+        }
+
+        @Override
+        public <R> GenerateFn<R> createGenerateFn(GeneratorParameters generatorParameters,
+                                                  Function<? super Out, ? extends R> post) {
             Fn1<Seed, Result<? extends Seed, A>> runA = a.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, B>> runB = b.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, C>> runC = c.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, D>> runD = d.createGenerateFn(generatorParameters);
-            return input -> {
-                Result<? extends Seed, A> ra = runA.apply(input);
-                Result<? extends Seed, B> rb = runB.apply(ra.getNextState());
-                Result<? extends Seed, C> rc = runC.apply(rb.getNextState());
-                Result<? extends Seed, D> rd = runD.apply(rc.getNextState());
-                return result(rd.getNextState(),
-                        combine.apply(ra.getValue(),
-                                rb.getValue(),
-                                rc.getValue(),
-                                rd.getValue()));
-            };
+            return combineDrawCounts(cursorGenerateFn(cursor -> {
+                A a = runWithCursor(runA, cursor);
+                B b = runWithCursor(runB, cursor);
+                C c = runWithCursor(runC, cursor);
+                D d = runWithCursor(runD, cursor);
+                return post.apply(combine.apply(a, b, c, d));
+            }), runA, runB, runC, runD);
+        }
+
+        @Override
+        public Generator<Out> optimize(Optimizer optimizer) {
+            Generator<A> a = optimizer.rewrite(this.a);
+            Generator<B> b = optimizer.rewrite(this.b);
+            Generator<C> c = optimizer.rewrite(this.c);
+            Generator<D> d = optimizer.rewrite(this.d);
+            if (a == this.a && b == this.b && c == this.c && d == this.d) {
+                return this;
+            }
+            return new Product4<>(a, b, c, d, combine);
         }
 
         @Override
@@ -190,7 +239,7 @@ final class Products {
         }
     }
 
-    private static class Product5<A, B, C, D, E, Out> implements Generator<Out> {
+    private static class Product5<A, B, C, D, E, Out> implements Generator<Out>, Fusible<Out>, Optimizable<Out> {
         private static final Maybe<String> LABEL = Maybe.just("product5");
 
         private final Generator<A> a;
@@ -211,24 +260,39 @@ final class Products {
 
         @Override
         public GenerateFn<Out> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createGenerateFn(generatorParameters, identity());
+        }
+
+        @Override
+        public <R> GenerateFn<R> createGenerateFn(GeneratorParameters generatorParameters,
+                                                  Function<? super Out, ? extends R> post) {
             Fn1<Seed, Result<? extends Seed, A>> runA = a.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, B>> runB = b.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, C>> runC = c.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, D>> runD = d.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, E>> runE = e.createGenerateFn(generatorParameters);
-            return input -> {
-                Result<? extends Seed, A> ra = runA.apply(input);
-                Result<? extends Seed, B> rb = runB.apply(ra.getNextState());
-                Result<? extends Seed, C> rc = runC.apply(rb.getNextState());
-                Result<? extends Seed, D> rd = runD.apply(rc.getNextState());
-                Result<? extends Seed, E> re = runE.apply(rd.getNextState());
-                return result(re.getNextState(),
-                        combine.apply(ra.getValue(),
-                                rb.getValue(),
-                                rc.getValue(),
-                                rd.getValue(),
-                                re.getValue()));
-            };
+            return combineDrawCounts(cursorGenerateFn(cursor -> {
+                A a = runWithCursor(runA, cursor);
+                B b = runWithCursor(runB, cursor);
+                C c = runWithCursor(runC, cursor);
+                D d = runWithCursor(runD, cursor);
+                E e = runWithCursor(runE, cursor);
+                return post.apply(combine.apply(a, b, c, d, e));
+            }), runA, runB, runC, runD, runE);
+        }
+
+        @Override
+        public Generator<Out> optimize(Optimizer optimizer) {
+            Generator<A> a = optimizer.rewrite(this.a);
+            Generator<B> b = optimizer.rewrite(this.b);
+            Generator<C> c = optimizer.rewrite(this.c);
+            Generator<D> d = optimizer.rewrite(this.d);
+            Generator<E> e = optimizer.rewrite(this.e);
+            if (a == this.a && b == this.b && c == this.c
+                    && d == this.d && e == this.e) {
+                return this;
+            }
+            return new Product5<>(a, b, c, d, e, combine);
         }
 
         @Override
@@ -237,7 +301,7 @@ final class Products {
         }
     }
 
-    private static class Product6<A, B, C, D, E, F, Out> implements Generator<Out> {
+    private static class Product6<A, B, C, D, E, F, Out> implements Generator<Out>, Fusible<Out>, Optimizable<Out> {
         private static final Maybe<String> LABEL = Maybe.just("product6");
 
         private final Generator<A> a;
@@ -260,27 +324,42 @@ final class Products {
 
         @Override
         public GenerateFn<Out> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createGenerateFn(generatorParameters, identity());
+        }
+
+        @Override
+        public <R> GenerateFn<R> createGenerateFn(GeneratorParameters generatorParameters,
+                                                  Function<? super Out, ? extends R> post) {
             Fn1<Seed, Result<? extends Seed, A>> runA = a.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, B>> runB = b.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, C>> runC = c.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, D>> runD = d.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, E>> runE = e.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, F>> runF = f.createGenerateFn(generatorParameters);
-            return input -> {
-                Result<? extends Seed, A> ra = runA.apply(input);
-                Result<? extends Seed, B> rb = runB.apply(ra.getNextState());
-                Result<? extends Seed, C> rc = runC.apply(rb.getNextState());
-                Result<? extends Seed, D> rd = runD.apply(rc.getNextState());
-                Result<? extends Seed, E> re = runE.apply(rd.getNextState());
-                Result<? extends Seed, F> rf = runF.apply(re.getNextState());
-                return result(rf.getNextState(),
-                        combine.apply(ra.getValue(),
-                                rb.getValue(),
-                                rc.getValue(),
-                                rd.getValue(),
-                                re.getValue(),
-                                rf.getValue()));
-            };
+            return combineDrawCounts(cursorGenerateFn(cursor -> {
+                A a = runWithCursor(runA, cursor);
+                B b = runWithCursor(runB, cursor);
+                C c = runWithCursor(runC, cursor);
+                D d = runWithCursor(runD, cursor);
+                E e = runWithCursor(runE, cursor);
+                F f = runWithCursor(runF, cursor);
+                return post.apply(combine.apply(a, b, c, d, e, f));
+            }), runA, runB, runC, runD, runE, runF);
+        }
+
+        @Override
+        public Generator<Out> optimize(Optimizer optimizer) {
+            Generator<A> a = optimizer.rewrite(this.a);
+            Generator<B> b = optimizer.rewrite(this.b);
+            Generator<C> c = optimizer.rewrite(this.c);
+            Generator<D> d = optimizer.rewrite(this.d);
+            Generator<E> e = optimizer.rewrite(this.e);
+            Generator<F> f = optimizer.rewrite(this.f);
+            if (a == this.a && b == this.b && c == this.c
+                    && d == this.d && e == this.e && f == this.f) {
+                return this;
+            }
+            return new Product6<>(a, b, c, d, e, f, combine);
         }
 
         @Override
@@ -289,7 +368,7 @@ final class Products {
         }
     }
 
-    private static class Product7<A, B, C, D, E, F, G, Out> implements Generator<Out> {
+    private static class Product7<A, B, C, D, E, F, G, Out> implements Generator<Out>, Fusible<Out>, Optimizable<Out> {
         private static final Maybe<String> LABEL = Maybe.just("product7");
 
         private final Generator<A> a;
@@ -314,6 +393,12 @@ final class Products {
 
         @Override
         public GenerateFn<Out> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createGenerateFn(generatorParameters, identity());
+        }
+
+        @Override
+        public <R> GenerateFn<R> createGenerateFn(GeneratorParameters generatorParameters,
+                                                  Function<? super Out, ? extends R> post) {
             Fn1<Seed, Result<? extends Seed, A>> runA = a.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, B>> runB = b.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, C>> runC = c.createGenerateFn(generatorParameters);
@@ -321,23 +406,32 @@ final class Products {
             Fn1<Seed, Result<? extends Seed, E>> runE = e.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, F>> runF = f.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, G>> runG = g.createGenerateFn(generatorParameters);
-            return input -> {
-                Result<? extends Seed, A> ra = runA.apply(input);
-                Result<? extends Seed, B> rb = runB.apply(ra.getNextState());
-                Result<? extends Seed, C> rc = runC.apply(rb.getNextState());
-                Result<? extends Seed, D> rd = runD.apply(rc.getNextState());
-                Result<? extends Seed, E> re = runE.apply(rd.getNextState());
-                Result<? extends Seed, F> rf = runF.apply(re.getNextState());
-                Result<? extends Seed, G> rg = runG.apply(rf.getNextState());
-                return result(rg.getNextState(),
-                        combine.apply(ra.getValue(),
-                                rb.getValue(),
-                                rc.getValue(),
-                                rd.getValue(),
-                                re.getValue(),
-                                rf.getValue(),
-                                rg.getValue()));
-            };
+            return combineDrawCounts(cursorGenerateFn(cursor -> {
+                A a = runWithCursor(runA, cursor);
+                B b = runWithCursor(runB, cursor);
+                C c = runWithCursor(runC, cursor);
+                D d = runWithCursor(runD, cursor);
+                E e = runWithCursor(runE, cursor);
+                F f = runWithCursor(runF, cursor);
+                G g = runWithCursor(runG, cursor);
+                return post.apply(combine.apply(a, b, c, d, e, f, g));
+            }), runA, runB, runC, runD, runE, runF, runG);
+        }
+
+        @Override
+        public Generator<Out> optimize(Optimizer optimizer) {
+            Generator<A> a = optimizer.rewrite(this.a);
+            Generator<B> b = optimizer.rewrite(this.b);
+            Generator<C> c = optimizer.rewrite(this.c);
+            Generator<D> d = optimizer.rewrite(this.d);
+            Generator<E> e = optimizer.rewrite(this.e);
+            Generator<F> f = optimizer.rewrite(this.f);
+            Generator<G> g = optimizer.rewrite(this.g);
+            if (a == this.a && b == this.b && c == this.c && d == this.d
+                    && e == this.e && f == this.f && g == this.g) {
+                return this;
+            }
+            return new Product7<>(a, b, c, d, e, f, g, combine);
         }
 
         @Override
@@ -346,7 +440,7 @@ final class Products {
         }
     }
 
-    private static class Product8<A, B, C, D, E, F, G, H, Out> implements Generator<Out> {
+    private static class Product8<A, B, C, D, E, F, G, H, Out> implements Generator<Out>, Fusible<Out>, Optimizable<Out> {
         private static final Maybe<String> LABEL = Maybe.just("product8");
 
         private final Generator<A> a;
@@ -373,6 +467,12 @@ final class Products {
 
         @Override
         public GenerateFn<Out> createGenerateFn(GeneratorParameters generatorParameters) {
+            return createGenerateFn(generatorParameters, identity());
+        }
+
+        @Override
+        public <R> GenerateFn<R> createGenerateFn(GeneratorParameters generatorParameters,
+                                                  Function<? super Out, ? extends R> post) {
             Fn1<Seed, Result<? extends Seed, A>> runA = a.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, B>> runB = b.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, C>> runC = c.createGenerateFn(generatorParameters);
@@ -381,25 +481,34 @@ final class Products {
             Fn1<Seed, Result<? extends Seed, F>> runF = f.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, G>> runG = g.createGenerateFn(generatorParameters);
             Fn1<Seed, Result<? extends Seed, H>> runH = h.createGenerateFn(generatorParameters);
-            return input -> {
-                Result<? extends Seed, A> ra = runA.apply(input);
-                Result<? extends Seed, B> rb = runB.apply(ra.getNextState());
-                Result<? extends Seed, C> rc = runC.apply(rb.getNextState());
-                Result<? extends Seed, D> rd = runD.apply(rc.getNextState());
-                Result<? extends Seed, E> re = runE.apply(rd.getNextState());
-                Result<? extends Seed, F> rf = runF.apply(re.getNextState());
-                Result<? extends Seed, G> rg = runG.apply(rf.getNextState());
-                Result<? extends Seed, H> rh = runH.apply(rg.getNextState());
-                return result(rh.getNextState(),
-                        combine.apply(ra.getValue(),
-                                rb.getValue(),
-                                rc.getValue(),
-                                rd.getValue(),
-                                re.getValue(),
-                                rf.getValue(),
-                                rg.getValue(),
-                                rh.getValue()));
-            };
+            return combineDrawCounts(cursorGenerateFn(cursor -> {
+                A a = runWithCursor(runA, cursor);
+                B b = runWithCursor(runB, cursor);
+                C c = runWithCursor(runC, cursor);
+                D d = runWithCursor(runD, cursor);
+                E e = runWithCursor(runE, cursor);
+                F f = runWithCursor(runF, cursor);
+                G g = runWithCursor(runG, cursor);
+                H h = runWithCursor(runH, cursor);
+                return post.apply(combine.apply(a, b, c, d, e, f, g, h));
+            }), runA, runB, runC, runD, runE, runF, runG, runH);
+        }
+
+        @Override
+        public Generator<Out> optimize(Optimizer optimizer) {
+            Generator<A> a = optimizer.rewrite(this.a);
+            Generator<B> b = optimizer.rewrite(this.b);
+            Generator<C> c = optimizer.rewrite(this.c);
+            Generator<D> d = optimizer.rewrite(this.d);
+            Generator<E> e = optimizer.rewrite(this.e);
+            Generator<F> f = optimizer.rewrite(this.f);
+            Generator<G> g = optimizer.rewrite(this.g);
+            Generator<H> h = optimizer.rewrite(this.h);
+            if (a == this.a && b == this.b && c == this.c && d == this.d
+                    && e == this.e && f == this.f && g == this.g && h == this.h) {
+                return this;
+            }
+            return new Product8<>(a, b, c, d, e, f, g, h, combine);
         }
 
         @Override
@@ -0,0 +1,121 @@
+package dev.marksman.kraftwerk;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded single-producer, single-consumer queue.
+ * <p>
+ * Neither side takes a lock.  A side that finds the buffer full (or empty) parks until the other side makes room
+ * (or adds an element), or until the buffer is closed.  {@code null} elements are permitted.
+ * <p>
+ * Each side publishes its index with a volatile write before checking whether the other side is parked; a lazy
+ * write here could let both sides miss each other and park forever.
+ */
+final class RingBuffer<A> {
+    private static final Object NULL = new Object();
+    private static final Object CLOSED = new Object();
+
+    private final Object[] slots;
+    private final int mask;
+    private final AtomicLong head;
+    private final AtomicLong tail;
+    private volatile boolean closed;
+    private volatile Thread waitingProducer;
+    private volatile Thread waitingConsumer;
+
+    private RingBuffer(int capacity) {
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Object[size];
+        this.mask = size - 1;
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+    }
+
+    static <A> RingBuffer<A> ringBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be >= 1 and <= 2^30");
+        }
+        return new RingBuffer<>(capacity);
+    }
+
+    /**
+     * Adds an element, waiting for room if necessary.  Called only by the producer.
+     *
+     * @return false if the buffer was closed before the element could be added
+     */
+    boolean put(A element) {
+        long t = tail.get();
+        while (t - head.get() == slots.length) {
+            if (closed) {
+                return false;
+            }
+            waitingProducer = Thread.currentThread();
+            if (t - head.get() == slots.length && !closed) {
+                LockSupport.park(this);
+            }
+            waitingProducer = null;
+        }
+        slots[(int) t & mask] = element == null ? NULL : element;
+        tail.set(t + 1);
+        Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the next element, waiting for one if necessary.  Called only by the consumer.
+     *
+     * @return the element, or {@link RingBuffer#CLOSED} if the buffer was closed and has been drained
+     */
+    Object take() {
+        long h = head.get();
+        while (h == tail.get()) {
+            if (closed) {
+                return h == tail.get() ? CLOSED : slotAt(h);
+            }
+            waitingConsumer = Thread.currentThread();
+            if (h == tail.get() && !closed) {
+                LockSupport.park(this);
+            }
+            waitingConsumer = null;
+        }
+        return slotAt(h);
+    }
+
+    static boolean isClosedMarker(Object element) {
+        return element == CLOSED;
+    }
+
+    /**
+     * Closes the buffer, waking both sides.  Elements already added can still be taken.
+     */
+    void close() {
+        closed = true;
+        Thread producer = waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+        Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private Object slotAt(long h) {
+        int index = (int) h & mask;
+        Object element = slots[index];
+        slots[index] = null;
+        head.set(h + 1);
+        Thread producer = waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+        return element == NULL ? null : element;
+    }
+}
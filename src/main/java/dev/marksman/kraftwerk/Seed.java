@@ -1,5 +1,8 @@
 package dev.marksman.kraftwerk;
 
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import dev.marksman.kraftwerk.core.BuildingBlocks;
+import dev.marksman.kraftwerk.core.SeedEncoding;
 import dev.marksman.kraftwerk.core.StandardSeed;
 
 import java.util.Random;
@@ -31,6 +34,47 @@ public interface Seed {
      */
     Seed setNextSeedValue(long value);
 
+    /**
+     * Splits this {@code Seed} into two child {@code Seed}s of the same {@link Engine}, whose sequences are
+     * statistically independent of each other and of this {@code Seed}.
+     * <p>
+     * Splitting is deterministic; the same {@code Seed} will always yield the same children.  This makes it possible
+     * to divide work among multiple threads while still producing reproducible results.
+     * <p>
+     * Note that the {@link Engine#STANDARD} engine only has 48 bits of state, so its children are merely
+     * different positions in the same sequence.  Prefer one of the 64-bit engines for large-scale parallel generation.
+     *
+     * @return a {@code Tuple2<Seed, Seed>}
+     */
+    default Tuple2<Seed, Seed> split() {
+        return BuildingBlocks.split(this);
+    }
+
+    /**
+     * Returns the {@code Seed} that results from stepping the underlying {@link Engine} of this {@code Seed}
+     * {@code steps} times.  This takes time logarithmic in {@code steps}.
+     *
+     * @param steps the number of steps; must be &gt;= 0
+     * @return a {@code Seed}
+     */
+    default Seed advance(long steps) {
+        return BuildingBlocks.advance(steps, this);
+    }
+
+    /**
+     * Encodes the complete state of this {@code Seed} in a compact binary form, which can be restored
+     * using {@link Seed#fromBytes(byte[])}.
+     * <p>
+     * The encoding is versioned, and will remain readable by future versions of this library.
+     *
+     * @return a {@code byte[]}
+     * @throws IllegalArgumentException if this is not one of the {@code Seed} implementations
+     *                                  provided by this library
+     */
+    default byte[] toBytes() {
+        return SeedEncoding.encodeSeed(this);
+    }
+
     /**
      * Instantiates a {@code Seed}.
      *
@@ -44,6 +88,18 @@ public interface Seed {
         return StandardSeed.initStandardSeed(value);
     }
 
+    /**
+     * Instantiates a {@code Seed} backed by a specific {@link Engine}.
+     *
+     * @param engine the {@code Engine}
+     * @param value  the value used to initialize the inner state of the {@code Seed}.
+     *               The same value will always result in the same internal state.
+     * @return a {@code Seed}
+     */
+    static Seed create(Engine engine, long value) {
+        return engine.createSeed(value);
+    }
+
     /**
      * Randomly generates a {@code Seed}.
      *
@@ -52,4 +108,25 @@ public interface Seed {
     static Seed random() {
         return create(new Random().nextLong());
     }
+
+    /**
+     * Randomly generates a {@code Seed} backed by a specific {@link Engine}.
+     *
+     * @param engine the {@code Engine}
+     * @return a {@code Seed}
+     */
+    static Seed random(Engine engine) {
+        return engine.randomSeed();
+    }
+
+    /**
+     * Restores a {@code Seed} that was encoded using {@link Seed#toBytes()}.
+     *
+     * @param bytes the encoded {@code Seed}
+     * @return a {@code Seed} equal to the one that was encoded
+     * @throws IllegalArgumentException if {@code bytes} is not a valid encoding
+     */
+    static Seed fromBytes(byte[] bytes) {
+        return SeedEncoding.decodeSeed(bytes);
+    }
 }
@@ -7,19 +7,24 @@ import static dev.marksman.kraftwerk.bias.EmptyBiasSettings.emptyBiasSettings;
 
 
 final class StandardGeneratorParameters implements GeneratorParameters {
+    private static final int DEFAULT_FLAT_MAP_CACHE_SIZE = 0;
+
     private static final StandardGeneratorParameters DEFAULT_PARAMETERS = standardGeneratorParameters(noSizeLimits(),
-            emptyBiasSettings());
+            emptyBiasSettings(), DEFAULT_FLAT_MAP_CACHE_SIZE);
 
     private final SizeParameters sizeParameters;
     private final BiasSettings biasSettings;
+    private final int flatMapCacheSize;
 
-    private StandardGeneratorParameters(SizeParameters sizeParameters, BiasSettings biasSettings) {
+    private StandardGeneratorParameters(SizeParameters sizeParameters, BiasSettings biasSettings, int flatMapCacheSize) {
         this.sizeParameters = sizeParameters;
         this.biasSettings = biasSettings;
+        this.flatMapCacheSize = flatMapCacheSize;
     }
 
-    private static StandardGeneratorParameters standardGeneratorParameters(SizeParameters sizeParameters, BiasSettings biasSettings) {
-        return new StandardGeneratorParameters(sizeParameters, biasSettings);
+    private static StandardGeneratorParameters standardGeneratorParameters(SizeParameters sizeParameters, BiasSettings biasSettings,
+                                                                           int flatMapCacheSize) {
+        return new StandardGeneratorParameters(sizeParameters, biasSettings, flatMapCacheSize);
     }
 
     public static StandardGeneratorParameters defaultGeneratorParameters() {
@@ -28,17 +33,25 @@ final class StandardGeneratorParameters implements GeneratorParameters {
 
     @Override
     public GeneratorParameters withSizeParameters(SizeParameters sizeParameters) {
-        return standardGeneratorParameters(sizeParameters, biasSettings);
+        return standardGeneratorParameters(sizeParameters, biasSettings, flatMapCacheSize);
     }
 
     @Override
     public GeneratorParameters withBiasSettings(BiasSettings biasSettings) {
-        return standardGeneratorParameters(sizeParameters, biasSettings);
+        return standardGeneratorParameters(sizeParameters, biasSettings, flatMapCacheSize);
     }
 
     @Override
     public GeneratorParameters withNoBias() {
-        return standardGeneratorParameters(sizeParameters, emptyBiasSettings());
+        return standardGeneratorParameters(sizeParameters, emptyBiasSettings(), flatMapCacheSize);
+    }
+
+    @Override
+    public GeneratorParameters withFlatMapCacheSize(int flatMapCacheSize) {
+        if (flatMapCacheSize < 0) {
+            throw new IllegalArgumentException("flatMapCacheSize must be >= 0");
+        }
+        return standardGeneratorParameters(sizeParameters, biasSettings, flatMapCacheSize);
     }
 
     public SizeParameters getSizeParameters() {
@@ -48,4 +61,8 @@ final class StandardGeneratorParameters implements GeneratorParameters {
     public BiasSettings getBiasSettings() {
         return this.biasSettings;
     }
+
+    public int getFlatMapCacheSize() {
+        return this.flatMapCacheSize;
+    }
 }
@@ -0,0 +1,76 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.kraftwerk.core.BinomialSampler;
+import dev.marksman.kraftwerk.core.GammaSampler;
+import dev.marksman.kraftwerk.core.PoissonSampler;
+import dev.marksman.kraftwerk.core.ZipfSampler;
+import dev.marksman.kraftwerk.distributions.BinomialParameters;
+import dev.marksman.kraftwerk.distributions.ExponentialParameters;
+import dev.marksman.kraftwerk.distributions.GammaParameters;
+import dev.marksman.kraftwerk.distributions.LogNormalParameters;
+import dev.marksman.kraftwerk.distributions.ParetoParameters;
+import dev.marksman.kraftwerk.distributions.PoissonParameters;
+import dev.marksman.kraftwerk.distributions.ZipfParameters;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Constantly.constantly;
+import static dev.marksman.kraftwerk.DoubleGenerateFn.doubleGenerateFn;
+import static dev.marksman.kraftwerk.DrawCount.ONE_WIDE;
+import static dev.marksman.kraftwerk.DrawCount.withDrawCount;
+import static dev.marksman.kraftwerk.IntGenerateFn.intGenerateFn;
+import static dev.marksman.kraftwerk.LongGenerateFn.longGenerateFn;
+import static dev.marksman.kraftwerk.core.BinomialSampler.binomialSampler;
+import static dev.marksman.kraftwerk.core.GammaSampler.gammaSampler;
+import static dev.marksman.kraftwerk.core.PoissonSampler.poissonSampler;
+import static dev.marksman.kraftwerk.core.ZipfSampler.zipfSampler;
+
+final class StatisticalDistributions {
+
+    private StatisticalDistributions() {
+
+    }
+
+    static DoubleGenerator generateExponential(ExponentialParameters parameters) {
+        double mean = 1 / parameters.getRate();
+        return sampling("exponential",
+                withDrawCount(ONE_WIDE, doubleGenerateFn(cursor -> cursor.nextExponential() * mean)));
+    }
+
+    static DoubleGenerator generateGamma(GammaParameters parameters) {
+        GammaSampler sampler = gammaSampler(parameters.getShape(), parameters.getScale());
+        return sampling("gamma", doubleGenerateFn(sampler::sample));
+    }
+
+    static LongGenerator generatePoisson(PoissonParameters parameters) {
+        PoissonSampler sampler = poissonSampler(parameters.getMean());
+        return PrimitiveGenerators.longGenerator(just("poisson"), constantly(longGenerateFn(sampler::sample)));
+    }
+
+    static IntGenerator generateBinomial(BinomialParameters parameters) {
+        BinomialSampler sampler = binomialSampler(parameters.getTrials(), parameters.getProbability());
+        return PrimitiveGenerators.intGenerator(just("binomial"), constantly(intGenerateFn(sampler::sample)));
+    }
+
+    static DoubleGenerator generateLogNormal(LogNormalParameters parameters) {
+        double mu = parameters.getMu();
+        double sigma = parameters.getSigma();
+        return sampling("log-normal",
+                doubleGenerateFn(cursor -> Math.exp(mu + sigma * cursor.nextZigguratGaussian())));
+    }
+
+    static DoubleGenerator generatePareto(ParetoParameters parameters) {
+        double scale = parameters.getScale();
+        double inverseShape = 1 / parameters.getShape();
+        return sampling("pareto",
+                withDrawCount(ONE_WIDE, doubleGenerateFn(cursor -> scale * Math.exp(cursor.nextExponential() * inverseShape))));
+    }
+
+    static LongGenerator generateZipf(ZipfParameters parameters) {
+        ZipfSampler sampler = zipfSampler(parameters.getElementCount(), parameters.getExponent());
+        return PrimitiveGenerators.longGenerator(just("zipf"), constantly(longGenerateFn(sampler::sample)));
+    }
+
+    private static DoubleGenerator sampling(String label, GenerateFn<Double> generateFn) {
+        return PrimitiveGenerators.doubleGenerator(just(label), constantly(generateFn));
+    }
+}
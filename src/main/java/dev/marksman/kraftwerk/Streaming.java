@@ -0,0 +1,76 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import dev.marksman.kraftwerk.constraints.IntRange;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static dev.marksman.kraftwerk.Collections.withCollectionSize;
+import static dev.marksman.kraftwerk.DrawCount.drawCount;
+import static dev.marksman.kraftwerk.DrawCount.withDrawCount;
+import static dev.marksman.kraftwerk.Result.result;
+import static dev.marksman.kraftwerk.ValueSupplySpliterator.boundedValueSupplySpliterator;
+
+/**
+ * Generators for finite {@link Stream}s, whose elements are generated as the {@code Stream} is consumed.
+ * <p>
+ * If the element {@link Generator} makes a fixed number of draws per value, a {@code Stream} yields exactly the
+ * elements of the corresponding fixed-size collection, and the next {@link Seed} is found by jumping ahead with
+ * {@link Seed#advance(long)}, so sequencing does not wait for the {@code Stream} to be consumed.  Otherwise, the
+ * {@code Seed} is split: the {@code Stream} draws from one child, and generation continues from the other.
+ */
+final class Streaming {
+    private Streaming() {
+    }
+
+    static <A> Generator<Stream<A>> generateStream(Generator<A> gen) {
+        return Generators.sized(size -> generateStreamOfSize(size, gen));
+    }
+
+    static <A> Generator<Stream<A>> generateStreamOfSize(int size, Generator<A> gen) {
+        Preconditions.requireNaturalSize(size);
+        return new StreamOfSize<>(size, gen);
+    }
+
+    static <A> Generator<Stream<A>> generateStreamOfSize(IntRange sizeRange, Generator<A> gen) {
+        Preconditions.requireNaturalSize(sizeRange);
+        return withCollectionSize(sizeRange, size -> generateStreamOfSize(size, gen));
+    }
+
+    private static final class StreamOfSize<A> implements Generator<Stream<A>> {
+        private final int size;
+        private final Generator<A> elements;
+
+        private StreamOfSize(int size, Generator<A> elements) {
+            this.size = size;
+            this.elements = elements;
+        }
+
+        @Override
+        public GenerateFn<Stream<A>> createGenerateFn(GeneratorParameters generatorParameters) {
+            GenerateFn<A> elementFn = elements.createGenerateFn(generatorParameters);
+            DrawCount perElement = drawCount(elementFn).orElse(null);
+            if (perElement != null) {
+                DrawCount total = perElement.times(size);
+                return withDrawCount(total, input ->
+                        result(input.advance(total.steps(input)), stream(elementFn, input)));
+            } else {
+                return input -> {
+                    Tuple2<Seed, Seed> children = input.split();
+                    return result(children._2(), stream(elementFn, children._1()));
+                };
+            }
+        }
+
+        @Override
+        public Maybe<String> getLabel() {
+            return Maybe.just("stream[" + size + "]");
+        }
+
+        private Stream<A> stream(GenerateFn<A> elementFn, Seed initialState) {
+            return StreamSupport.stream(boundedValueSupplySpliterator(elementFn, initialState, size), false);
+        }
+    }
+}
@@ -72,7 +72,7 @@ final class Strings {
         if (length <= 0) return constant("");
         else if (length == 1) return g.fmap(Object::toString);
         else {
-            return aggregate(charAggregator(), length, g);
+            return aggregate(charAggregator(length), length, g);
         }
     }
 
@@ -128,7 +128,7 @@ final class Strings {
     }
 
     static Generator<String> generateIdentifier(IntRange lengthRange) {
-        return generateLengthForString(lengthRange).flatMap(Strings::generateIdentifier);
+        return Composition.flatMappedByValue(Strings::generateIdentifier, generateLengthForString(lengthRange));
     }
 
     static Generator<String> generateAlphaString() {
@@ -3,6 +3,8 @@ package dev.marksman.kraftwerk;
 import com.jnape.palatable.lambda.functions.Fn2;
 import dev.marksman.kraftwerk.core.BuildingBlocks;
 
+import static dev.marksman.kraftwerk.DrawCount.ONE_NARROW;
+import static dev.marksman.kraftwerk.DrawCount.withDrawCount;
 import static dev.marksman.kraftwerk.Result.result;
 
 final class Tap {
@@ -13,11 +15,11 @@ final class Tap {
                                    Fn2<GenerateFn<A>, Seed, B> f) {
         return parameters -> {
             GenerateFn<A> runA = gen.createGenerateFn(parameters);
-            return input -> {
+            return withDrawCount(ONE_NARROW, input -> {
                 Seed nextState = BuildingBlocks.nextInt(input).getNextState();
                 return result(nextState,
                         f.apply(runA, input));
-            };
+            });
         };
     }
 }
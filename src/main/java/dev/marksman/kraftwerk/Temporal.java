@@ -56,7 +56,8 @@ final class Temporal {
     static Generator<LocalDate> generateLocalDateForYear(Year year) {
         // Choosing a month, then a day for that month, rather than just choosing a day of the year.
         // This is to allow bias towards the first and last days of each month, if bias is enabled.
-        return generateMonth().flatMap(month -> generateLocalDateForMonth(YearMonth.of(year.getValue(), month)));
+        return Composition.flatMappedByValue(month -> generateLocalDateForMonth(YearMonth.of(year.getValue(), month)),
+                generateMonth());
     }
 
     static Generator<LocalDate> generateLocalDateForMonth(YearMonth yearMonth) {
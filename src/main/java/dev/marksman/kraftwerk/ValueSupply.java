@@ -3,11 +3,21 @@ package dev.marksman.kraftwerk;
 import com.jnape.palatable.lambda.functions.Fn1;
 import dev.marksman.enhancediterables.ImmutableIterable;
 import dev.marksman.enhancediterables.ImmutableNonEmptyIterable;
+import dev.marksman.kraftwerk.core.MutableSeed;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.RingBuffer.ringBuffer;
+import static dev.marksman.kraftwerk.ValueSupplySpliterator.valueSupplySpliterator;
+import static dev.marksman.kraftwerk.core.MutableSeed.mutableSeed;
+
 /**
  * An infinite sequence of values of type {@code A}.
  * <p>
@@ -21,11 +31,13 @@ import java.util.stream.StreamSupport;
  */
 public final class ValueSupply<A> implements ImmutableNonEmptyIterable<A> {
     private final Fn1<Seed, Result<? extends Seed, A>> gen;
+    private final Seed initialState;
     private final A firstValue;
     private final Seed state;
 
     private ValueSupply(Fn1<Seed, Result<? extends Seed, A>> gen, Seed initialState) {
         this.gen = gen;
+        this.initialState = initialState;
         Result<? extends Seed, A> r1 = gen.apply(initialState);
         this.firstValue = r1.getValue();
         this.state = r1.getNextState();
@@ -42,24 +54,110 @@ public final class ValueSupply<A> implements ImmutableNonEmptyIterable<A> {
 
     @Override
     public ImmutableIterable<A> tail() {
-        return () -> new TailIterator<>(gen, state);
+        return () -> new Cursor<>(gen, state);
     }
 
     @Override
     public ValueSupply<A> drop(int count) {
+        return drop((long) count);
+    }
+
+    /**
+     * Returns a {@code ValueSupply} that skips the first {@code count} values of this one.
+     * <p>
+     * If the underlying {@link GenerateFn} consumes a fixed number of engine steps per value (true of most
+     * primitive generators, and of {@code fmap}s and products of them), this seeks directly to the new position
+     * using {@link Seed#advance(long)}, in time logarithmic in {@code count}.  Otherwise, the skipped values
+     * are generated and discarded.
+     *
+     * @param count the number of values to skip
+     * @return a {@code ValueSupply<A>}
+     */
+    public ValueSupply<A> drop(long count) {
         if (count <= 0) {
             return this;
-        } else {
-            Seed current = state;
-            for (int i = 0; i < count; i++) {
-                current = gen.apply(current).getNextState();
-            }
-            return new ValueSupply<>(gen, current);
         }
+        // state is already positioned after the head
+        long remaining = count - 1;
+        Seed current = DrawCount.drawCount(gen)
+                .match(__ -> replay(remaining),
+                        drawCount -> state.advance(drawCount.steps(state) * remaining));
+        return new ValueSupply<>(gen, current);
+    }
+
+    /**
+     * Returns a {@link Seed} from which this {@code ValueSupply} can be recreated, in constant time, by running the
+     * same {@link Generator} (with the same {@link GeneratorParameters}) against it.
+     * <p>
+     * Use {@link Seed#toBytes()} to persist the checkpoint.
+     *
+     * @return a {@code Seed}
+     */
+    public Seed checkpoint() {
+        return initialState;
+    }
+
+    /**
+     * Returns a {@link Cursor} over the values of this {@code ValueSupply}, whose position can be checkpointed
+     * at any time.
+     * <p>
+     * A {@code Cursor} is meant for a single consumer, and is not thread-safe.  To pull values from multiple
+     * threads, use {@link ValueSupply#sharedCursor()}.
+     *
+     * @return a {@code ValueSupply.Cursor<A>}
+     */
+    public Cursor<A> cursor() {
+        return new Cursor<>(gen, initialState);
+    }
+
+    /**
+     * Returns a {@link SharedCursor} over the values of this {@code ValueSupply}, which multiple threads can pull
+     * from at once without locking.  Together, the threads receive each value of the sequence exactly once.
+     *
+     * @return a {@code ValueSupply.SharedCursor<A>}
+     */
+    public SharedCursor<A> sharedCursor() {
+        return new SharedCursor<>(gen, initialState);
+    }
+
+    /**
+     * Returns a {@link Prefetching} iterator over the values of this {@code ValueSupply}, whose values are generated
+     * ahead of time by a background task on {@code executor}.
+     * <p>
+     * The background task keeps up to {@code capacity} values ready, and waits whenever that many are unconsumed.
+     * The values, and their order, are the same as those of this {@code ValueSupply}.  Close the iterator when
+     * finished with it, to stop the background task.
+     *
+     * @param capacity the maximum number of values to generate ahead; must be &gt;= 1
+     * @param executor the {@code Executor} to run the background task on
+     * @return a {@code ValueSupply.Prefetching<A>}
+     */
+    public Prefetching<A> prefetching(int capacity, Executor executor) {
+        Prefetching<A> prefetching = new Prefetching<>(ringBuffer(capacity));
+        executor.execute(() -> prefetching.produce(gen, initialState));
+        return prefetching;
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the values of this {@code ValueSupply}.
+     * <p>
+     * The {@code Spliterator} can be split for parallel processing, and preserves encounter order: a parallel
+     * stream over it yields the same values, in the same order, as a sequential one.  Splitting is cheapest for
+     * generators that consume a fixed number of engine steps per value, which can jump ahead with
+     * {@link Seed#advance(long)} instead of generating the values being handed off.
+     *
+     * @return a {@code Spliterator<A>}
+     */
+    @Override
+    public Spliterator<A> spliterator() {
+        return valueSupplySpliterator(gen, initialState);
     }
 
     /**
      * Creates a {@link Stream} from this {@code ValueSupply}.
+     * <p>
+     * The stream is sequential, but can be made parallel with {@link Stream#parallel()}; see
+     * {@link ValueSupply#spliterator()}.
      *
      * @return a {@code Stream<A>}
      */
@@ -67,13 +165,32 @@ public final class ValueSupply<A> implements ImmutableNonEmptyIterable<A> {
         return StreamSupport.stream(spliterator(), false);
     }
 
-    private static class TailIterator<A> implements Iterator<A> {
+    private Seed replay(long count) {
+        MutableSeed cursor = mutableSeed(state);
+        for (long i = 0; i < count; i++) {
+            runWithCursor(gen, cursor);
+        }
+        return cursor.toSeed();
+    }
+
+    /**
+     * An {@link Iterator} over the values of a {@link ValueSupply}, that can report its position as a {@link Seed}.
+     * <p>
+     * For long-running jobs, persist {@link Cursor#checkpoint()} (e.g., using {@link Seed#toBytes()}) along with the
+     * job's progress.  To resume, run the same {@link Generator} against the restored {@code Seed}; the resulting
+     * {@code ValueSupply} continues exactly where this {@code Cursor} left off, without replaying any values.
+     * <p>
+     * A {@code Cursor} is not thread-safe.  To share a sequence between threads, use a {@link SharedCursor}.
+     *
+     * @param <A> the element type
+     */
+    public static final class Cursor<A> implements Iterator<A> {
         private final Fn1<Seed, Result<? extends Seed, A>> gen;
-        private Seed state;
+        private final MutableSeed cursor;
 
-        private TailIterator(Fn1<Seed, Result<? extends Seed, A>> gen, Seed state) {
+        private Cursor(Fn1<Seed, Result<? extends Seed, A>> gen, Seed state) {
             this.gen = gen;
-            this.state = state;
+            this.cursor = mutableSeed(state);
         }
 
         @Override
@@ -83,13 +200,131 @@ public final class ValueSupply<A> implements ImmutableNonEmptyIterable<A> {
 
         @Override
         public A next() {
-            Result<? extends Seed, A> run;
-            synchronized (this) {
-                run = this.gen.apply(state);
-                state = run.getNextState();
+            return runWithCursor(gen, cursor);
+        }
+
+        /**
+         * Returns a {@link Seed} from which the remaining values of this {@code Cursor} can be regenerated.
+         *
+         * @return a {@code Seed}
+         */
+        public Seed checkpoint() {
+            return cursor.toSeed();
+        }
+    }
+
+    /**
+     * A thread-safe {@link Iterator} over the values of a {@link ValueSupply}, that any number of threads can pull
+     * from at once.
+     * <p>
+     * Each value of the sequence is handed to exactly one caller of {@link SharedCursor#next()}.  Threads claim the
+     * next position with a compare-and-set rather than a lock, so a thread is never blocked by another; under
+     * contention, a value may be computed more than once, but only one of the computations is used.
+     *
+     * @param <A> the element type
+     */
+    public static final class SharedCursor<A> implements Iterator<A> {
+        private final Fn1<Seed, Result<? extends Seed, A>> gen;
+        private final AtomicReference<Seed> state;
+
+        private SharedCursor(Fn1<Seed, Result<? extends Seed, A>> gen, Seed state) {
+            this.gen = gen;
+            this.state = new AtomicReference<>(state);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public A next() {
+            while (true) {
+                Seed current = state.get();
+                Result<? extends Seed, A> result = gen.apply(current);
+                if (state.compareAndSet(current, result.getNextState())) {
+                    return result.getValue();
+                }
             }
+        }
+
+        /**
+         * Returns a {@link Seed} from which the values not yet claimed from this {@code SharedCursor} can be
+         * regenerated.
+         *
+         * @return a {@code Seed}
+         */
+        public Seed checkpoint() {
+            return state.get();
+        }
+    }
 
-            return run.getValue();
+    /**
+     * An {@link Iterator} over the values of a {@link ValueSupply}, that are generated ahead of time by a background
+     * task.  See {@link ValueSupply#prefetching(int, Executor)}.
+     * <p>
+     * A {@code Prefetching} iterator is meant for a single consumer.  If generating a value fails, {@code next()}
+     * rethrows the failure once the values generated before it have been consumed.
+     *
+     * @param <A> the element type
+     */
+    public static final class Prefetching<A> implements Iterator<A>, AutoCloseable {
+        private final RingBuffer<A> buffer;
+        private volatile boolean closed;
+        private volatile Throwable failure;
+
+        private Prefetching(RingBuffer<A> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !closed;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public A next() {
+            if (closed) {
+                throw new NoSuchElementException();
+            }
+            Object element = buffer.take();
+            if (RingBuffer.isClosedMarker(element)) {
+                closed = true;
+                Throwable t = failure;
+                if (t instanceof RuntimeException) {
+                    throw (RuntimeException) t;
+                } else if (t instanceof Error) {
+                    throw (Error) t;
+                } else if (t != null) {
+                    throw new RuntimeException(t);
+                }
+                throw new NoSuchElementException();
+            }
+            return (A) element;
+        }
+
+        /**
+         * Stops the background task.  Any values it has already generated are discarded.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            buffer.close();
+        }
+
+        private void produce(Fn1<Seed, Result<? extends Seed, A>> gen, Seed initialState) {
+            MutableSeed cursor = mutableSeed(initialState);
+            try {
+                while (!closed) {
+                    if (!buffer.put(runWithCursor(gen, cursor))) {
+                        return;
+                    }
+                }
+            } catch (Throwable t) {
+                failure = t;
+                buffer.close();
+            }
         }
     }
 }
@@ -0,0 +1,119 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import dev.marksman.kraftwerk.core.MutableSeed;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import static dev.marksman.kraftwerk.CursorGenerateFn.runWithCursor;
+import static dev.marksman.kraftwerk.core.MutableSeed.mutableSeed;
+
+/**
+ * A {@link Spliterator} over the values of a {@link ValueSupply}, that can be split while preserving encounter order.
+ * <p>
+ * If the underlying {@link GenerateFn} consumes a fixed number of engine steps per value, splitting hands off a prefix
+ * of the remaining values, and jumps this spliterator past it using {@link Seed#advance(long)}; no values are generated
+ * to do so.  Otherwise, the prefix is generated into an array, as {@link Spliterators.AbstractSpliterator} does.
+ * Either way, the concatenation of the parts is exactly the sequential sequence.
+ */
+final class ValueSupplySpliterator<A> implements Spliterator<A> {
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+    private static final int MIN_SPLIT = 64;
+
+    private final Fn1<Seed, Result<? extends Seed, A>> gen;
+    private final MutableSeed cursor;
+    private final long stepsPerValue;
+    private final boolean bounded;
+    private long remaining;
+    private int batch;
+
+    private ValueSupplySpliterator(Fn1<Seed, Result<? extends Seed, A>> gen, Seed state, long stepsPerValue,
+                                   boolean bounded, long remaining) {
+        this.gen = gen;
+        this.cursor = mutableSeed(state);
+        this.stepsPerValue = stepsPerValue;
+        this.bounded = bounded;
+        this.remaining = remaining;
+    }
+
+    static <A> ValueSupplySpliterator<A> valueSupplySpliterator(Fn1<Seed, Result<? extends Seed, A>> gen,
+                                                                Seed initialState) {
+        long stepsPerValue = DrawCount.drawCount(gen).match(__ -> -1L, drawCount -> drawCount.steps(initialState));
+        return new ValueSupplySpliterator<>(gen, initialState, stepsPerValue, false, Long.MAX_VALUE);
+    }
+
+    static <A> ValueSupplySpliterator<A> boundedValueSupplySpliterator(Fn1<Seed, Result<? extends Seed, A>> gen,
+                                                                       Seed initialState, long count) {
+        long stepsPerValue = DrawCount.drawCount(gen).match(__ -> -1L, drawCount -> drawCount.steps(initialState));
+        return new ValueSupplySpliterator<>(gen, initialState, stepsPerValue, true, count);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super A> action) {
+        if (bounded) {
+            if (remaining <= 0) {
+                return false;
+            }
+            remaining -= 1;
+        }
+        action.accept(runWithCursor(gen, cursor));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        if (!bounded) {
+            Spliterator.super.forEachRemaining(action);
+            return;
+        }
+        for (; remaining > 0; remaining--) {
+            action.accept(runWithCursor(gen, cursor));
+        }
+    }
+
+    @Override
+    public Spliterator<A> trySplit() {
+        long n;
+        if (bounded) {
+            if (remaining < MIN_SPLIT) {
+                return null;
+            }
+            n = remaining / 2;
+            if (stepsPerValue < 0) {
+                // the prefix will be buffered, so grow it gradually as for an unbounded sequence
+                batch = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+                n = Math.min(n, batch);
+            }
+        } else {
+            batch = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+            n = batch;
+        }
+        remaining -= bounded ? n : 0;
+        if (stepsPerValue >= 0) {
+            Seed start = cursor.toSeed();
+            cursor.set(start.advance(stepsPerValue * n));
+            return new ValueSupplySpliterator<>(gen, start, stepsPerValue, true, n);
+        } else {
+            Object[] values = new Object[(int) n];
+            for (int i = 0; i < n; i++) {
+                values[i] = runWithCursor(gen, cursor);
+            }
+            return Spliterators.spliterator(values, ORDERED | IMMUTABLE);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return bounded
+                ? ORDERED | IMMUTABLE | SIZED | SUBSIZED
+                : ORDERED | IMMUTABLE;
+    }
+}
@@ -0,0 +1,178 @@
+package dev.marksman.kraftwerk.core;
+
+/**
+ * Samples a binomial distribution.  When the expected number of the less likely outcome is small, uses inversion;
+ * otherwise, uses the BTPE algorithm of Kachitvichyanukul and Schmeiser ("Binomial Random Variate Generation", 1988),
+ * which takes constant expected time.
+ * <p>
+ * Even though this class is public, it is <i>not</i> part of the public API and can change at any time.
+ */
+public final class BinomialSampler {
+    private static final double BTPE_THRESHOLD = 30;
+
+    private final int n;
+    // sampling is done with r = min(p, 1 - p), and flipped if p > 0.5
+    private final boolean flip;
+    private final double r;
+    private final double q;
+    private final boolean useBtpe;
+    // inversion
+    private final double qn;
+    private final double bound;
+    // BTPE
+    private final long m;
+    private final double nrq;
+    private final double xm;
+    private final double xl;
+    private final double xr;
+    private final double c;
+    private final double laml;
+    private final double lamr;
+    private final double p1;
+    private final double p2;
+    private final double p3;
+    private final double p4;
+
+    private BinomialSampler(int n, double p) {
+        this.n = n;
+        this.flip = p > 0.5;
+        this.r = Math.min(p, 1.0 - p);
+        this.q = 1.0 - r;
+        double np = n * r;
+        this.useBtpe = np >= BTPE_THRESHOLD;
+
+        this.qn = Math.exp(n * Math.log(q));
+        this.bound = Math.min(n, np + 10.0 * Math.sqrt(np * q + 1));
+
+        double fm = np + r;
+        this.m = (long) Math.floor(fm);
+        this.nrq = np * q;
+        this.p1 = Math.floor(2.195 * Math.sqrt(nrq) - 4.6 * q) + 0.5;
+        this.xm = m + 0.5;
+        this.xl = xm - p1;
+        this.xr = xm + p1;
+        this.c = 0.134 + 20.5 / (15.3 + m);
+        double al = (fm - xl) / (fm - xl * r);
+        this.laml = al * (1.0 + al / 2.0);
+        double ar = (xr - fm) / (xr * q);
+        this.lamr = ar * (1.0 + ar / 2.0);
+        this.p2 = p1 * (1.0 + 2.0 * c);
+        this.p3 = p2 + c / laml;
+        this.p4 = p3 + c / lamr;
+    }
+
+    public static BinomialSampler binomialSampler(int trials, double probability) {
+        return new BinomialSampler(trials, probability);
+    }
+
+    public int sample(MutableSeed cursor) {
+        int y;
+        if (n == 0 || r == 0) {
+            y = 0;
+        } else {
+            y = useBtpe ? btpe(cursor) : inversion(cursor);
+        }
+        return flip ? n - y : y;
+    }
+
+    private int inversion(MutableSeed cursor) {
+        long x = 0;
+        double px = qn;
+        double u = cursor.nextDoubleFractional();
+        while (u > px) {
+            x += 1;
+            if (x > bound) {
+                x = 0;
+                px = qn;
+                u = cursor.nextDoubleFractional();
+            } else {
+                u -= px;
+                px = ((n - x + 1) * r * px) / (x * q);
+            }
+        }
+        return (int) x;
+    }
+
+    private int btpe(MutableSeed cursor) {
+        while (true) {
+            double u = cursor.nextDoubleFractional() * p4;
+            double v = cursor.nextDoubleFractional();
+            long y;
+            if (u <= p1) {
+                // triangular region; always accepted
+                return (int) Math.floor(xm - p1 * v + u);
+            } else if (u <= p2) {
+                // parallelograms
+                double x = xl + (u - p1) / c;
+                v = v * c + 1.0 - Math.abs(m - x + 0.5) / p1;
+                if (v > 1.0) {
+                    continue;
+                }
+                y = (long) Math.floor(x);
+            } else if (u <= p3) {
+                // left exponential tail
+                y = (long) Math.floor(xl + Math.log(v) / laml);
+                if (y < 0 || v == 0.0) {
+                    continue;
+                }
+                v = v * (u - p2) * laml;
+            } else {
+                // right exponential tail
+                y = (long) Math.floor(xr - Math.log(v) / lamr);
+                if (y > n || v == 0.0) {
+                    continue;
+                }
+                v = v * (u - p3) * lamr;
+            }
+            if (accept(y, v)) {
+                return (int) y;
+            }
+        }
+    }
+
+    private boolean accept(long y, double v) {
+        long k = Math.abs(y - m);
+        if (k <= 20 || k >= nrq / 2.0 - 1) {
+            // evaluate f(y) / f(m) recursively
+            double s = r / q;
+            double a = s * (n + 1);
+            double f = 1.0;
+            if (m < y) {
+                for (long i = m + 1; i <= y; i++) {
+                    f *= (a / i - s);
+                }
+            } else if (m > y) {
+                for (long i = y + 1; i <= m; i++) {
+                    f /= (a / i - s);
+                }
+            }
+            return v <= f;
+        }
+
+        // squeeze, using bounds on log(f(y) / f(m))
+        double rho = (k / nrq) * ((k * (k / 3.0 + 0.625) + 0.16666666666666666) / nrq + 0.5);
+        double t = -(double) k * k / (2 * nrq);
+        double logV = Math.log(v);
+        if (logV < t - rho) {
+            return true;
+        }
+        if (logV > t + rho) {
+            return false;
+        }
+
+        // Stirling's approximation for log(f(y) / f(m))
+        double x1 = y + 1;
+        double f1 = m + 1;
+        double z = n + 1 - m;
+        double w = n - y + 1;
+        return logV <= xm * Math.log(f1 / x1) +
+                (n - m + 0.5) * Math.log(z / w) +
+                (y - m) * Math.log(w * r / (x1 * q)) +
+                stirlingCorrection(f1) + stirlingCorrection(z) + stirlingCorrection(x1) + stirlingCorrection(w);
+    }
+
+    private static double stirlingCorrection(double x) {
+        double x2 = x * x;
+        return (13680. - (462. - (132. - (99. - 140. / x2) / x2) / x2) / x2) / x / 166320.;
+    }
+}
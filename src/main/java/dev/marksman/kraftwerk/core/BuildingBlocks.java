@@ -1,11 +1,16 @@
 package dev.marksman.kraftwerk.core;
 
 import com.jnape.palatable.lambda.adt.Unit;
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 import dev.marksman.kraftwerk.Result;
 import dev.marksman.kraftwerk.Seed;
 
+import java.nio.ByteBuffer;
+
 import static com.jnape.palatable.lambda.adt.Unit.UNIT;
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
 import static dev.marksman.kraftwerk.Result.result;
+import static dev.marksman.kraftwerk.core.MutableSeed.mutableSeed;
 import static dev.marksman.kraftwerk.core.StandardSeedCacheGaussian.standardSeedCacheGaussian;
 
 /**
@@ -13,278 +18,342 @@ import static dev.marksman.kraftwerk.core.StandardSeedCacheGaussian.standardSeed
  */
 public final class BuildingBlocks {
 
-    private static final double DOUBLE_UNIT = 0x1.0p-53;  // 1.0  / (1L << 53)
-    private static final float FLOAT_UNIT = 0x1.0p-24f; // 1.0f / (1 << 24)
-
     private BuildingBlocks() {
 
     }
 
     public static Result<Seed, Integer> nextIntBounded(int bound, Seed input) {
-        checkBound(bound);
-
-        if ((bound & -bound) == bound) { // bound is a power of 2
-            return unsafeNextIntBoundedPowerOf2(bound, input);
-        } else {
-            return unsafeNextIntBounded(bound, input);
-        }
+        MutableSeed cursor = mutableSeed(input);
+        int value = cursor.nextIntBounded(bound);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Integer> unsafeNextIntBoundedPowerOf2(int bound, Seed input) {
-        long s1 = getNextSeed(input.getSeedValue());
-        int n = bitsFrom(31, s1);
-        return result(input.setNextSeedValue(s1), (int) ((bound * (long) n) >> 31));
+        MutableSeed cursor = mutableSeed(input);
+        int value = cursor.unsafeNextIntBoundedPowerOf2(bound);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Integer> unsafeNextIntBounded(int bound, Seed input) {
-        long bits, val;
-        long nextSeed = input.getSeedValue();
-        do {
-            nextSeed = getNextSeed(nextSeed);
-            bits = bitsFrom(31, nextSeed);
-            val = bits % bound;
-        } while (bits - val + (bound - 1) < 0);
-        return result(input.setNextSeedValue(nextSeed), (int) val);
+        MutableSeed cursor = mutableSeed(input);
+        int value = cursor.unsafeNextIntBounded(bound);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Integer> nextInt(Seed input) {
-        return next(32, input);
+        MutableSeed cursor = mutableSeed(input);
+        int value = cursor.nextInt();
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Integer> nextIntExclusive(int origin, int bound, Seed input) {
-        checkOriginBound(origin, bound);
-
-        long n = (long) bound - origin;
-        long m = n - 1;
-        if (n < Integer.MAX_VALUE) {
-            return unsafeNextIntExclusive(origin, (int) n, input);
-        } else if ((n & m) == 0) {
-            // power of two
-            return unsafeNextIntExclusivePowerOf2(origin, n, input);
-        } else {
-            return unsafeNextIntExclusiveWide(origin, n, input);
-        }
+        MutableSeed cursor = mutableSeed(input);
+        int value = cursor.nextIntExclusive(origin, bound);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Integer> unsafeNextIntExclusivePowerOf2(int origin, long range, Seed input) {
-        long m = range - 1;
-        return nextInt(input).fmap(r -> (r & (int) m) + origin);
+        MutableSeed cursor = mutableSeed(input);
+        int value = cursor.unsafeNextIntExclusivePowerOf2(origin, range);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Integer> unsafeNextIntExclusive(int origin, int range, Seed input) {
-        return nextIntBounded(range, input).fmap(r -> origin + r);
+        MutableSeed cursor = mutableSeed(input);
+        int value = cursor.unsafeNextIntExclusive(origin, range);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Integer> unsafeNextIntExclusiveWide(int origin, long range, Seed input) {
-        long m = range - 1;
-        Result<Seed, Integer> rg1 = nextInt(input);
-        Seed current = rg1.getNextState();
-        int r = rg1._2();
-        for (int u = r >>> 1;
-             u + m - (r = u % (int) range) < 0; ) {
-            Result<Seed, Integer> next = nextInt(current);
-            u = next._2() >>> 1;
-            current = next._1();
-        }
-        r += origin;
-
-        return result(current, r);
+        MutableSeed cursor = mutableSeed(input);
+        int value = cursor.unsafeNextIntExclusiveWide(origin, range);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Integer> nextIntBetween(int min, int max, Seed input) {
-        checkMinMax(min, max);
-        return unsafeNextIntBetween(min, max, input);
+        MutableSeed cursor = mutableSeed(input);
+        int value = cursor.nextIntBetween(min, max);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Integer> unsafeNextIntBetween(int min, int max, Seed input) {
-        if (max == Integer.MAX_VALUE) {
-            if (min == Integer.MIN_VALUE) {
-                return nextInt(input);
-            } else {
-                return nextIntExclusive(min - 1, max, input)
-                        .fmap(n -> n + 1);
-            }
-        } else {
-            return nextIntExclusive(min, max + 1, input);
-        }
+        MutableSeed cursor = mutableSeed(input);
+        int value = cursor.unsafeNextIntBetween(min, max);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Double> nextDoubleFractional(Seed input) {
-        long s1 = getNextSeed(input.getSeedValue());
-        long s2 = getNextSeed(s1);
-        int i1 = bitsFrom(26, s1);
-        int i2 = bitsFrom(27, s2);
-        double result = (((long) i1 << 27) + i2) / (double) (1L << 53);
-        return result(input.setNextSeedValue(s2), result);
+        MutableSeed cursor = mutableSeed(input);
+        double value = cursor.nextDoubleFractional();
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Float> nextFloatFractional(Seed input) {
-        long s1 = getNextSeed(input.getSeedValue());
-        int n = bitsFrom(24, s1);
-        float result = (n / ((float) (1 << 24)));
-        return result(input.setNextSeedValue(s1), result);
+        MutableSeed cursor = mutableSeed(input);
+        float value = cursor.nextFloatFractional();
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Double> unsafeNextDoubleBetween(double origin, double bound, Seed input) {
-        Result<Seed, Long> l = nextLong(input);
-        double r = (l.getValue() >>> 11) * DOUBLE_UNIT;
-        r = r * (bound - origin) + origin;
-        if (r >= bound) {
-            r = Double.longBitsToDouble(Double.doubleToLongBits(bound) - 1);
-        }
-        return result(l.getNextState(), r);
+        MutableSeed cursor = mutableSeed(input);
+        double value = cursor.unsafeNextDoubleBetween(origin, bound);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Long> nextLong(Seed input) {
-        long s1 = getNextSeed(input.getSeedValue());
-        long s2 = getNextSeed(s1);
-        int i1 = bitsFrom(32, s1);
-        int i2 = bitsFrom(32, s2);
-        long result = ((long) i1 << 32) + i2;
-        return result(input.setNextSeedValue(s2), result);
+        MutableSeed cursor = mutableSeed(input);
+        long value = cursor.nextLong();
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Long> nextLongBounded(long bound, Seed input) {
-        checkBound(bound);
-
-        if (bound <= Integer.MAX_VALUE) {
-            return unsafeNextLongBounded((int) bound, input);
-        } else {
-            return nextLongExclusive(0, bound, input);
-        }
+        MutableSeed cursor = mutableSeed(input);
+        long value = cursor.nextLongBounded(bound);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Long> unsafeNextLongBounded(int bound, Seed input) {
-        return nextIntBounded(bound, input).fmap(Integer::longValue);
+        MutableSeed cursor = mutableSeed(input);
+        long value = cursor.unsafeNextLongBounded(bound);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Long> nextLongExclusive(long origin, long bound, Seed input) {
-        checkOriginBound(origin, bound);
-
-        if (origin < 0 && bound > 0 && bound > Math.abs(origin - Long.MIN_VALUE)) {
-            return unsafeNextLongExclusiveWithOverflow(origin, bound, input);
-        }
-
-        long range = bound - origin;
-        long m = range - 1;
-
-        if ((range & m) == 0L) {
-            // power of two
-            return unsafeNextLongExclusivePowerOf2(origin, range, input);
-        } else {
-            return unsafeNextLongExclusive(origin, range, input);
-        }
+        MutableSeed cursor = mutableSeed(input);
+        long value = cursor.nextLongExclusive(origin, bound);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Long> unsafeNextLongExclusivePowerOf2(long origin, long range, Seed input) {
-        long m = range - 1;
-        return nextLong(input).fmap(r -> (r & m) + origin);
+        MutableSeed cursor = mutableSeed(input);
+        long value = cursor.unsafeNextLongExclusivePowerOf2(origin, range);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Long> unsafeNextLongExclusive(long origin, long range, Seed input) {
-        long m = range - 1;
-        Result<Seed, Long> rg1 = nextLong(input);
-        Seed current = rg1.getNextState();
-        long r = rg1.getValue();
-        for (long u = r >>> 1;
-             u + m - (r = u % range) < 0L; ) {
-            Result<Seed, Long> next = nextLong(current);
-            u = next._2() >>> 1;
-            current = next._1();
-        }
-        r += origin;
-
-        return result(current, r);
+        MutableSeed cursor = mutableSeed(input);
+        long value = cursor.unsafeNextLongExclusive(origin, range);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Long> nextLongBetween(long min, long max, Seed input) {
-        checkMinMax(min, max);
-
-        if (max == Long.MAX_VALUE) {
-            if (min == Long.MIN_VALUE) {
-                return nextLong(input);
-            } else {
-                return nextLongExclusive(min - 1, max, input)
-                        .fmap(n -> n + 1);
-            }
-        } else {
-            return nextLongExclusive(min, max + 1, input);
-        }
+        MutableSeed cursor = mutableSeed(input);
+        long value = cursor.nextLongBetween(min, max);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Long> unsafeNextLongExclusiveWithOverflow(long origin, long bound, Seed input) {
-        Result<Seed, Long> result = nextLong(input);
-        long value = result.getValue();
-        // since we are covering more than half the range of longs, this loop shouldn't take too long
-        while (value < origin || value >= bound) {
-            result = nextLong(result.getNextState());
-            value = result.getValue();
-        }
-        return result;
+        MutableSeed cursor = mutableSeed(input);
+        long value = cursor.unsafeNextLongExclusiveWithOverflow(origin, bound);
+        return result(cursor.toSeed(), value);
     }
 
     public static Result<Seed, Boolean> nextBoolean(Seed input) {
-        long newSeedValue = getNextSeed(input.getSeedValue());
-        boolean b = (((int) (newSeedValue >>> 47)) & 1) != 0;
-
-        return result(input.setNextSeedValue(newSeedValue), b);
+        MutableSeed cursor = mutableSeed(input);
+        boolean value = cursor.nextBoolean();
+        return result(cursor.toSeed(), value);
+    }
+
+    private static long advanceLcg(long steps, long seedValue) {
+        long accMult = 1;
+        long accPlus = 0;
+        long curMult = 0x5DEECE66DL;
+        long curPlus = 0xBL;
+        for (long n = steps; n != 0; n >>>= 1) {
+            if ((n & 1) != 0) {
+                accMult *= curMult;
+                accPlus = accPlus * curMult + curPlus;
+            }
+            curPlus = (curMult + 1) * curPlus;
+            curMult *= curMult;
+        }
+        return (accMult * seedValue + accPlus) & ((1L << 48) - 1);
     }
 
-    private static long getNextSeed(long seedValue) {
-        return (seedValue * 0x5DEECE66DL + 0xBL) & ((1L << 48) - 1);
+    public static Result<Seed, Unit> nextBytes(byte[] dest, Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        cursor.nextBytes(dest);
+        return result(cursor.toSeed(), UNIT);
+    }
+
+    /**
+     * Fills the remaining bytes of {@code dest}.
+     *
+     * @return the final {@code Seed}
+     */
+    public static Seed nextBytes(ByteBuffer dest, Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        cursor.nextBytes(dest);
+        return cursor.toSeed();
+    }
+
+    /**
+     * Fills {@code dest} with the same values as {@code dest.length} successive calls to {@link #nextInt(Seed)}.
+     *
+     * @return the final {@code Seed}
+     */
+    public static Seed fillInts(int[] dest, Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        cursor.fillInts(dest);
+        return cursor.toSeed();
+    }
+
+    /**
+     * Fills {@code dest} with the same values as {@code dest.length} successive calls to
+     * {@link #nextIntBounded(int, Seed)}.
+     *
+     * @return the final {@code Seed}
+     */
+    public static Seed fillInts(int[] dest, int bound, Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        cursor.fillInts(dest, bound);
+        return cursor.toSeed();
+    }
+
+    /**
+     * Fills {@code dest} with the same values as {@code dest.length} successive calls to {@link #nextLong(Seed)}.
+     *
+     * @return the final {@code Seed}
+     */
+    public static Seed fillLongs(long[] dest, Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        cursor.fillLongs(dest);
+        return cursor.toSeed();
+    }
+
+    /**
+     * Fills {@code dest} with the same values as {@code dest.length} successive calls to
+     * {@link #nextLongBounded(long, Seed)}.
+     *
+     * @return the final {@code Seed}
+     */
+    public static Seed fillLongs(long[] dest, long bound, Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        cursor.fillLongs(dest, bound);
+        return cursor.toSeed();
+    }
+
+    /**
+     * Fills {@code dest} with the same values as {@code dest.length} successive calls to
+     * {@link #nextDoubleFractional(Seed)}.
+     *
+     * @return the final {@code Seed}
+     */
+    public static Seed fillDoubles(double[] dest, Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        cursor.fillDoubles(dest);
+        return cursor.toSeed();
+    }
+
+    /**
+     * Fills {@code dest} with values in the range [{@code origin}, {@code bound}), the same as
+     * {@code dest.length} successive calls to {@link #unsafeNextDoubleBetween(double, double, Seed)}.
+     * {@code origin} and {@code bound} must be finite.
+     *
+     * @return the final {@code Seed}
+     */
+    public static Seed fillDoubles(double[] dest, double origin, double bound, Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        cursor.fillDoubles(dest, origin, bound);
+        return cursor.toSeed();
+    }
+
+    /**
+     * Fills {@code dest} with the same values as {@code dest.length} successive calls to {@link #nextBoolean(Seed)}.
+     *
+     * @return the final {@code Seed}
+     */
+    public static Seed fillBooleans(boolean[] dest, Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        cursor.fillBooleans(dest);
+        return cursor.toSeed();
     }
 
-    private static int bitsFrom(int bits, long seed) {
-        return (int) (seed >>> (48 - bits));
+    public static Result<Seed, Double> nextGaussian(Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        double value = cursor.nextGaussian();
+        return result(cursor.toSeed(), value);
     }
 
-    public static Result<Seed, Unit> nextBytes(byte[] dest, Seed input) {
-        Seed nextSeed = input;
-        int i = 0;
-        while (i < dest.length) {
-            Result<Seed, Integer> nextInt = nextInt(nextSeed);
-            nextSeed = nextInt._1();
-            int rnd = nextInt._2();
-            for (int n = Math.min(dest.length - i, 4); n-- > 0; rnd >>= 8) {
-                dest[i++] = (byte) rnd;
-            }
-        }
+    /**
+     * Samples the standard normal distribution using the Ziggurat method.  Considerably faster than
+     * {@link #nextGaussian(Seed)}, but does not produce the same values as {@link java.util.Random#nextGaussian()}.
+     */
+    public static Result<Seed, Double> nextZigguratGaussian(Seed input) {
+        MutableSeed cursor = mutableSeed(input);
+        double value = cursor.nextZigguratGaussian();
+        return result(cursor.toSeed(), value);
+    }
 
-        return result(nextSeed, UNIT);
+    public static Seed perturb(long value, Seed input) {
+        long newSeed = nextLong(input).getValue() ^ value;
+        return input.setNextSeedValue(newSeed);
     }
 
-    public static Result<Seed, Double> nextGaussian(Seed input) {
-        if (input instanceof StandardSeedCacheGaussian) {
+    /**
+     * Returns the {@code Seed} that results from taking {@code steps} engine steps from {@code input},
+     * in time logarithmic in {@code steps}.
+     * <p>
+     * Note that for {@link dev.marksman.kraftwerk.Engine#STANDARD}, some primitives (e.g., {@code nextLong},
+     * {@code nextDoubleFractional}) consume two steps.
+     */
+    public static Seed advance(long steps, Seed input) {
+        checkSteps(steps);
+        if (steps == 0) {
+            return input;
+        } else if (input instanceof EngineSeed) {
+            return ((EngineSeed) input).advance(steps);
+        } else if (input instanceof StandardSeedCacheGaussian) {
             StandardSeedCacheGaussian cached = (StandardSeedCacheGaussian) input;
-            return result(cached.getUnderlying(), cached.getNextGaussian());
+            return standardSeedCacheGaussian(advance(steps, cached.getUnderlying()), cached.getNextGaussian());
+        } else {
+            return input.setNextSeedValue(advanceLcg(steps, input.getSeedValue()));
         }
+    }
 
-        Seed newSeed = input;
-        double v1, v2, s;
-        do {
-            Result<Seed, Double> d1 = nextDoubleFractional(newSeed);
-            Result<Seed, Double> d2 = nextDoubleFractional(d1._1());
-            newSeed = d2._1();
-            v1 = 2 * d1._2() - 1;
-            v2 = 2 * d2._2() - 1;
-            s = v1 * v1 + v2 * v2;
-        } while (s >= 1 || s == 0);
-        double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
-        double result = v1 * multiplier;
-        double nextResult = v2 * multiplier;
-        return result(standardSeedCacheGaussian(newSeed, nextResult), result);
+    /**
+     * Returns the number of engine steps a 64-bit draw (e.g., {@code nextLong}) consumes from {@code input}.
+     */
+    public static int stepsPerWideDraw(Seed input) {
+        return input instanceof EngineSeed ? 1 : 2;
     }
 
-    public static Seed perturb(long value, Seed input) {
-        long newSeed = nextLong(input).getValue() ^ value;
-        return input.setNextSeedValue(newSeed);
+    /**
+     * Creates a new {@code Seed} from {@code value}, using the same engine as {@code template}.
+     */
+    public static Seed reseed(long value, Seed template) {
+        if (template instanceof EngineSeed) {
+            return ((EngineSeed) template).reseed(value);
+        } else {
+            return Seed.create(value);
+        }
     }
 
-    private static Result<Seed, Integer> next(int bits, Seed input) {
-        long newSeedValue = (input.getSeedValue() * 0x5DEECE66DL + 0xBL) & ((1L << 48) - 1);
-        int result = (int) (newSeedValue >>> (48 - bits));
+    public static Tuple2<Seed, Seed> split(Seed input) {
+        Result<Seed, Long> r1 = nextLong(input);
+        Result<Seed, Long> r2 = nextLong(r1.getNextState());
+        return tuple(reseed(mixSplit(r1.getValue()), input),
+                reseed(mixSplit(r2.getValue()), input));
+    }
 
-        return result(input.setNextSeedValue(newSeedValue), result);
+    /**
+     * Derives the {@code Seed} at position {@code index} of a family of {@code Seed}s determined by {@code input},
+     * without visiting the positions before it.  Different indices yield independent {@code Seed}s of the same engine.
+     */
+    public static Seed deriveSeed(long index, Seed input) {
+        long base = nextLong(input).getValue();
+        // distinct indices give distinct pre-images, and mixSplit is a bijection
+        return reseed(mixSplit(base + (index + 1) * 0x9e3779b97f4a7c15L), input);
+    }
+
+    /**
+     * A mixing function distinct from those used by the engines, so that the children of a split
+     * do not start at values that appear in the output of the parent.
+     */
+    private static long mixSplit(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
     }
 
     public static void checkBound(long bound) {
@@ -295,10 +364,18 @@ public final class BuildingBlocks {
         if (origin >= bound) throw new IllegalArgumentException("bound must be > origin");
     }
 
+    public static void checkOriginBound(double origin, double bound) {
+        if (!(origin < bound)) throw new IllegalArgumentException("bound must be > origin");
+    }
+
     public static void checkMinMax(long min, long max) {
         if (min > max) throw new IllegalArgumentException("max must be >= min");
     }
 
+    public static void checkSteps(long steps) {
+        if (steps < 0) throw new IllegalArgumentException("steps must be >= 0");
+    }
+
     public static void checkCount(int count) {
         if (count < 0) throw new IllegalArgumentException("count must be >= 0");
     }
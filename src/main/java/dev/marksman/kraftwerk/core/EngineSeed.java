@@ -0,0 +1,64 @@
+package dev.marksman.kraftwerk.core;
+
+import dev.marksman.kraftwerk.Engine;
+import dev.marksman.kraftwerk.Seed;
+
+/**
+ * Base class for {@link Seed}s backed by an {@link Engine} that produces 64 bits of output per step.
+ * <p>
+ * {@link BuildingBlocks} recognizes {@code Seed}s of this type and draws all primitive values directly from
+ * {@link EngineSeed#word()}, rather than going through {@link Seed#getSeedValue()} and {@link Seed#setNextSeedValue(long)}.
+ * <p>
+ * Even though this class is public, it is <i>not</i> part of the public API and can change at any time.
+ */
+public abstract class EngineSeed implements Seed {
+
+    EngineSeed() {
+
+    }
+
+    /**
+     * Returns the 64-bit output produced when stepping from this state.
+     *
+     * @return a {@code long}
+     */
+    public abstract long word();
+
+    /**
+     * Returns the state after one step.
+     *
+     * @return an {@code EngineSeed}
+     */
+    public abstract EngineSeed step();
+
+    /**
+     * Returns the state after {@code steps} steps, in time logarithmic in {@code steps}.
+     *
+     * @param steps the number of steps; must be &gt;= 0
+     * @return an {@code EngineSeed}
+     */
+    public abstract EngineSeed advance(long steps);
+
+    /**
+     * Returns a freshly initialized {@code EngineSeed} of the same engine.
+     *
+     * @param value the value used to initialize the new state
+     * @return an {@code EngineSeed}
+     */
+    public abstract EngineSeed reseed(long value);
+
+    public abstract Engine getEngine();
+
+    @Override
+    public Seed perturb(long value) {
+        return BuildingBlocks.perturb(value, this);
+    }
+
+    /**
+     * For an {@code EngineSeed}, this re-initializes the engine from {@code value}.
+     */
+    @Override
+    public Seed setNextSeedValue(long value) {
+        return reseed(value);
+    }
+}
@@ -0,0 +1,57 @@
+package dev.marksman.kraftwerk.core;
+
+/**
+ * Samples a gamma distribution using the method of Marsaglia and Tsang
+ * ("A Simple Method for Generating Gamma Variables", 2000).
+ * <p>
+ * Even though this class is public, it is <i>not</i> part of the public API and can change at any time.
+ */
+public final class GammaSampler {
+    private final double scale;
+    private final double d;
+    private final double c;
+    // for shape < 1, sample with shape + 1, and multiply by U^(1 / shape)
+    private final boolean boost;
+    private final double inverseShape;
+
+    private GammaSampler(double shape, double scale) {
+        this.scale = scale;
+        this.boost = shape < 1;
+        this.inverseShape = 1 / shape;
+        this.d = (boost ? shape + 1 : shape) - 1.0 / 3;
+        this.c = 1 / Math.sqrt(9 * d);
+    }
+
+    public static GammaSampler gammaSampler(double shape, double scale) {
+        return new GammaSampler(shape, scale);
+    }
+
+    public double sample(MutableSeed cursor) {
+        double result = d * marsagliaTsang(cursor);
+        if (boost) {
+            // 1 - u is in (0, 1]
+            result *= Math.pow(1 - cursor.nextDoubleFractional(), inverseShape);
+        }
+        return result * scale;
+    }
+
+    private double marsagliaTsang(MutableSeed cursor) {
+        while (true) {
+            double x, v;
+            do {
+                x = cursor.nextZigguratGaussian();
+                v = 1 + c * x;
+            } while (v <= 0);
+            v = v * v * v;
+            double u = cursor.nextDoubleFractional();
+            double x2 = x * x;
+            // the squeeze accepts most samples without a logarithm
+            if (u < 1 - 0.0331 * x2 * x2) {
+                return v;
+            }
+            if (Math.log(u) < 0.5 * x2 + d * (1 - v + Math.log(v))) {
+                return v;
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package dev.marksman.kraftwerk.core;
+
+/**
+ * Jump-ahead for 256-bit linear engines over GF(2), such as xoshiro256.
+ * <p>
+ * Advancing by {@code n} steps is done by computing {@code x^n mod P(x)}, where {@code P} is the characteristic
+ * polynomial of the engine's state transition, and then evaluating that polynomial at the transition.
+ * Polynomials of degree &lt; 256 are represented as four {@code long}s, least significant word first.
+ */
+final class Gf2Jump {
+    private static final int DEGREE = 256;
+    private static final int WORDS = DEGREE / 64;
+
+    private Gf2Jump() {
+
+    }
+
+    /**
+     * Computes the characteristic polynomial of a 256-bit linear engine from one output bit per step,
+     * using the Berlekamp-Massey algorithm.
+     * Returns the coefficients below {@code x^256}; the leading coefficient is implied.
+     */
+    static long[] characteristicPolynomial(boolean[] bits) {
+        int n = bits.length;
+        boolean[] c = new boolean[n + 1];
+        boolean[] b = new boolean[n + 1];
+        c[0] = true;
+        b[0] = true;
+        int l = 0;
+        int m = 1;
+        for (int i = 0; i < n; i++) {
+            boolean d = bits[i];
+            for (int j = 1; j <= l; j++) {
+                d ^= c[j] & bits[i - j];
+            }
+            if (!d) {
+                m++;
+            } else if (2 * l <= i) {
+                boolean[] t = c.clone();
+                for (int j = 0; j + m <= n; j++) {
+                    c[j + m] ^= b[j];
+                }
+                l = i + 1 - l;
+                b = t;
+                m = 1;
+            } else {
+                for (int j = 0; j + m <= n; j++) {
+                    c[j + m] ^= b[j];
+                }
+                m++;
+            }
+        }
+        if (l != DEGREE) {
+            throw new IllegalStateException("unexpected linear complexity: " + l);
+        }
+        // P(x) = x^L + c[1] x^(L-1) + ... + c[L]
+        long[] p = new long[WORDS];
+        for (int j = 1; j <= l; j++) {
+            if (c[j]) {
+                setBit(p, l - j);
+            }
+        }
+        return p;
+    }
+
+    /**
+     * Computes {@code x^n mod P(x)}, where {@code lowerCoefficients} are the coefficients of {@code P} below {@code x^256}.
+     */
+    static long[] xPowMod(long n, long[] lowerCoefficients) {
+        long[] result = new long[WORDS];
+        result[0] = 1;
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            result = squareMod(result, lowerCoefficients);
+            if (((n >>> bit) & 1) != 0) {
+                result = timesXMod(result, lowerCoefficients);
+            }
+        }
+        return result;
+    }
+
+    static boolean testBit(long[] poly, int i) {
+        return ((poly[i >>> 6] >>> (i & 63)) & 1) != 0;
+    }
+
+    private static void setBit(long[] poly, int i) {
+        poly[i >>> 6] |= 1L << (i & 63);
+    }
+
+    private static long[] timesXMod(long[] a, long[] lowerCoefficients) {
+        boolean overflow = testBit(a, DEGREE - 1);
+        long[] result = new long[WORDS];
+        for (int w = WORDS - 1; w > 0; w--) {
+            result[w] = (a[w] << 1) | (a[w - 1] >>> 63);
+        }
+        result[0] = a[0] << 1;
+        if (overflow) {
+            for (int w = 0; w < WORDS; w++) {
+                result[w] ^= lowerCoefficients[w];
+            }
+        }
+        return result;
+    }
+
+    private static long[] squareMod(long[] a, long[] lowerCoefficients) {
+        // squaring over GF(2) just spreads the bits out
+        long[] product = new long[2 * WORDS];
+        for (int i = 0; i < DEGREE; i++) {
+            if (testBit(a, i)) {
+                setBit(product, 2 * i);
+            }
+        }
+        for (int i = 2 * DEGREE - 1; i >= DEGREE; i--) {
+            if (testBit(product, i)) {
+                product[i >>> 6] ^= 1L << (i & 63);
+                xorShifted(product, lowerCoefficients, i - DEGREE);
+            }
+        }
+        long[] result = new long[WORDS];
+        System.arraycopy(product, 0, result, 0, WORDS);
+        return result;
+    }
+
+    private static void xorShifted(long[] dest, long[] src, int shift) {
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int w = 0; w < src.length; w++) {
+            dest[w + wordShift] ^= src[w] << bitShift;
+            if (bitShift != 0) {
+                dest[w + wordShift + 1] ^= src[w] >>> (64 - bitShift);
+            }
+        }
+    }
+}
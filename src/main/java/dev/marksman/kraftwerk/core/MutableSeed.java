@@ -0,0 +1,591 @@
+package dev.marksman.kraftwerk.core;
+
+import dev.marksman.kraftwerk.Seed;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static dev.marksman.kraftwerk.core.BuildingBlocks.checkBound;
+import static dev.marksman.kraftwerk.core.BuildingBlocks.checkMinMax;
+import static dev.marksman.kraftwerk.core.BuildingBlocks.checkOriginBound;
+import static dev.marksman.kraftwerk.core.Pcg64Seed.CHEAP_MULTIPLIER;
+import static dev.marksman.kraftwerk.core.SplitMix64Seed.GOLDEN_GAMMA;
+import static dev.marksman.kraftwerk.core.SplitMix64Seed.mix64;
+import static dev.marksman.kraftwerk.core.StandardSeedCacheGaussian.standardSeedCacheGaussian;
+import static dev.marksman.kraftwerk.core.UnsignedMath.unsignedMultiplyHigh;
+
+/**
+ * A mutable cursor over the state of a {@link Seed}, of any engine.
+ * <p>
+ * Draws from a {@code MutableSeed} update it in place and return primitives, so a whole tree of generators can run
+ * against a single {@code MutableSeed} without allocating a {@code Seed} or {@link dev.marksman.kraftwerk.Result}
+ * per draw.  Every draw yields exactly the same value, and leaves exactly the same state, as the corresponding
+ * method in {@link BuildingBlocks} (which is implemented in terms of this class).
+ * <p>
+ * Bounded draws from a 64-bit engine use Lemire's nearly divisionless method.  Bounded draws from
+ * {@link dev.marksman.kraftwerk.Engine#STANDARD} use the same modulo-based rejection as {@link java.util.Random}.
+ * <p>
+ * A {@code MutableSeed} must not be shared between threads.
+ * <p>
+ * Even though this class is public, it is <i>not</i> part of the public API and can change at any time.
+ */
+public final class MutableSeed {
+    private static final double DOUBLE_UNIT = 0x1.0p-53;  // 1.0  / (1L << 53)
+    private static final float FLOAT_UNIT = 0x1.0p-24f; // 1.0f / (1 << 24)
+    private static final long LCG_MASK = (1L << 48) - 1;
+
+    private static final int STANDARD = 0;
+    private static final int SPLIT_MIX_64 = 1;
+    private static final int XOSHIRO_256_STAR_STAR = 2;
+    private static final int PCG_64 = 3;
+
+    private int engine;
+    // STANDARD: s0 is the 48-bit LCG state
+    // SPLIT_MIX_64: s0 is the state
+    // XOSHIRO_256_STAR_STAR: s0..s3 are the state
+    // PCG_64: s0, s1 are the state (high, low); s2, s3 are the increment (high, low)
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    // the immutable equivalent of the current state, if known
+    private Seed snapshot;
+
+    // STANDARD only
+    private Seed standardBase;
+    private boolean haveNextGaussian;
+    private double nextGaussian;
+
+    private MutableSeed() {
+
+    }
+
+    public static MutableSeed mutableSeed(Seed seed) {
+        MutableSeed result = new MutableSeed();
+        result.set(seed);
+        return result;
+    }
+
+    /**
+     * Replaces the state of this {@code MutableSeed} with that of {@code seed}.
+     */
+    public void set(Seed seed) {
+        snapshot = seed;
+        if (seed instanceof SplitMix64Seed) {
+            engine = SPLIT_MIX_64;
+            s0 = seed.getSeedValue();
+        } else if (seed instanceof Xoshiro256StarStarSeed) {
+            Xoshiro256StarStarSeed x = (Xoshiro256StarStarSeed) seed;
+            engine = XOSHIRO_256_STAR_STAR;
+            s0 = x.getS0();
+            s1 = x.getS1();
+            s2 = x.getS2();
+            s3 = x.getS3();
+        } else if (seed instanceof Pcg64Seed) {
+            Pcg64Seed p = (Pcg64Seed) seed;
+            engine = PCG_64;
+            s0 = p.getStateHi();
+            s1 = p.getStateLo();
+            s2 = p.getIncHi();
+            s3 = p.getIncLo();
+        } else if (seed instanceof StandardSeedCacheGaussian) {
+            StandardSeedCacheGaussian cached = (StandardSeedCacheGaussian) seed;
+            engine = STANDARD;
+            standardBase = cached.getUnderlying();
+            s0 = standardBase.getSeedValue();
+            haveNextGaussian = true;
+            nextGaussian = cached.getNextGaussian();
+        } else {
+            engine = STANDARD;
+            standardBase = seed;
+            s0 = seed.getSeedValue();
+            haveNextGaussian = false;
+        }
+    }
+
+    /**
+     * Creates an immutable {@link Seed} with the current state of this {@code MutableSeed}.
+     */
+    public Seed toSeed() {
+        if (snapshot == null) {
+            snapshot = buildSeed();
+        }
+        return snapshot;
+    }
+
+    /**
+     * The equivalent of {@link Seed#getSeedValue()} for the current state.
+     */
+    public long getSeedValue() {
+        return engine == PCG_64 ? s1 : s0;
+    }
+
+    public int nextIntBounded(int bound) {
+        checkBound(bound);
+
+        if ((bound & -bound) == bound) { // bound is a power of 2
+            return unsafeNextIntBoundedPowerOf2(bound);
+        } else {
+            return unsafeNextIntBounded(bound);
+        }
+    }
+
+    public int unsafeNextIntBoundedPowerOf2(int bound) {
+        int n = next(31);
+        return (int) ((bound * (long) n) >> 31);
+    }
+
+    public int unsafeNextIntBounded(int bound) {
+        if (engine != STANDARD) {
+            return (int) nearlyDivisionless32(bound);
+        }
+        long bits, val;
+        do {
+            bits = next(31);
+            val = bits % bound;
+        } while (bits - val + (bound - 1) < 0);
+        return (int) val;
+    }
+
+    public int nextInt() {
+        return next(32);
+    }
+
+    public int nextIntExclusive(int origin, int bound) {
+        checkOriginBound(origin, bound);
+
+        long n = (long) bound - origin;
+        long m = n - 1;
+        if (n < Integer.MAX_VALUE) {
+            return unsafeNextIntExclusive(origin, (int) n);
+        } else if ((n & m) == 0) {
+            // power of two
+            return unsafeNextIntExclusivePowerOf2(origin, n);
+        } else {
+            return unsafeNextIntExclusiveWide(origin, n);
+        }
+    }
+
+    public int unsafeNextIntExclusivePowerOf2(int origin, long range) {
+        long m = range - 1;
+        return (nextInt() & (int) m) + origin;
+    }
+
+    public int unsafeNextIntExclusive(int origin, int range) {
+        return origin + nextIntBounded(range);
+    }
+
+    public int unsafeNextIntExclusiveWide(int origin, long range) {
+        if (engine != STANDARD) {
+            return (int) nearlyDivisionless32(range) + origin;
+        }
+        long m = range - 1;
+        int r = nextInt();
+        for (int u = r >>> 1;
+             u + m - (r = u % (int) range) < 0; ) {
+            u = nextInt() >>> 1;
+        }
+        return r + origin;
+    }
+
+    public int nextIntBetween(int min, int max) {
+        checkMinMax(min, max);
+        return unsafeNextIntBetween(min, max);
+    }
+
+    public int unsafeNextIntBetween(int min, int max) {
+        if (max == Integer.MAX_VALUE) {
+            if (min == Integer.MIN_VALUE) {
+                return nextInt();
+            } else {
+                return nextIntExclusive(min - 1, max) + 1;
+            }
+        } else {
+            return nextIntExclusive(min, max + 1);
+        }
+    }
+
+    public double nextDoubleFractional() {
+        if (engine == STANDARD) {
+            int i1 = next(26);
+            int i2 = next(27);
+            return (((long) i1 << 27) + i2) * DOUBLE_UNIT;
+        } else {
+            return (nextWord() >>> 11) * DOUBLE_UNIT;
+        }
+    }
+
+    public float nextFloatFractional() {
+        return next(24) * FLOAT_UNIT;
+    }
+
+    public double unsafeNextDoubleBetween(double origin, double bound) {
+        double r = (nextLong() >>> 11) * DOUBLE_UNIT;
+        r = r * (bound - origin) + origin;
+        if (r >= bound) {
+            r = Double.longBitsToDouble(Double.doubleToLongBits(bound) - 1);
+        }
+        return r;
+    }
+
+    public long nextLong() {
+        if (engine == STANDARD) {
+            int i1 = next(32);
+            int i2 = next(32);
+            return ((long) i1 << 32) + i2;
+        } else {
+            return nextWord();
+        }
+    }
+
+    public long nextLongBounded(long bound) {
+        checkBound(bound);
+
+        if (bound <= Integer.MAX_VALUE) {
+            return unsafeNextLongBounded((int) bound);
+        } else {
+            return nextLongExclusive(0, bound);
+        }
+    }
+
+    public long unsafeNextLongBounded(int bound) {
+        return nextIntBounded(bound);
+    }
+
+    public long nextLongExclusive(long origin, long bound) {
+        checkOriginBound(origin, bound);
+
+        if (origin < 0 && bound > 0 && bound > Math.abs(origin - Long.MIN_VALUE)) {
+            return unsafeNextLongExclusiveWithOverflow(origin, bound);
+        }
+
+        long range = bound - origin;
+        long m = range - 1;
+
+        if ((range & m) == 0L) {
+            // power of two
+            return unsafeNextLongExclusivePowerOf2(origin, range);
+        } else {
+            return unsafeNextLongExclusive(origin, range);
+        }
+    }
+
+    public long unsafeNextLongExclusivePowerOf2(long origin, long range) {
+        long m = range - 1;
+        return (nextLong() & m) + origin;
+    }
+
+    public long unsafeNextLongExclusive(long origin, long range) {
+        if (engine != STANDARD) {
+            return nearlyDivisionless64(range) + origin;
+        }
+        long m = range - 1;
+        long r = nextLong();
+        for (long u = r >>> 1;
+             u + m - (r = u % range) < 0L; ) {
+            u = nextLong() >>> 1;
+        }
+        return r + origin;
+    }
+
+    public long nextLongBetween(long min, long max) {
+        checkMinMax(min, max);
+
+        if (max == Long.MAX_VALUE) {
+            if (min == Long.MIN_VALUE) {
+                return nextLong();
+            } else {
+                return nextLongExclusive(min - 1, max) + 1;
+            }
+        } else {
+            return nextLongExclusive(min, max + 1);
+        }
+    }
+
+    public long unsafeNextLongExclusiveWithOverflow(long origin, long bound) {
+        if (engine != STANDARD) {
+            // bound - origin overflows, but is correct as an unsigned value
+            return nearlyDivisionless64(bound - origin) + origin;
+        }
+        long value = nextLong();
+        // since we are covering more than half the range of longs, this loop shouldn't take too long
+        while (value < origin || value >= bound) {
+            value = nextLong();
+        }
+        return value;
+    }
+
+    public boolean nextBoolean() {
+        return next(1) != 0;
+    }
+
+    /**
+     * For {@link dev.marksman.kraftwerk.Engine#STANDARD}, produces the same bytes as
+     * {@link java.util.Random#nextBytes(byte[])}, using the high 32 bits of each step.
+     * Other engines use all 64 bits of each step.
+     */
+    public void nextBytes(byte[] dest) {
+        int i = 0;
+        if (engine == STANDARD) {
+            while (i < dest.length) {
+                int rnd = nextInt();
+                for (int n = Math.min(dest.length - i, 4); n-- > 0; rnd >>= 8) {
+                    dest[i++] = (byte) rnd;
+                }
+            }
+        } else {
+            while (i < dest.length) {
+                long rnd = nextWord();
+                for (int n = Math.min(dest.length - i, 8); n-- > 0; rnd >>= 8) {
+                    dest[i++] = (byte) rnd;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the remaining bytes of {@code dest}, producing the same bytes as {@link #nextBytes(byte[])}
+     * regardless of the byte order of {@code dest}.
+     */
+    public void nextBytes(ByteBuffer dest) {
+        boolean littleEndian = dest.order() == ByteOrder.LITTLE_ENDIAN;
+        if (engine == STANDARD) {
+            while (dest.remaining() >= 4) {
+                int rnd = nextInt();
+                dest.putInt(littleEndian ? rnd : Integer.reverseBytes(rnd));
+            }
+            if (dest.hasRemaining()) {
+                for (int rnd = nextInt(); dest.hasRemaining(); rnd >>= 8) {
+                    dest.put((byte) rnd);
+                }
+            }
+        } else {
+            while (dest.remaining() >= 8) {
+                long rnd = nextWord();
+                dest.putLong(littleEndian ? rnd : Long.reverseBytes(rnd));
+            }
+            if (dest.hasRemaining()) {
+                for (long rnd = nextWord(); dest.hasRemaining(); rnd >>= 8) {
+                    dest.put((byte) rnd);
+                }
+            }
+        }
+    }
+
+    public void fillInts(int[] dest) {
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = nextInt();
+        }
+    }
+
+    public void fillInts(int[] dest, int bound) {
+        checkBound(bound);
+
+        if ((bound & -bound) == bound) { // bound is a power of 2
+            for (int i = 0; i < dest.length; i++) {
+                dest[i] = unsafeNextIntBoundedPowerOf2(bound);
+            }
+        } else {
+            for (int i = 0; i < dest.length; i++) {
+                dest[i] = unsafeNextIntBounded(bound);
+            }
+        }
+    }
+
+    public void fillLongs(long[] dest) {
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = nextLong();
+        }
+    }
+
+    public void fillLongs(long[] dest, long bound) {
+        checkBound(bound);
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = nextLongBounded(bound);
+        }
+    }
+
+    public void fillDoubles(double[] dest) {
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = nextDoubleFractional();
+        }
+    }
+
+    public void fillDoubles(double[] dest, double origin, double bound) {
+        checkOriginBound(origin, bound);
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = unsafeNextDoubleBetween(origin, bound);
+        }
+    }
+
+    public void fillBooleans(boolean[] dest) {
+        for (int i = 0; i < dest.length; i++) {
+            dest[i] = nextBoolean();
+        }
+    }
+
+    /**
+     * For {@link dev.marksman.kraftwerk.Engine#STANDARD}, the second value computed is cached for the next call,
+     * as in {@link java.util.Random#nextGaussian()}.  Other engines do not cache.
+     */
+    public double nextGaussian() {
+        if (haveNextGaussian) {
+            snapshot = null;
+            haveNextGaussian = false;
+            return nextGaussian;
+        }
+
+        double v1, v2, s;
+        do {
+            v1 = 2 * nextDoubleFractional() - 1;
+            v2 = 2 * nextDoubleFractional() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+        if (engine == STANDARD) {
+            haveNextGaussian = true;
+            nextGaussian = v2 * multiplier;
+        }
+        return v1 * multiplier;
+    }
+
+    /**
+     * Samples the standard normal distribution using the Ziggurat method.
+     * <p>
+     * Unlike {@link #nextGaussian()}, this does not cache a second value, and makes a single 64-bit draw
+     * in the common case.
+     */
+    public double nextZigguratGaussian() {
+        while (true) {
+            long bits = nextLong();
+            int layer = (int) bits & Ziggurat.LAYER_MASK;
+            double u = 2 * ((bits >>> 11) * DOUBLE_UNIT) - 1;
+            // the common case: inside the rectangle that is entirely under the curve
+            if (Math.abs(u) < Ziggurat.RATIO[layer]) {
+                return u * Ziggurat.X[layer];
+            }
+            if (layer == 0) {
+                return zigguratTail(u < 0);
+            }
+            double x = u * Ziggurat.X[layer];
+            double f0 = Math.exp(-0.5 * (Ziggurat.X[layer] * Ziggurat.X[layer] - x * x));
+            double f1 = Math.exp(-0.5 * (Ziggurat.X[layer + 1] * Ziggurat.X[layer + 1] - x * x));
+            if (f1 + nextDoubleFractional() * (f0 - f1) < 1.0) {
+                return x;
+            }
+        }
+    }
+
+    /**
+     * Samples the standard exponential distribution (rate 1) by inversion.
+     */
+    public double nextExponential() {
+        // 1 - u is in (0, 1], so the logarithm is finite
+        return -Math.log(1 - nextDoubleFractional());
+    }
+
+    /**
+     * Lemire's nearly divisionless method: returns a value uniformly distributed in [0, {@code range}),
+     * for 0 &lt; {@code range} &lt;= 2<sup>32</sup>, without a division in the common case.
+     */
+    private long nearlyDivisionless32(long range) {
+        long m = (next(32) & 0xffffffffL) * range;
+        long low = m & 0xffffffffL;
+        if (low < range) {
+            long threshold = (1L << 32) % range;
+            while (low < threshold) {
+                m = (next(32) & 0xffffffffL) * range;
+                low = m & 0xffffffffL;
+            }
+        }
+        return m >>> 32;
+    }
+
+    /**
+     * Lemire's nearly divisionless method: returns a value uniformly distributed in [0, {@code range}),
+     * treating {@code range} as unsigned.
+     */
+    private long nearlyDivisionless64(long range) {
+        long x = nextWord();
+        long low = x * range;
+        if (Long.compareUnsigned(low, range) < 0) {
+            long threshold = Long.remainderUnsigned(-range, range);
+            while (Long.compareUnsigned(low, threshold) < 0) {
+                x = nextWord();
+                low = x * range;
+            }
+        }
+        return unsignedMultiplyHigh(x, range);
+    }
+
+    private double zigguratTail(boolean negative) {
+        double x, y;
+        do {
+            // 1 - u is in (0, 1], so the logarithm is finite
+            x = Math.log(1 - nextDoubleFractional()) / Ziggurat.R;
+            y = Math.log(1 - nextDoubleFractional());
+        } while (-2 * y < x * x);
+        return negative ? x - Ziggurat.R : Ziggurat.R - x;
+    }
+
+    private Seed buildSeed() {
+        switch (engine) {
+            case SPLIT_MIX_64:
+                return SplitMix64Seed.initSplitMix64Seed(s0);
+            case XOSHIRO_256_STAR_STAR:
+                return new Xoshiro256StarStarSeed(s0, s1, s2, s3);
+            case PCG_64:
+                return new Pcg64Seed(s0, s1, s2, s3);
+            default:
+                Seed base = standardBase.setNextSeedValue(s0);
+                return haveNextGaussian ? standardSeedCacheGaussian(base, nextGaussian) : base;
+        }
+    }
+
+    private int next(int bits) {
+        snapshot = null;
+        if (engine == STANDARD) {
+            s0 = (s0 * 0x5DEECE66DL + 0xBL) & LCG_MASK;
+            return (int) (s0 >>> (48 - bits));
+        } else {
+            return (int) (nextWord() >>> (64 - bits));
+        }
+    }
+
+    private long nextWord() {
+        snapshot = null;
+        switch (engine) {
+            case SPLIT_MIX_64:
+                return mix64(s0 += GOLDEN_GAMMA);
+            case XOSHIRO_256_STAR_STAR: {
+                long result = Long.rotateLeft(s1 * 5, 7) * 9;
+                long t = s1 << 17;
+                s2 ^= s0;
+                s3 ^= s1;
+                s1 ^= s2;
+                s0 ^= s3;
+                s2 ^= t;
+                s3 = Long.rotateLeft(s3, 45);
+                return result;
+            }
+            case PCG_64: {
+                long hi = s0;
+                long lo = s1 | 1;
+                hi ^= hi >>> 32;
+                hi *= CHEAP_MULTIPLIER;
+                hi ^= hi >>> 48;
+                hi *= lo;
+
+                long newHi = unsignedMultiplyHigh(s1, CHEAP_MULTIPLIER) + s0 * CHEAP_MULTIPLIER;
+                long product = s1 * CHEAP_MULTIPLIER;
+                long newLo = product + s3;
+                s0 = newHi + s2 + (Long.compareUnsigned(newLo, product) < 0 ? 1 : 0);
+                s1 = newLo;
+                return hi;
+            }
+            default:
+                throw new IllegalStateException("not a 64-bit engine");
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package dev.marksman.kraftwerk.core;
+
+import dev.marksman.kraftwerk.Engine;
+
+import static dev.marksman.kraftwerk.core.SplitMix64Seed.GOLDEN_GAMMA;
+import static dev.marksman.kraftwerk.core.SplitMix64Seed.mix64;
+import static dev.marksman.kraftwerk.core.UnsignedMath.unsignedMultiplyHigh;
+
+/**
+ * A {@link dev.marksman.kraftwerk.Seed} backed by the PCG64 DXSM algorithm (128-bit LCG with a "cheap" 64-bit
+ * multiplier, and the "double xorshift multiply" output function applied to the pre-step state).
+ * <p>
+ * Even though this class is public, it is <i>not</i> part of the public API and can change at any time.
+ */
+public final class Pcg64Seed extends EngineSeed {
+    static final long CHEAP_MULTIPLIER = 0xda942042e4dd58b5L;
+
+    private final long stateHi;
+    private final long stateLo;
+    private final long incHi;
+    private final long incLo;
+
+    Pcg64Seed(long stateHi, long stateLo, long incHi, long incLo) {
+        this.stateHi = stateHi;
+        this.stateLo = stateLo;
+        this.incHi = incHi;
+        this.incLo = incLo | 1;
+    }
+
+    public static Pcg64Seed initPcg64Seed(long seed) {
+        long x = seed;
+        long stateHi = mix64(x += GOLDEN_GAMMA);
+        long stateLo = mix64(x += GOLDEN_GAMMA);
+        long incHi = mix64(x += GOLDEN_GAMMA);
+        long incLo = mix64(x + GOLDEN_GAMMA);
+        return new Pcg64Seed(stateHi, stateLo, incHi, incLo).step();
+    }
+
+    @Override
+    public long word() {
+        long hi = stateHi;
+        long lo = stateLo | 1;
+        hi ^= hi >>> 32;
+        hi *= CHEAP_MULTIPLIER;
+        hi ^= hi >>> 48;
+        hi *= lo;
+        return hi;
+    }
+
+    @Override
+    public Pcg64Seed step() {
+        long lo = stateLo * CHEAP_MULTIPLIER;
+        long hi = unsignedMultiplyHigh(stateLo, CHEAP_MULTIPLIER) + stateHi * CHEAP_MULTIPLIER;
+        long newLo = lo + incLo;
+        long carry = Long.compareUnsigned(newLo, lo) < 0 ? 1 : 0;
+        return new Pcg64Seed(hi + incHi + carry, newLo, incHi, incLo);
+    }
+
+    @Override
+    public Pcg64Seed advance(long steps) {
+        // affine exponentiation (Brown, "Random Number Generation with Arbitrary Strides")
+        long[] accMult = {0, 1};
+        long[] accPlus = {0, 0};
+        long[] curMult = {0, CHEAP_MULTIPLIER};
+        long[] curPlus = {incHi, incLo};
+        for (long n = steps; n != 0; n >>>= 1) {
+            if ((n & 1) != 0) {
+                accMult = multiply128(accMult, curMult);
+                accPlus = add128(multiply128(accPlus, curMult), curPlus);
+            }
+            curPlus = multiply128(add128(curMult, new long[]{0, 1}), curPlus);
+            curMult = multiply128(curMult, curMult);
+        }
+        long[] state = add128(multiply128(accMult, new long[]{stateHi, stateLo}), accPlus);
+        return new Pcg64Seed(state[0], state[1], incHi, incLo);
+    }
+
+    @Override
+    public Pcg64Seed reseed(long value) {
+        return initPcg64Seed(value);
+    }
+
+    @Override
+    public Engine getEngine() {
+        return Engine.PCG_64;
+    }
+
+    @Override
+    public long getSeedValue() {
+        return stateLo;
+    }
+
+    long getStateHi() {
+        return stateHi;
+    }
+
+    long getStateLo() {
+        return stateLo;
+    }
+
+    long getIncHi() {
+        return incHi;
+    }
+
+    long getIncLo() {
+        return incLo;
+    }
+
+    private static long[] multiply128(long[] a, long[] b) {
+        return new long[]{unsignedMultiplyHigh(a[1], b[1]) + a[0] * b[1] + a[1] * b[0], a[1] * b[1]};
+    }
+
+    private static long[] add128(long[] a, long[] b) {
+        long lo = a[1] + b[1];
+        long carry = Long.compareUnsigned(lo, a[1]) < 0 ? 1 : 0;
+        return new long[]{a[0] + b[0] + carry, lo};
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Pcg64Seed that = (Pcg64Seed) o;
+
+        return stateHi == that.stateHi && stateLo == that.stateLo &&
+                incHi == that.incHi && incLo == that.incLo;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (stateHi ^ (stateHi >>> 32));
+        result = 31 * result + (int) (stateLo ^ (stateLo >>> 32));
+        result = 31 * result + (int) (incHi ^ (incHi >>> 32));
+        result = 31 * result + (int) (incLo ^ (incLo >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Pcg64Seed{" +
+                "stateHi=" + stateHi +
+                ", stateLo=" + stateLo +
+                ", incHi=" + incHi +
+                ", incLo=" + incLo +
+                '}';
+    }
+}
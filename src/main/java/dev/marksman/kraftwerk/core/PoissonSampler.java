@@ -0,0 +1,71 @@
+package dev.marksman.kraftwerk.core;
+
+import static dev.marksman.kraftwerk.core.SpecialFunctions.logGamma;
+
+/**
+ * Samples a Poisson distribution.  For small means, uses Knuth's multiplication method; otherwise, uses
+ * H&ouml;rmann's transformed rejection with squeeze (PTRS) ("The Transformed Rejection Method for Generating
+ * Poisson Random Variables", 1993), which takes constant expected time.
+ * <p>
+ * Even though this class is public, it is <i>not</i> part of the public API and can change at any time.
+ */
+public final class PoissonSampler {
+    private static final double PTRS_THRESHOLD = 10;
+
+    private final double mean;
+    // multiplication method
+    private final double expNegativeMean;
+    // PTRS
+    private final double logMean;
+    private final double a;
+    private final double b;
+    private final double logInverseAlpha;
+    private final double vr;
+
+    private PoissonSampler(double mean) {
+        this.mean = mean;
+        this.expNegativeMean = Math.exp(-mean);
+        this.logMean = Math.log(mean);
+        this.b = 0.931 + 2.53 * Math.sqrt(mean);
+        this.a = -0.059 + 0.02483 * b;
+        this.logInverseAlpha = Math.log(1.1239 + 1.1328 / (b - 3.4));
+        this.vr = 0.9277 - 3.6224 / (b - 2);
+    }
+
+    public static PoissonSampler poissonSampler(double mean) {
+        return new PoissonSampler(mean);
+    }
+
+    public long sample(MutableSeed cursor) {
+        return mean < PTRS_THRESHOLD ? multiplication(cursor) : ptrs(cursor);
+    }
+
+    private long multiplication(MutableSeed cursor) {
+        long k = 0;
+        double product = cursor.nextDoubleFractional();
+        while (product > expNegativeMean) {
+            k += 1;
+            product *= cursor.nextDoubleFractional();
+        }
+        return k;
+    }
+
+    private long ptrs(MutableSeed cursor) {
+        while (true) {
+            double u = cursor.nextDoubleFractional() - 0.5;
+            double v = cursor.nextDoubleFractional();
+            double us = 0.5 - Math.abs(u);
+            long k = (long) Math.floor((2 * a / us + b) * u + mean + 0.43);
+            if (us >= 0.07 && v <= vr) {
+                return k;
+            }
+            if (k < 0 || (us < 0.013 && v > us)) {
+                continue;
+            }
+            if (Math.log(v) + logInverseAlpha - Math.log(a / (us * us) + b)
+                    <= -mean + k * logMean - logGamma(k + 1)) {
+                return k;
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package dev.marksman.kraftwerk.core;
+
+import dev.marksman.kraftwerk.Seed;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * A stable, versioned binary encoding for the {@link Seed}s of every {@link dev.marksman.kraftwerk.Engine}.
+ * <p>
+ * An encoding consists of a format version byte, an engine code byte, and the engine's complete state,
+ * with multi-byte values in big-endian order.  Engine codes are fixed, and do not depend on the declaration order
+ * of {@code Engine}.  Decoders must continue to accept every format version that has been written.
+ * <p>
+ * Even though this class is public, it is <i>not</i> part of the public API and can change at any time.
+ */
+public final class SeedEncoding {
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte STANDARD = 0;
+    private static final byte SPLIT_MIX_64 = 1;
+    private static final byte XOSHIRO_256_STAR_STAR = 2;
+    private static final byte PCG_64 = 3;
+
+    private SeedEncoding() {
+
+    }
+
+    public static byte[] encodeSeed(Seed seed) {
+        if (seed instanceof StandardSeed) {
+            return header(STANDARD, 9)
+                    .putLong(seed.getSeedValue())
+                    .put((byte) 0)
+                    .array();
+        } else if (seed instanceof StandardSeedCacheGaussian
+                && ((StandardSeedCacheGaussian) seed).getUnderlying() instanceof StandardSeed) {
+            StandardSeedCacheGaussian cached = (StandardSeedCacheGaussian) seed;
+            return header(STANDARD, 17)
+                    .putLong(cached.getSeedValue())
+                    .put((byte) 1)
+                    .putDouble(cached.getNextGaussian())
+                    .array();
+        } else if (seed instanceof SplitMix64Seed) {
+            return header(SPLIT_MIX_64, 8)
+                    .putLong(seed.getSeedValue())
+                    .array();
+        } else if (seed instanceof Xoshiro256StarStarSeed) {
+            Xoshiro256StarStarSeed x = (Xoshiro256StarStarSeed) seed;
+            return header(XOSHIRO_256_STAR_STAR, 32)
+                    .putLong(x.getS0())
+                    .putLong(x.getS1())
+                    .putLong(x.getS2())
+                    .putLong(x.getS3())
+                    .array();
+        } else if (seed instanceof Pcg64Seed) {
+            Pcg64Seed p = (Pcg64Seed) seed;
+            return header(PCG_64, 32)
+                    .putLong(p.getStateHi())
+                    .putLong(p.getStateLo())
+                    .putLong(p.getIncHi())
+                    .putLong(p.getIncLo())
+                    .array();
+        } else {
+            throw new IllegalArgumentException("unsupported Seed implementation: " + seed.getClass().getName());
+        }
+    }
+
+    public static Seed decodeSeed(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            byte version = buffer.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("unsupported seed format version: " + version);
+            }
+            Seed result = decodeEngineState(buffer.get(), buffer);
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("unexpected trailing bytes in encoded seed");
+            }
+            return result;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("encoded seed is truncated");
+        }
+    }
+
+    private static Seed decodeEngineState(byte engineCode, ByteBuffer buffer) {
+        switch (engineCode) {
+            case STANDARD: {
+                // perturb and setNextSeedValue can leave bits above the 48 the engine uses, so all 64 are kept
+                long state = buffer.getLong();
+                StandardSeed base = StandardSeed.standardSeed(state);
+                byte hasNextGaussian = buffer.get();
+                if (hasNextGaussian == 0) {
+                    return base;
+                } else if (hasNextGaussian == 1) {
+                    return StandardSeedCacheGaussian.standardSeedCacheGaussian(base, buffer.getDouble());
+                } else {
+                    throw new IllegalArgumentException("invalid cached gaussian flag for standard seed");
+                }
+            }
+            case SPLIT_MIX_64:
+                return SplitMix64Seed.initSplitMix64Seed(buffer.getLong());
+            case XOSHIRO_256_STAR_STAR: {
+                long s0 = buffer.getLong();
+                long s1 = buffer.getLong();
+                long s2 = buffer.getLong();
+                long s3 = buffer.getLong();
+                if ((s0 | s1 | s2 | s3) == 0) {
+                    throw new IllegalArgumentException("invalid state for xoshiro256** seed");
+                }
+                return new Xoshiro256StarStarSeed(s0, s1, s2, s3);
+            }
+            case PCG_64: {
+                long stateHi = buffer.getLong();
+                long stateLo = buffer.getLong();
+                long incHi = buffer.getLong();
+                long incLo = buffer.getLong();
+                if ((incLo & 1) == 0) {
+                    throw new IllegalArgumentException("invalid increment for PCG-64 seed");
+                }
+                return new Pcg64Seed(stateHi, stateLo, incHi, incLo);
+            }
+            default:
+                throw new IllegalArgumentException("unknown engine code in encoded seed: " + engineCode);
+        }
+    }
+
+    private static ByteBuffer header(byte engineCode, int stateLength) {
+        return ByteBuffer.allocate(2 + stateLength)
+                .put(FORMAT_VERSION)
+                .put(engineCode);
+    }
+}
@@ -0,0 +1,37 @@
+package dev.marksman.kraftwerk.core;
+
+final class SpecialFunctions {
+    private static final double LOG_2_PI = 1.8378770664093453;
+
+    // coefficients of the Stirling series for log(gamma(x))
+    private static final double[] STIRLING = {8.333333333333333e-02, -2.777777777777778e-03,
+            7.936507936507937e-04, -5.952380952380952e-04, 8.417508417508418e-04, -1.917526917526918e-03,
+            6.410256410256410e-03, -2.955065359477124e-02, 1.796443723688307e-01, -1.39243221690590e+00};
+
+    private SpecialFunctions() {
+
+    }
+
+    /**
+     * Returns log(gamma({@code x})), for {@code x} &gt; 0.
+     */
+    static double logGamma(double x) {
+        if (x == 1.0 || x == 2.0) {
+            return 0.0;
+        }
+        // shift small arguments up, where the series converges quickly, and correct afterwards
+        int n = x < 7.0 ? (int) (7 - x) : 0;
+        double x0 = x + n;
+        double x2 = (1.0 / x0) * (1.0 / x0);
+        double series = STIRLING[9];
+        for (int k = 8; k >= 0; k--) {
+            series = series * x2 + STIRLING[k];
+        }
+        double result = series / x0 + 0.5 * LOG_2_PI + (x0 - 0.5) * Math.log(x0) - x0;
+        for (int k = 1; k <= n; k++) {
+            x0 -= 1.0;
+            result -= Math.log(x0);
+        }
+        return result;
+    }
+}
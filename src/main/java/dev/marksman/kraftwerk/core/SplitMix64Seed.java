@@ -0,0 +1,81 @@
+package dev.marksman.kraftwerk.core;
+
+import dev.marksman.kraftwerk.Engine;
+
+/**
+ * A {@link dev.marksman.kraftwerk.Seed} backed by the SplitMix64 algorithm.
+ * Produces the same sequence of {@code long}s as {@link java.util.SplittableRandom} for the same initial value.
+ * <p>
+ * Even though this class is public, it is <i>not</i> part of the public API and can change at any time.
+ */
+public final class SplitMix64Seed extends EngineSeed {
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long state;
+
+    private SplitMix64Seed(long state) {
+        this.state = state;
+    }
+
+    public static SplitMix64Seed initSplitMix64Seed(long seed) {
+        return new SplitMix64Seed(seed);
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public long word() {
+        return mix64(state + GOLDEN_GAMMA);
+    }
+
+    @Override
+    public SplitMix64Seed step() {
+        return new SplitMix64Seed(state + GOLDEN_GAMMA);
+    }
+
+    @Override
+    public SplitMix64Seed advance(long steps) {
+        return new SplitMix64Seed(state + steps * GOLDEN_GAMMA);
+    }
+
+    @Override
+    public SplitMix64Seed reseed(long value) {
+        return new SplitMix64Seed(value);
+    }
+
+    @Override
+    public Engine getEngine() {
+        return Engine.SPLIT_MIX_64;
+    }
+
+    @Override
+    public long getSeedValue() {
+        return state;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SplitMix64Seed that = (SplitMix64Seed) o;
+
+        return state == that.state;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (state ^ (state >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "SplitMix64Seed{" +
+                "state=" + state +
+                '}';
+    }
+}
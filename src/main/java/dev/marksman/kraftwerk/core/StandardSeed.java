@@ -16,7 +16,7 @@ public final class StandardSeed implements Seed {
         this.seedValue = seedValue;
     }
 
-    private static StandardSeed standardSeed(long value) {
+    static StandardSeed standardSeed(long value) {
         return new StandardSeed(value);
     }
 
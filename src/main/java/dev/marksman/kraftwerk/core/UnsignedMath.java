@@ -0,0 +1,22 @@
+package dev.marksman.kraftwerk.core;
+
+final class UnsignedMath {
+    private UnsignedMath() {
+
+    }
+
+    /**
+     * Returns the high 64 bits of the unsigned 128-bit product of two {@code long}s.
+     * (Equivalent to {@code Math.unsignedMultiplyHigh}, which is not available on Java 8.)
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long w0 = x0 * y0;
+        long t = x1 * y0 + (w0 >>> 32);
+        long w1 = (t & 0xFFFFFFFFL) + x0 * y1;
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+}
@@ -0,0 +1,157 @@
+package dev.marksman.kraftwerk.core;
+
+import dev.marksman.kraftwerk.Engine;
+
+import static dev.marksman.kraftwerk.core.SplitMix64Seed.GOLDEN_GAMMA;
+import static dev.marksman.kraftwerk.core.SplitMix64Seed.mix64;
+
+/**
+ * A {@link dev.marksman.kraftwerk.Seed} backed by the xoshiro256** algorithm.
+ * <p>
+ * Even though this class is public, it is <i>not</i> part of the public API and can change at any time.
+ */
+public final class Xoshiro256StarStarSeed extends EngineSeed {
+    // below this, stepping one at a time is cheaper than evaluating the jump polynomial
+    private static final long JUMP_THRESHOLD = 256;
+
+    private final long s0;
+    private final long s1;
+    private final long s2;
+    private final long s3;
+
+    Xoshiro256StarStarSeed(long s0, long s1, long s2, long s3) {
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    public static Xoshiro256StarStarSeed initXoshiro256StarStarSeed(long seed) {
+        // expand the seed using SplitMix64, as recommended by the authors
+        long x = seed;
+        long s0 = mix64(x += GOLDEN_GAMMA);
+        long s1 = mix64(x += GOLDEN_GAMMA);
+        long s2 = mix64(x += GOLDEN_GAMMA);
+        long s3 = mix64(x + GOLDEN_GAMMA);
+        if ((s0 | s1 | s2 | s3) == 0) {
+            // the all-zero state is a fixed point
+            s0 = GOLDEN_GAMMA;
+        }
+        return new Xoshiro256StarStarSeed(s0, s1, s2, s3);
+    }
+
+    @Override
+    public long word() {
+        return Long.rotateLeft(s1 * 5, 7) * 9;
+    }
+
+    @Override
+    public Xoshiro256StarStarSeed step() {
+        long t = s1 << 17;
+        long n2 = s2 ^ s0;
+        long n3 = s3 ^ s1;
+        long n1 = s1 ^ n2;
+        long n0 = s0 ^ n3;
+        n2 ^= t;
+        n3 = Long.rotateLeft(n3, 45);
+        return new Xoshiro256StarStarSeed(n0, n1, n2, n3);
+    }
+
+    @Override
+    public Xoshiro256StarStarSeed advance(long steps) {
+        if (steps < JUMP_THRESHOLD) {
+            Xoshiro256StarStarSeed current = this;
+            for (long i = 0; i < steps; i++) {
+                current = current.step();
+            }
+            return current;
+        }
+        long[] jump = Gf2Jump.xPowMod(steps, CharacteristicPolynomial.LOWER_COEFFICIENTS);
+        long t0 = 0, t1 = 0, t2 = 0, t3 = 0;
+        Xoshiro256StarStarSeed current = this;
+        for (int i = 0; i < 256; i++) {
+            if (Gf2Jump.testBit(jump, i)) {
+                t0 ^= current.s0;
+                t1 ^= current.s1;
+                t2 ^= current.s2;
+                t3 ^= current.s3;
+            }
+            current = current.step();
+        }
+        return new Xoshiro256StarStarSeed(t0, t1, t2, t3);
+    }
+
+    @Override
+    public Xoshiro256StarStarSeed reseed(long value) {
+        return initXoshiro256StarStarSeed(value);
+    }
+
+    @Override
+    public Engine getEngine() {
+        return Engine.XOSHIRO_256_STAR_STAR;
+    }
+
+    @Override
+    public long getSeedValue() {
+        return s0;
+    }
+
+    long getS0() {
+        return s0;
+    }
+
+    long getS1() {
+        return s1;
+    }
+
+    long getS2() {
+        return s2;
+    }
+
+    long getS3() {
+        return s3;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Xoshiro256StarStarSeed that = (Xoshiro256StarStarSeed) o;
+
+        return s0 == that.s0 && s1 == that.s1 && s2 == that.s2 && s3 == that.s3;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (s0 ^ (s0 >>> 32));
+        result = 31 * result + (int) (s1 ^ (s1 >>> 32));
+        result = 31 * result + (int) (s2 ^ (s2 >>> 32));
+        result = 31 * result + (int) (s3 ^ (s3 >>> 32));
+        return result;
+    }
+
+    private static final class CharacteristicPolynomial {
+        private static final long[] LOWER_COEFFICIENTS = compute();
+
+        private static long[] compute() {
+            boolean[] bits = new boolean[512];
+            Xoshiro256StarStarSeed current = initXoshiro256StarStarSeed(0);
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = (current.s0 & 1) != 0;
+                current = current.step();
+            }
+            return Gf2Jump.characteristicPolynomial(bits);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Xoshiro256StarStarSeed{" +
+                "s0=" + s0 +
+                ", s1=" + s1 +
+                ", s2=" + s2 +
+                ", s3=" + s3 +
+                '}';
+    }
+}
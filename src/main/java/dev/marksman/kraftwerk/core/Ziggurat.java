@@ -0,0 +1,41 @@
+package dev.marksman.kraftwerk.core;
+
+/**
+ * Tables for the Ziggurat method of sampling the standard normal distribution (Marsaglia and Tsang, 2000),
+ * with 128 layers, as parameterized by Doornik ("An Improved Ziggurat Method to Generate Normal Random Samples", 2005).
+ */
+final class Ziggurat {
+    static final int LAYER_MASK = 0x7f;
+    static final double R = 3.442619855899;
+    private static final int LAYERS = 128;
+    private static final double V = 9.91256303526217e-3;
+
+    /**
+     * {@code X[i]} is the right edge of layer {@code i}; {@code X[0]} is the width of a rectangle with the same area
+     * as the base layer (which includes the tail), and {@code X[LAYERS]} is 0.
+     */
+    static final double[] X = new double[LAYERS + 1];
+
+    /**
+     * {@code RATIO[i]} is {@code X[i + 1] / X[i]}, the fraction of layer {@code i} that lies entirely under the curve.
+     */
+    static final double[] RATIO = new double[LAYERS];
+
+    static {
+        double f = Math.exp(-0.5 * R * R);
+        X[0] = V / f;
+        X[1] = R;
+        X[LAYERS] = 0;
+        for (int i = 2; i < LAYERS; i++) {
+            X[i] = Math.sqrt(-2 * Math.log(V / X[i - 1] + f));
+            f = Math.exp(-0.5 * X[i] * X[i]);
+        }
+        for (int i = 0; i < LAYERS; i++) {
+            RATIO[i] = X[i + 1] / X[i];
+        }
+    }
+
+    private Ziggurat() {
+
+    }
+}
@@ -0,0 +1,90 @@
+package dev.marksman.kraftwerk.core;
+
+/**
+ * Samples a Zipf distribution over the ranks 1 through {@code n}, using the rejection-inversion method of
+ * H&ouml;rmann and Derflinger ("Rejection-Inversion to Generate Variates from Monotone Discrete Distributions", 1996).
+ * <p>
+ * Setup and sampling both take constant time and space, regardless of {@code n}.
+ * <p>
+ * Even though this class is public, it is <i>not</i> part of the public API and can change at any time.
+ */
+public final class ZipfSampler {
+    private final long n;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+
+    private ZipfSampler(long n, double exponent) {
+        this.n = n;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    public static ZipfSampler zipfSampler(long n, double exponent) {
+        return new ZipfSampler(n, exponent);
+    }
+
+    public long sample(MutableSeed cursor) {
+        while (true) {
+            double u = hIntegralN + cursor.nextDoubleFractional() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            long k = (long) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > n) {
+                k = n;
+            }
+            // the first test accepts most samples without evaluating h
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * The hat function, 1 / x<sup>exponent</sup>.
+     */
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    /**
+     * An antiderivative of {@link #h}: (x<sup>1 - exponent</sup> - 1) / (1 - exponent), or log(x) if exponent is 1.
+     */
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return expm1OverX((1 - exponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1 - exponent);
+        if (t < -1) {
+            // only reachable through rounding error
+            t = -1;
+        }
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    /**
+     * log(1 + x) / x, accurate near 0.
+     */
+    private static double log1pOverX(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    /**
+     * (exp(x) - 1) / x, accurate near 0.
+     */
+    private static double expm1OverX(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1 + x * 0.5 * (1 + x / 3 * (1 + 0.25 * x));
+    }
+}
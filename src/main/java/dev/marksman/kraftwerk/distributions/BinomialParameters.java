@@ -0,0 +1,64 @@
+package dev.marksman.kraftwerk.distributions;
+
+/**
+ * The parameters of a binomial distribution.
+ */
+public final class BinomialParameters {
+    private final int trials;
+    private final double probability;
+
+    private BinomialParameters(int trials, double probability) {
+        this.trials = trials;
+        this.probability = probability;
+    }
+
+    /**
+     * Creates a {@code BinomialParameters}.
+     *
+     * @param trials      the number of trials; must be &gt;= 0
+     * @param probability the probability of success of each trial; must be between 0 and 1, inclusive
+     * @return a {@code BinomialParameters}
+     */
+    public static BinomialParameters binomialParameters(int trials, double probability) {
+        if (trials < 0) {
+            throw new IllegalArgumentException("trials must be >= 0");
+        }
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("probability must be between 0 and 1");
+        }
+        return new BinomialParameters(trials, probability);
+    }
+
+    public int getTrials() {
+        return trials;
+    }
+
+    public double getProbability() {
+        return probability;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        BinomialParameters that = (BinomialParameters) o;
+
+        return trials == that.trials && Double.compare(that.probability, probability) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = trials;
+        result = 31 * result + Double.hashCode(probability);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "BinomialParameters{" +
+                "trials=" + trials +
+                ", probability=" + probability +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+package dev.marksman.kraftwerk.distributions;
+
+/**
+ * The parameters of an exponential distribution.
+ */
+public final class ExponentialParameters {
+    private final double rate;
+
+    private ExponentialParameters(double rate) {
+        this.rate = rate;
+    }
+
+    /**
+     * Creates a {@code ExponentialParameters}.
+     *
+     * @param rate the rate (the reciprocal of the mean); must be &gt; 0 and finite
+     * @return a {@code ExponentialParameters}
+     */
+    public static ExponentialParameters exponentialParameters(double rate) {
+        if (!(rate > 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("rate must be > 0 and finite");
+        }
+        return new ExponentialParameters(rate);
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ExponentialParameters that = (ExponentialParameters) o;
+
+        return Double.compare(that.rate, rate) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(rate);
+    }
+
+    @Override
+    public String toString() {
+        return "ExponentialParameters{" +
+                "rate=" + rate +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package dev.marksman.kraftwerk.distributions;
+
+/**
+ * The parameters of a gamma distribution, in terms of shape and scale.
+ */
+public final class GammaParameters {
+    private final double shape;
+    private final double scale;
+
+    private GammaParameters(double shape, double scale) {
+        this.shape = shape;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates a {@code GammaParameters}.
+     *
+     * @param shape the shape; must be &gt; 0 and finite
+     * @param scale the scale; must be &gt; 0 and finite
+     * @return a {@code GammaParameters}
+     */
+    public static GammaParameters gammaParameters(double shape, double scale) {
+        if (!(shape > 0) || Double.isInfinite(shape)) {
+            throw new IllegalArgumentException("shape must be > 0 and finite");
+        }
+        if (!(scale > 0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException("scale must be > 0 and finite");
+        }
+        return new GammaParameters(shape, scale);
+    }
+
+    public double getShape() {
+        return shape;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        GammaParameters that = (GammaParameters) o;
+
+        return Double.compare(that.shape, shape) == 0 && Double.compare(that.scale, scale) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(shape);
+        result = 31 * result + Double.hashCode(scale);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "GammaParameters{" +
+                "shape=" + shape +
+                ", scale=" + scale +
+                '}';
+    }
+}
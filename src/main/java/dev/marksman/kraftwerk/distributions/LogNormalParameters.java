@@ -0,0 +1,64 @@
+package dev.marksman.kraftwerk.distributions;
+
+/**
+ * The parameters of a log-normal distribution, in terms of the underlying normal distribution.
+ */
+public final class LogNormalParameters {
+    private final double mu;
+    private final double sigma;
+
+    private LogNormalParameters(double mu, double sigma) {
+        this.mu = mu;
+        this.sigma = sigma;
+    }
+
+    /**
+     * Creates a {@code LogNormalParameters}.
+     *
+     * @param mu    the mean of the underlying normal distribution; must be finite
+     * @param sigma the standard deviation of the underlying normal distribution; must be &gt;= 0 and finite
+     * @return a {@code LogNormalParameters}
+     */
+    public static LogNormalParameters logNormalParameters(double mu, double sigma) {
+        if (Double.isNaN(mu) || Double.isInfinite(mu)) {
+            throw new IllegalArgumentException("mu must be finite");
+        }
+        if (!(sigma >= 0) || Double.isInfinite(sigma)) {
+            throw new IllegalArgumentException("sigma must be >= 0 and finite");
+        }
+        return new LogNormalParameters(mu, sigma);
+    }
+
+    public double getMu() {
+        return mu;
+    }
+
+    public double getSigma() {
+        return sigma;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LogNormalParameters that = (LogNormalParameters) o;
+
+        return Double.compare(that.mu, mu) == 0 && Double.compare(that.sigma, sigma) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(mu);
+        result = 31 * result + Double.hashCode(sigma);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "LogNormalParameters{" +
+                "mu=" + mu +
+                ", sigma=" + sigma +
+                '}';
+    }
+}
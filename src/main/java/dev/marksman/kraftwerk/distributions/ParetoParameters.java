@@ -0,0 +1,64 @@
+package dev.marksman.kraftwerk.distributions;
+
+/**
+ * The parameters of a Pareto (type I) distribution.
+ */
+public final class ParetoParameters {
+    private final double scale;
+    private final double shape;
+
+    private ParetoParameters(double scale, double shape) {
+        this.scale = scale;
+        this.shape = shape;
+    }
+
+    /**
+     * Creates a {@code ParetoParameters}.
+     *
+     * @param scale the scale (the minimum value); must be &gt; 0 and finite
+     * @param shape the shape (also known as the tail index); must be &gt; 0 and finite
+     * @return a {@code ParetoParameters}
+     */
+    public static ParetoParameters paretoParameters(double scale, double shape) {
+        if (!(scale > 0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException("scale must be > 0 and finite");
+        }
+        if (!(shape > 0) || Double.isInfinite(shape)) {
+            throw new IllegalArgumentException("shape must be > 0 and finite");
+        }
+        return new ParetoParameters(scale, shape);
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    public double getShape() {
+        return shape;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ParetoParameters that = (ParetoParameters) o;
+
+        return Double.compare(that.scale, scale) == 0 && Double.compare(that.shape, shape) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(scale);
+        result = 31 * result + Double.hashCode(shape);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ParetoParameters{" +
+                "scale=" + scale +
+                ", shape=" + shape +
+                '}';
+    }
+}
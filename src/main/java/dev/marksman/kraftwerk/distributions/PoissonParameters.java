@@ -0,0 +1,53 @@
+package dev.marksman.kraftwerk.distributions;
+
+/**
+ * The parameters of a Poisson distribution.
+ */
+public final class PoissonParameters {
+    private static final double MAX_MEAN = 0x1.0p52;
+
+    private final double mean;
+
+    private PoissonParameters(double mean) {
+        this.mean = mean;
+    }
+
+    /**
+     * Creates a {@code PoissonParameters}.
+     *
+     * @param mean the mean; must be &gt;= 0 and &lt;= 2<sup>52</sup>
+     * @return a {@code PoissonParameters}
+     */
+    public static PoissonParameters poissonParameters(double mean) {
+        if (!(mean >= 0) || mean > MAX_MEAN) {
+            throw new IllegalArgumentException("mean must be >= 0 and <= 2^52");
+        }
+        return new PoissonParameters(mean);
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        PoissonParameters that = (PoissonParameters) o;
+
+        return Double.compare(that.mean, mean) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(mean);
+    }
+
+    @Override
+    public String toString() {
+        return "PoissonParameters{" +
+                "mean=" + mean +
+                '}';
+    }
+}
@@ -0,0 +1,65 @@
+package dev.marksman.kraftwerk.distributions;
+
+/**
+ * The parameters of a Zipf distribution over the ranks 1 through {@code elementCount}, in which the probability
+ * of rank {@code k} is proportional to 1 / k<sup>exponent</sup>.
+ */
+public final class ZipfParameters {
+    private final long elementCount;
+    private final double exponent;
+
+    private ZipfParameters(long elementCount, double exponent) {
+        this.elementCount = elementCount;
+        this.exponent = exponent;
+    }
+
+    /**
+     * Creates a {@code ZipfParameters}.
+     *
+     * @param elementCount the number of elements; must be &gt;= 1
+     * @param exponent     the exponent; must be &gt; 0 and finite
+     * @return a {@code ZipfParameters}
+     */
+    public static ZipfParameters zipfParameters(long elementCount, double exponent) {
+        if (elementCount < 1) {
+            throw new IllegalArgumentException("elementCount must be >= 1");
+        }
+        if (!(exponent > 0) || Double.isInfinite(exponent)) {
+            throw new IllegalArgumentException("exponent must be > 0 and finite");
+        }
+        return new ZipfParameters(elementCount, exponent);
+    }
+
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    public double getExponent() {
+        return exponent;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ZipfParameters that = (ZipfParameters) o;
+
+        return elementCount == that.elementCount && Double.compare(that.exponent, exponent) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(elementCount);
+        result = 31 * result + Double.hashCode(exponent);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ZipfParameters{" +
+                "elementCount=" + elementCount +
+                ", exponent=" + exponent +
+                '}';
+    }
+}
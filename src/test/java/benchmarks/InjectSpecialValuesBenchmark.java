@@ -15,5 +15,6 @@ public class InjectSpecialValuesBenchmark extends BenchmarkBase {
         System.out.println(gen.run().take(100000).foldLeft((acc, n) -> n >= 998 ? acc + 1 : acc, 0));
         System.out.println("Base: " + benchmark(baseGenerator, ITERATIONS));
         System.out.println("Special values: " + benchmark(gen, ITERATIONS));
+        System.out.println("Special values (batch): " + benchmarkBatch(gen, ITERATIONS));
     }
 }
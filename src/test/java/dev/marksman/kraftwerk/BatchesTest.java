@@ -0,0 +1,79 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.collectionviews.ImmutableVector;
+import dev.marksman.collectionviews.Vector;
+import dev.marksman.kraftwerk.constraints.IntRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.stream.Collectors;
+
+import static dev.marksman.kraftwerk.Generators.generateAlphaString;
+import static dev.marksman.kraftwerk.Generators.generateGaussian;
+import static dev.marksman.kraftwerk.Generators.generateInt;
+import static dev.marksman.kraftwerk.Generators.generateLong;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchesTest {
+    private static final int BATCH_SIZE = 500;
+
+    @Test
+    void batchMatchesRun() {
+        Generator<String> gen = generateAlphaString(8);
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            Result<Seed, ImmutableVector<String>> batch = gen.runBatch(BATCH_SIZE, seed);
+            assertEquals(Vector.copyFrom(gen.run(seed).take(BATCH_SIZE)), batch.getValue());
+
+            String[] filled = new String[BATCH_SIZE];
+            assertEquals(batch.getNextState(), gen.fill(filled, seed));
+            assertEquals(batch.getValue(), Vector.copyFrom(filled));
+        }
+    }
+
+    @Test
+    void batchesCanBeChained() {
+        Generator<Integer> gen = generateInt(IntRange.from(0).to(1000)).fmap(n -> n * 3);
+        Seed seed = Seed.random();
+        Result<Seed, ImmutableVector<Integer>> whole = gen.runBatch(BATCH_SIZE * 2, seed);
+        Result<Seed, ImmutableVector<Integer>> first = gen.runBatch(BATCH_SIZE, seed);
+        Result<Seed, ImmutableVector<Integer>> second = gen.runBatch(BATCH_SIZE, first.getNextState());
+        assertEquals(whole.getValue(), Vector.copyFrom(first.getValue().concat(second.getValue())));
+        assertEquals(whole.getNextState(), second.getNextState());
+    }
+
+    @Test
+    void primitiveBatchesMatchIterators() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+
+            IntGenerator ints = generateInt(IntRange.from(-100).to(100));
+            int[] intBatch = ints.runIntBatch(BATCH_SIZE, seed).getValue();
+            PrimitiveIterator.OfInt intIterator = ints.runInts(seed);
+            for (int value : intBatch) {
+                assertEquals(intIterator.nextInt(), value);
+            }
+            assertArrayEquals(intBatch, ints.streamInts(seed).limit(BATCH_SIZE).toArray());
+
+            LongGenerator longs = generateLong();
+            long[] longBatch = new long[BATCH_SIZE];
+            Seed afterLongs = longs.fillLongs(longBatch, seed);
+            assertArrayEquals(longBatch, longs.streamLongs(seed).limit(BATCH_SIZE).toArray());
+            assertEquals(afterLongs, longs.runLongBatch(BATCH_SIZE, seed).getNextState());
+
+            DoubleGenerator gaussians = generateGaussian();
+            double[] doubleBatch = gaussians.runDoubleBatch(BATCH_SIZE, seed).getValue();
+            assertEquals(Vector.copyFrom(gaussians.run(seed).take(BATCH_SIZE)),
+                    Vector.copyFrom(Arrays.stream(doubleBatch).boxed().collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    void negativeCountIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> generateInt().runBatch(-1, Seed.random()));
+        assertThrows(IllegalArgumentException.class, () -> generateInt().runIntBatch(-1, Seed.random()));
+    }
+}
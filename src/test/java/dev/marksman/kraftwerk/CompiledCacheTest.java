@@ -0,0 +1,58 @@
+package dev.marksman.kraftwerk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.marksman.kraftwerk.CompiledCache.compiledCache;
+import static dev.marksman.kraftwerk.CompiledCache.identityCache;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CompiledCacheTest {
+
+    @Test
+    void computesOncePerKey() {
+        AtomicInteger computed = new AtomicInteger();
+        CompiledCache<String, Object> cache = compiledCache(8);
+        Object first = cache.get("a", k -> {
+            computed.incrementAndGet();
+            return new Object();
+        });
+        Object second = cache.get("a", k -> {
+            computed.incrementAndGet();
+            return new Object();
+        });
+        assertSame(first, second);
+        assertEquals(1, computed.get());
+    }
+
+    @Test
+    void boundedByCapacity() {
+        CompiledCache<Integer, Integer> cache = compiledCache(5);
+        for (int i = 0; i < 100; i++) {
+            cache.get(i, k -> k * 2);
+        }
+        assertEquals(5, cache.size());
+        assertEquals(198, (int) cache.get(99, k -> -1));
+    }
+
+    @Test
+    void evictsOldestFirst() {
+        CompiledCache<Integer, Integer> cache = compiledCache(2);
+        cache.get(1, k -> 10);
+        cache.get(2, k -> 20);
+        cache.get(3, k -> 30);
+        assertEquals(-1, (int) cache.get(1, k -> -1));
+        assertEquals(30, (int) cache.get(3, k -> -1));
+    }
+
+    @Test
+    void identityCacheComparesKeysByIdentity() {
+        CompiledCache<String, Integer> cache = identityCache(8);
+        String key = "key";
+        assertEquals(1, (int) cache.get(key, k -> 1));
+        assertEquals(1, (int) cache.get(key, k -> 2));
+        assertEquals(3, (int) cache.get(new String(key), k -> 3));
+    }
+}
@@ -0,0 +1,115 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.kraftwerk.constraints.IntRange;
+import dev.marksman.kraftwerk.constraints.LongRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+
+import static dev.marksman.kraftwerk.Generators.generateAlphaString;
+import static dev.marksman.kraftwerk.Generators.generateBoolean;
+import static dev.marksman.kraftwerk.Generators.generateDistinctInts;
+import static dev.marksman.kraftwerk.Generators.generateDistinctLongs;
+import static dev.marksman.kraftwerk.Generators.generateHashSetOfSize;
+import static dev.marksman.kraftwerk.Generators.generateInt;
+import static dev.marksman.kraftwerk.Generators.generateMapOfSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistinctTest {
+
+    @Test
+    void distinctIntsHaveExactSize() {
+        IntRange smallDomain = IntRange.from(-10).to(10);
+        IntRange largeDomain = IntRange.fullRange();
+        for (Engine engine : Engine.values()) {
+            Iterator<HashSet<Integer>> small = generateDistinctInts(15, smallDomain).run(Seed.random(engine)).iterator();
+            Iterator<HashSet<Integer>> large = generateDistinctInts(1000, largeDomain).run(Seed.random(engine)).iterator();
+            for (int i = 0; i < 20; i++) {
+                HashSet<Integer> values = small.next();
+                assertEquals(15, values.size());
+                values.forEach(n -> assertTrue(smallDomain.includes(n)));
+                assertEquals(1000, large.next().size());
+            }
+        }
+    }
+
+    @Test
+    void smallSamplesFromMidSizedDomains() {
+        IntRange range = IntRange.from(0).to((1 << 26) - 1);
+        Iterator<HashSet<Integer>> values = generateDistinctInts(5, range).run().iterator();
+        for (int i = 0; i < 1000; i++) {
+            HashSet<Integer> sample = values.next();
+            assertEquals(5, sample.size());
+            sample.forEach(n -> assertTrue(range.includes(n)));
+        }
+    }
+
+    @Test
+    void wholeDomainCanBeChosen() {
+        HashSet<Integer> values = generateDistinctInts(100, IntRange.from(1).to(100)).run().iterator().next();
+        for (int i = 1; i <= 100; i++) {
+            assertTrue(values.contains(i));
+        }
+    }
+
+    @Test
+    void distinctLongsHaveExactSize() {
+        LongRange range = LongRange.from(Long.MAX_VALUE - 1000).to(Long.MAX_VALUE);
+        HashSet<Long> values = generateDistinctLongs(999, range).run().iterator().next();
+        assertEquals(999, values.size());
+        values.forEach(n -> assertTrue(range.includes(n)));
+        assertEquals(1000, generateDistinctLongs(1000, LongRange.fullRange()).run().iterator().next().size());
+    }
+
+    @Test
+    void sizeLargerThanDomainThrows() {
+        assertThrows(IllegalArgumentException.class, () -> generateDistinctInts(11, IntRange.from(1).to(10)));
+        assertThrows(IllegalArgumentException.class, () -> generateDistinctLongs(11, LongRange.from(1).to(10)));
+    }
+
+    @Test
+    void hashSetsAndMapsHaveExactSize() {
+        Generator<Integer> smallDomain = generateInt(IntRange.from(0).to(99));
+        Iterator<HashSet<Integer>> sets = generateHashSetOfSize(90, smallDomain).run().iterator();
+        Iterator<Map<Integer, String>> maps = generateMapOfSize(90, smallDomain, generateAlphaString(3))
+                .run().iterator();
+        for (int i = 0; i < 20; i++) {
+            assertEquals(90, sets.next().size());
+            assertEquals(90, maps.next().size());
+        }
+    }
+
+    @Test
+    void mapValuesDoNotDependOnKeyHashCodes() {
+        Generator<Map<IdentityKey, Integer>> gen = generateMapOfSize(200,
+                generateInt(IntRange.from(0).to(999)).fmap(IdentityKey::new), generateInt());
+        Seed seed = Seed.random();
+        assertEquals(byId(gen.run(seed).iterator().next()), byId(gen.run(seed).iterator().next()));
+    }
+
+    @Test
+    void exhaustedGeneratorFails() {
+        assertThrows(IllegalStateException.class,
+                () -> generateHashSetOfSize(3, generateBoolean()).run().iterator().next());
+    }
+
+    private static java.util.List<String> byId(Map<IdentityKey, Integer> map) {
+        java.util.List<String> result = new java.util.ArrayList<>();
+        map.forEach((key, value) -> result.add(key.id + ":" + value));
+        java.util.Collections.sort(result);
+        return result;
+    }
+
+    // compared by identity, so iterated in an order that varies from run to run
+    private static final class IdentityKey {
+        private final int id;
+
+        private IdentityKey(int id) {
+            this.id = id;
+        }
+    }
+}
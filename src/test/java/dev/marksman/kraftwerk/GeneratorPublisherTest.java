@@ -0,0 +1,133 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import dev.marksman.collectionviews.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static dev.marksman.kraftwerk.Generators.generateLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneratorPublisherTest {
+
+    @Test
+    void deliversExactlyWhatIsRequested() throws Exception {
+        Seed seed = Seed.random();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            GeneratorPublisher<Long> publisher = generateLong().publisher(seed, executor);
+            RecordingSubscriber first = new RecordingSubscriber();
+            RecordingSubscriber second = new RecordingSubscriber();
+            publisher.subscribe(first);
+            publisher.subscribe(second);
+
+            first.subscription.request(300);
+            first.subscription.request(700);
+            second.subscription.request(5);
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            Tuple2<Seed, Seed> split = seed.split();
+            assertEquals(Vector.copyFrom(generateLong().run(split._1()).take(1000)), Vector.copyFrom(first.values));
+            assertEquals(Vector.copyFrom(generateLong().run(split._2().split()._1()).take(5)),
+                    Vector.copyFrom(second.values));
+            assertNotEquals(first.values.subList(0, 5), second.values);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void nonPositiveRequestSignalsError() {
+        GeneratorPublisher<Long> publisher = generateLong().publisher(Seed.random(), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void errorIsSignalledFromTheDrainLoop() {
+        ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        GeneratorPublisher<Long> publisher = generateLong().publisher(Seed.random(), tasks::add);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(5);
+        subscriber.subscription.request(-1);
+        assertNull(subscriber.error);
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void throwingOnNextCancels() {
+        GeneratorPublisher<Long> publisher = generateLong().publisher(Seed.random(), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Long value) {
+                super.onNext(value);
+                if (values.size() == 3) {
+                    throw new IllegalStateException();
+                }
+            }
+        };
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(10);
+        subscriber.subscription.request(10);
+        assertEquals(3, subscriber.values.size());
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void stopsAfterCancel() {
+        GeneratorPublisher<Long> publisher = generateLong().publisher(Seed.random(), Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Long value) {
+                super.onNext(value);
+                if (values.size() == 10) {
+                    subscription.cancel();
+                }
+            }
+        };
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(10, subscriber.values.size());
+    }
+
+    private static class RecordingSubscriber implements GeneratorPublisher.Subscriber<Long> {
+        final List<Long> values = new ArrayList<>();
+        GeneratorPublisher.Subscription subscription;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(GeneratorPublisher.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Long value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
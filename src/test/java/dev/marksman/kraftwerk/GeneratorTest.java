@@ -8,14 +8,20 @@ import dev.marksman.kraftwerk.constraints.IntRange;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.All.all;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Eq.eq;
 import static dev.marksman.kraftwerk.StandardGeneratorParameters.defaultGeneratorParameters;
+import static dev.marksman.kraftwerk.aggregator.Aggregators.vectorAggregator;
 import static dev.marksman.kraftwerk.core.StandardSeed.initStandardSeed;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GeneratorTest {
@@ -75,6 +81,121 @@ class GeneratorTest {
         g.run().iterator().next();
     }
 
+    @Test
+    void fmapOfConstantIsConstant() {
+        Generator<Integer> g = Generators.constant(20).fmap(n -> n + 1).fmap(n -> n * 2);
+        assertTrue(g instanceof Constant<?>);
+        assertTrue(all(eq(42), g.run().take(10)));
+    }
+
+    @Test
+    void fmapOfConstantIsAppliedWhenRun() {
+        AtomicInteger applications = new AtomicInteger();
+        Generator<Integer> g = Generators.constant(1).fmap(n -> {
+            applications.incrementAndGet();
+            if (n > 0) {
+                throw new IllegalStateException();
+            }
+            return n;
+        });
+        assertEquals(0, applications.get());
+        assertThrows(IllegalStateException.class, () -> g.run().iterator().next());
+    }
+
+    @Test
+    void fusedFmapChainMatchesComposedFunction() {
+        Fn1<Integer, Integer> step = n -> n * 31 + 7;
+        Fn1<Integer, Integer> composed = id();
+        Generator<Integer> chained = gen1;
+        for (int i = 0; i < 20; i++) {
+            chained = chained.fmap(step);
+            composed = composed.fmap(step);
+        }
+        testEquivalent(chained, gen1.fmap(composed));
+    }
+
+    @Test
+    void fmapFusesIntoProducts() {
+        Generator<Tuple2<Integer, Double>> product = Generators.generateTuple(gen1, gen2);
+        Fn1<Tuple2<Integer, Double>, String> f = Object::toString;
+        testEquivalent(product.fmap(f).fmap(String::length),
+                gen1.flatMap(a -> gen2.fmap(b -> tuple(a, b).toString().length())));
+    }
+
+    @Test
+    void flatMapCacheDoesNotChangeOutput() {
+        Generator<Integer> element = Generators.generateInt(IntRange.from(0).to(100));
+        assertFlatMapCacheDoesNotChangeOutput(Generators.generateVectorOfSize(IntRange.from(0).to(20), element));
+        assertFlatMapCacheDoesNotChangeOutput(Generators.sized(n -> Generators.generateVectorOfSize(n % 5, element)));
+    }
+
+    @Test
+    void flatMapCacheCompilesSizedGeneratorsOncePerSize() {
+        AtomicInteger compilations = new AtomicInteger();
+        Generator<Integer> element = Generators.generateInt();
+        Generator<Integer> counting = parameters -> {
+            compilations.incrementAndGet();
+            return element.createGenerateFn(parameters);
+        };
+        Generators.generateVectorOfSize(IntRange.from(1).to(4), counting)
+                .run(defaultGeneratorParameters().withFlatMapCacheSize(8)).take(1000).forEach(__ -> {
+        });
+        assertTrue(compilations.get() <= 4);
+
+        compilations.set(0);
+        Set<Integer> sizes = new HashSet<>();
+        Generators.sized(n -> Generators.generateVectorOfSize(n, counting))
+                .run(defaultGeneratorParameters().withFlatMapCacheSize(1000)).take(1000)
+                .forEach(vector -> sizes.add(vector.size()));
+        assertTrue(compilations.get() <= sizes.size());
+    }
+
+    @Test
+    void flatMapCompilesEachDistinctGeneratorOnce() {
+        AtomicInteger compilations = new AtomicInteger();
+        AtomicInteger applications = new AtomicInteger();
+        List<Generator<Integer>> inner = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Generator<Integer> g = Generators.generateInt();
+            inner.add(parameters -> {
+                compilations.incrementAndGet();
+                return g.createGenerateFn(parameters);
+            });
+        }
+        Generator<Integer> g = Generators.generateInt(IntRange.from(0).until(4))
+                .flatMap(n -> {
+                    applications.incrementAndGet();
+                    return inner.get(n);
+                });
+        g.run(defaultGeneratorParameters().withFlatMapCacheSize(8)).take(1000).forEach(__ -> {
+        });
+        assertTrue(compilations.get() <= 4);
+        assertEquals(1000, applications.get());
+    }
+
+    @Test
+    void flatMapCacheIsOffByDefault() {
+        assertEquals(0, GeneratorParameters.generatorParameters().getFlatMapCacheSize());
+    }
+
+    @Test
+    void fixedSizeAggregateMatchesElementwiseAggregate() {
+        Generator<Integer> element = Generators.generateInt(IntRange.from(0).to(1000));
+        testEquivalent(Generators.aggregate(vectorAggregator(), 100, element),
+                Generators.aggregate(vectorAggregator(), java.util.Collections.nCopies(100, element)));
+    }
+
+    @Test
+    void fixedSizeAggregateCompilesElementOnce() {
+        AtomicInteger compilations = new AtomicInteger();
+        Generator<Integer> element = parameters -> {
+            compilations.incrementAndGet();
+            return Generators.generateInt().createGenerateFn(parameters);
+        };
+        Generators.generateVectorOfSize(10_000, element).run().iterator().next();
+        assertEquals(1, compilations.get());
+    }
+
     private static <A> void testFunctorIdentity(Generator<A> gen) {
         Generator<A> generator2 = gen.fmap(id());
         testEquivalent(gen, generator2);
@@ -111,6 +232,19 @@ class GeneratorTest {
         assertEquals(result1.getValue(), result2.getValue(), "values don't match");
     }
 
+    private static <A> void assertFlatMapCacheDoesNotChangeOutput(Generator<A> gen) {
+        Generator<ArrayList<A>> values = Generators.generateArrayListOfSize(1000, gen);
+        for (Engine engine : Engine.values()) {
+            Seed initial = Seed.create(engine, 42L);
+            Result<? extends Seed, ArrayList<A>> cached = values
+                    .createGenerateFn(defaultGeneratorParameters().withFlatMapCacheSize(64)).apply(initial);
+            Result<? extends Seed, ArrayList<A>> uncached = values
+                    .createGenerateFn(defaultGeneratorParameters()).apply(initial);
+            assertEquals(uncached.getValue(), cached.getValue());
+            assertEquals(uncached.getNextState(), cached.getNextState());
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static <A> Result<Seed, A> run(Generator<A> gen, Seed input) {
         return (Result<Seed, A>) gen.createGenerateFn(defaultGeneratorParameters()).apply(input);
@@ -0,0 +1,79 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.collectionviews.ImmutableVector;
+import dev.marksman.kraftwerk.constraints.IntRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.marksman.kraftwerk.Generators.generateInt;
+import static dev.marksman.kraftwerk.Generators.generateLazyVectorOfSize;
+import static dev.marksman.kraftwerk.Generators.generateLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyVectorsTest {
+
+    @Test
+    void elementsAreStable() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            ImmutableVector<Long> first = generateLazyVectorOfSize(1000, generateLong()).run(seed).iterator().next();
+            ImmutableVector<Long> second = generateLazyVectorOfSize(1000, generateLong()).run(seed).iterator().next();
+            assertEquals(first, second);
+            assertEquals(first.unsafeGet(500), first.unsafeGet(500));
+        }
+    }
+
+    @Test
+    void hugeVectorsAreRandomAccess() {
+        ImmutableVector<Long> vector = generateLazyVectorOfSize(Integer.MAX_VALUE, generateLong())
+                .run().iterator().next();
+        assertEquals(Integer.MAX_VALUE, vector.size());
+        HashSet<Long> values = new HashSet<>();
+        for (int i = Integer.MAX_VALUE - 100; i < Integer.MAX_VALUE; i++) {
+            values.add(vector.unsafeGet(i));
+        }
+        assertEquals(100, values.size());
+    }
+
+    @Test
+    void elementsAreWithinRange() {
+        IntRange range = IntRange.from(5).to(10);
+        ImmutableVector<Integer> vector = generateLazyVectorOfSize(500, generateInt(range)).run().iterator().next();
+        for (Integer value : vector) {
+            assertTrue(range.includes(value));
+        }
+    }
+
+    @Test
+    void cachedElementsAreGeneratedOnce() {
+        AtomicInteger draws = new AtomicInteger();
+        Generator<Integer> counting = generateInt().fmap(n -> {
+            draws.incrementAndGet();
+            return n;
+        });
+        ImmutableVector<Integer> vector = generateLazyVectorOfSize(100, 10, counting).run().iterator().next();
+        Integer first = vector.unsafeGet(7);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first, vector.unsafeGet(7));
+        }
+        assertEquals(1, draws.get());
+    }
+
+    @Test
+    void consumesOneDrawPerVector() {
+        Seed seed = Seed.random();
+        Generator<ImmutableVector<Integer>> gen = generateLazyVectorOfSize(1_000_000, generateInt());
+        assertEquals(Generators.generateSeed().createGenerateFn(GeneratorParameters.generatorParameters())
+                        .apply(seed).getNextState(),
+                gen.createGenerateFn(GeneratorParameters.generatorParameters()).apply(seed).getNextState());
+    }
+
+    @Test
+    void negativeCacheSizeThrows() {
+        assertThrows(IllegalArgumentException.class, () -> generateLazyVectorOfSize(10, -1, generateInt()));
+    }
+}
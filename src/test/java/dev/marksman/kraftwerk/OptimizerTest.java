@@ -0,0 +1,65 @@
+package dev.marksman.kraftwerk;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple3;
+import dev.marksman.kraftwerk.constraints.IntRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static dev.marksman.kraftwerk.Optimizer.optimize;
+import static dev.marksman.kraftwerk.StandardGeneratorParameters.defaultGeneratorParameters;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OptimizerTest {
+
+    @Test
+    void stripsMetadata() {
+        Generator<Boolean> underlying = Generators.generateBoolean();
+        assertSame(underlying, optimize(underlying.labeled("label").attachApplicationData("data")));
+    }
+
+    @Test
+    void flatMapOverConstantSelectsInnerGenerator() {
+        Generator<Integer> inner = Generators.generateInt();
+        Generator<Integer> g = Generators.constant(3).labeled("three").flatMap(n -> inner);
+        assertSame(inner, optimize(g));
+    }
+
+    @Test
+    void foldsMappedConstants() {
+        Generator<Integer> g = Generators.constant(20).labeled("twenty").fmap(n -> n + 1).fmap(n -> n * 2);
+        Generator<Integer> optimized = optimize(g);
+        assertTrue(optimized instanceof Constant<?>);
+        assertEquals(42, (int) ((Constant<Integer>) optimized).getValue());
+    }
+
+    @Test
+    void leavesUnoptimizableTreesAlone() {
+        Generator<Tuple3<Integer, Double, Boolean>> g = Generators.generateTuple(Generators.generateInt(),
+                Generators.generateDouble(), Generators.generateBoolean());
+        assertSame(g, optimize(g));
+    }
+
+    @Test
+    void optimizedTreeYieldsSameOutput() {
+        Generator<Integer> small = Generators.generateInt(IntRange.from(0).to(100)).labeled("small");
+        Generator<String> g = Generators.generateTuple(
+                small.fmap(n -> n + 1).labeled("succ").fmap(n -> n * 2),
+                Generators.constant("x").labeled("x").flatMap(x -> Generators.generateAlphaString(5).fmap(s -> x + s)),
+                Generators.chooseOneOf(Generators.constant(1), Generators.constant(2), small),
+                Generators.generateArrayListOfSize(3, small.injectSpecialValue(-1)))
+                .fmap(Object::toString);
+        Generator<ArrayList<String>> values = Generators.generateArrayListOfSize(200, g);
+        for (Engine engine : Engine.values()) {
+            Seed initial = Seed.create(engine, 99L);
+            Result<? extends Seed, ArrayList<String>> unoptimized = values
+                    .createGenerateFn(defaultGeneratorParameters()).apply(initial);
+            Result<? extends Seed, ArrayList<String>> optimized = optimize(values)
+                    .createGenerateFn(defaultGeneratorParameters()).apply(initial);
+            assertEquals(unoptimized.getValue(), optimized.getValue());
+            assertEquals(unoptimized.getNextState(), optimized.getNextState());
+        }
+    }
+}
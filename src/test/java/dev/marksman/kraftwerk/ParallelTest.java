@@ -0,0 +1,49 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.collectionviews.ImmutableVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static dev.marksman.kraftwerk.StandardGeneratorParameters.defaultGeneratorParameters;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ParallelTest {
+    private static final int COUNT = 10_000;
+
+    @Test
+    void sameOutputRegardlessOfParallelism() {
+        Generator<String> gen = Generators.generateAlphaString(8);
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            ForkJoinPool single = new ForkJoinPool(1);
+            ForkJoinPool many = new ForkJoinPool(4);
+            try {
+                ImmutableVector<String> result1 = gen.runParallel(defaultGeneratorParameters(), COUNT, seed, single);
+                ImmutableVector<String> result2 = gen.runParallel(defaultGeneratorParameters(), COUNT, seed, many);
+                assertEquals(COUNT, result1.size());
+                assertEquals(result1, result2);
+                assertEquals(result1, gen.runParallel(COUNT, seed));
+            } finally {
+                single.shutdown();
+                many.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void splitIsDeterministic() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            assertEquals(seed.split(), seed.split());
+            assertNotEquals(seed.split()._1(), seed.split()._2());
+            assertEquals(seed.getClass(), seed.split()._1().getClass());
+        }
+    }
+
+    @Test
+    void emptyCount() {
+        assertEquals(0, Generators.generateInt().runParallel(0, Seed.random()).size());
+    }
+}
@@ -0,0 +1,72 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.collectionviews.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.marksman.kraftwerk.Generators.generateAlphaString;
+import static dev.marksman.kraftwerk.Generators.generateLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoolsTest {
+
+    @Test
+    void drawsOnlyFromPool() {
+        Generator<String> gen = generateAlphaString(12);
+        Seed poolSeed = Seed.random();
+        Set<String> pool = new HashSet<>(gen.runBatch(50, poolSeed).getValue().toCollection(ArrayList::new));
+        Set<String> drawn = new HashSet<>();
+        gen.pooled(50, poolSeed).run().take(5000).forEach(drawn::add);
+        assertTrue(pool.containsAll(drawn));
+        assertTrue(drawn.size() > 40);
+    }
+
+    @Test
+    void poolIsGeneratedOncePerParameters() {
+        AtomicInteger generated = new AtomicInteger();
+        Generator<Long> pooled = generateLong().fmap(n -> {
+            generated.incrementAndGet();
+            return n;
+        }).pooled(100, Seed.random());
+        pooled.run().take(1000).forEach(__ -> {
+        });
+        pooled.run().take(1000).forEach(__ -> {
+        });
+        assertEquals(100, generated.get());
+    }
+
+    @Test
+    void reproducible() {
+        Generator<Long> pooled = generateLong().pooled(64);
+        Seed seed = Seed.random();
+        assertEquals(Vector.copyFrom(pooled.run(seed).take(200)), Vector.copyFrom(pooled.run(seed).take(200)));
+        assertEquals(Vector.copyFrom(pooled.run(seed).take(200)),
+                Vector.copyFrom(generateLong().pooled(64).run(seed).take(200)));
+    }
+
+    @Test
+    void poolCanBeBuiltInBackground() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Seed poolSeed = Seed.random();
+            Seed seed = Seed.random();
+            assertEquals(Vector.copyFrom(generateLong().pooled(256, poolSeed).run(seed).take(100)),
+                    Vector.copyFrom(generateLong().pooled(256, poolSeed, executor).run(seed).take(100)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void poolSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> generateLong().pooled(0));
+    }
+}
@@ -0,0 +1,116 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.kraftwerk.constraints.DoubleRange;
+import dev.marksman.kraftwerk.constraints.FloatRange;
+import dev.marksman.kraftwerk.constraints.IntRange;
+import dev.marksman.kraftwerk.constraints.LongRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static dev.marksman.kraftwerk.Generators.generateByteArray;
+import static dev.marksman.kraftwerk.Generators.generateBytes;
+import static dev.marksman.kraftwerk.Generators.generateBytesOfSize;
+import static dev.marksman.kraftwerk.Generators.generateDouble;
+import static dev.marksman.kraftwerk.Generators.generateDoubleArrayOfSize;
+import static dev.marksman.kraftwerk.Generators.generateFloat;
+import static dev.marksman.kraftwerk.Generators.generateFloatArrayOfSize;
+import static dev.marksman.kraftwerk.Generators.generateInt;
+import static dev.marksman.kraftwerk.Generators.generateIntArray;
+import static dev.marksman.kraftwerk.Generators.generateIntArrayOfSize;
+import static dev.marksman.kraftwerk.Generators.generateLong;
+import static dev.marksman.kraftwerk.Generators.generateLongArrayOfSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrimitiveArraysTest {
+    private static final int SIZE = 100;
+
+    @Test
+    void elementsMatchPrimitiveBatches() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+
+            IntGenerator ints = generateInt(IntRange.from(-100).to(100));
+            assertArrayEquals(ints.runIntBatch(SIZE, seed).getValue(),
+                    generateIntArrayOfSize(SIZE, ints).run(seed).iterator().next());
+
+            LongGenerator longs = generateLong(LongRange.from(-100).to(100));
+            assertArrayEquals(longs.runLongBatch(SIZE, seed).getValue(),
+                    generateLongArrayOfSize(SIZE, longs).run(seed).iterator().next());
+        }
+    }
+
+    @Test
+    void bytesMatchBoxedByteArray() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            Byte[] boxed = generateByteArray(SIZE).run(seed).iterator().next();
+            byte[] unboxed = generateBytesOfSize(SIZE).run(seed).iterator().next();
+            assertEquals(SIZE, unboxed.length);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals((byte) boxed[i], unboxed[i]);
+            }
+        }
+    }
+
+    @Test
+    void elementsWithinRange() {
+        Seed seed = Seed.random();
+        double[] doubles = generateDoubleArrayOfSize(SIZE, generateDouble(DoubleRange.from(2).to(3)))
+                .run(seed).iterator().next();
+        for (double value : doubles) {
+            assertTrue(value >= 2 && value <= 3);
+        }
+        float[] floats = generateFloatArrayOfSize(SIZE, generateFloat(FloatRange.from(2).to(3)))
+                .run(seed).iterator().next();
+        for (float value : floats) {
+            assertTrue(value >= 2 && value <= 3);
+        }
+    }
+
+    @Test
+    void sizesWithinRange() {
+        IntRange sizeRange = IntRange.from(3).to(7);
+        Iterator<int[]> ints = generateIntArrayOfSize(sizeRange, generateInt()).run().iterator();
+        Iterator<byte[]> bytes = generateBytesOfSize(sizeRange).run().iterator();
+        for (int i = 0; i < 50; i++) {
+            assertTrue(sizeRange.includes(ints.next().length));
+            assertTrue(sizeRange.includes(bytes.next().length));
+        }
+    }
+
+    @Test
+    void sizedArraysFollowSizeParameters() {
+        GeneratorParameters parameters = GeneratorParameters.generatorParameters()
+                .withSizeParameters(SizeParameters.sizeParameters(10, 20, 15));
+        Iterator<int[]> ints = generateIntArray(generateInt()).run(parameters).iterator();
+        Iterator<byte[]> bytes = generateBytes().run(parameters).iterator();
+        for (int i = 0; i < 50; i++) {
+            int intCount = ints.next().length;
+            int byteCount = bytes.next().length;
+            assertTrue(intCount >= 10 && intCount <= 20);
+            assertTrue(byteCount >= 10 && byteCount <= 20);
+        }
+    }
+
+    @Test
+    void dropSkipsWholeArrays() {
+        Generator<int[]> gen = generateIntArrayOfSize(SIZE, generateInt(IntRange.from(0).to(9)));
+        Seed seed = Seed.random();
+        ValueSupply<int[]> values = gen.run(seed);
+        Iterator<int[]> iterator = values.iterator();
+        for (int i = 0; i < 5; i++) {
+            iterator.next();
+        }
+        assertArrayEquals(iterator.next(), values.drop(5).iterator().next());
+    }
+
+    @Test
+    void negativeSizeThrows() {
+        assertThrows(IllegalArgumentException.class, () -> generateBytesOfSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> generateIntArrayOfSize(-1, generateInt()));
+    }
+}
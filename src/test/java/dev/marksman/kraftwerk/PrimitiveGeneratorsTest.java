@@ -0,0 +1,90 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.collectionviews.Vector;
+import dev.marksman.kraftwerk.constraints.DoubleRange;
+import dev.marksman.kraftwerk.constraints.IntRange;
+import dev.marksman.kraftwerk.constraints.LongRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static dev.marksman.kraftwerk.Generators.generateDouble;
+import static dev.marksman.kraftwerk.Generators.generateGaussian;
+import static dev.marksman.kraftwerk.Generators.generateInt;
+import static dev.marksman.kraftwerk.Generators.generateIntIndex;
+import static dev.marksman.kraftwerk.Generators.generateLong;
+import static dev.marksman.kraftwerk.StandardGeneratorParameters.defaultGeneratorParameters;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrimitiveGeneratorsTest {
+    private static final int SEQUENCE_LENGTH = 200;
+
+    @Test
+    void unboxedIteratorsMatchRun() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            for (IntGenerator gen : new IntGenerator[]{generateInt(), generateInt(IntRange.from(-5).to(1000)),
+                    generateInt(IntRange.from(10).to(Integer.MAX_VALUE)), generateIntIndex(64)}) {
+                PrimitiveIterator.OfInt iterator = gen.runInts(seed);
+                List<Integer> unboxed = new ArrayList<>();
+                for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                    unboxed.add(iterator.nextInt());
+                }
+                assertEquals(Vector.copyFrom(gen.run(seed).take(SEQUENCE_LENGTH)), Vector.copyFrom(unboxed));
+            }
+            for (LongGenerator gen : new LongGenerator[]{generateLong(), generateLong(LongRange.from(-5).to(1000)),
+                    generateLong(LongRange.from(Long.MIN_VALUE / 2).to(Long.MAX_VALUE))}) {
+                PrimitiveIterator.OfLong iterator = gen.runLongs(seed);
+                List<Long> unboxed = new ArrayList<>();
+                for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                    unboxed.add(iterator.nextLong());
+                }
+                assertEquals(Vector.copyFrom(gen.run(seed).take(SEQUENCE_LENGTH)), Vector.copyFrom(unboxed));
+            }
+            for (DoubleGenerator gen : new DoubleGenerator[]{generateGaussian(),
+                    DoubleGenerator.doubleGenerator(generateDouble()),
+                    DoubleGenerator.doubleGenerator(generateDouble(DoubleRange.from(-1).to(1)).withNaNs())}) {
+                PrimitiveIterator.OfDouble iterator = gen.runDoubles(seed);
+                List<Double> unboxed = new ArrayList<>();
+                for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                    unboxed.add(iterator.nextDouble());
+                }
+                assertEquals(Vector.copyFrom(gen.run(seed).take(SEQUENCE_LENGTH)), Vector.copyFrom(unboxed));
+            }
+        }
+    }
+
+    @Test
+    void primitiveMapsMatchFmap() {
+        Seed seed = Seed.random();
+        assertEquals(Vector.copyFrom(generateInt().fmap(n -> n * 3).fmap(Integer::longValue).run(seed).take(SEQUENCE_LENGTH)),
+                Vector.copyFrom(generateInt().mapInt(n -> n * 3).mapToLong(n -> n).run(seed).take(SEQUENCE_LENGTH)));
+        assertEquals(Vector.copyFrom(generateLong().fmap(n -> n >>> 3).fmap(Long::doubleValue).run(seed).take(SEQUENCE_LENGTH)),
+                Vector.copyFrom(generateLong().mapLong(n -> n >>> 3).mapToDouble(n -> n).run(seed).take(SEQUENCE_LENGTH)));
+        assertEquals(Vector.copyFrom(generateGaussian().fmap(d -> (int) (d * 100)).run(seed).take(SEQUENCE_LENGTH)),
+                Vector.copyFrom(generateGaussian().mapToInt(d -> (int) (d * 100)).run(seed).take(SEQUENCE_LENGTH)));
+    }
+
+    @Test
+    void drawCountIsPreserved() {
+        GenerateFn<Long> mapped = generateIntIndex(16).mapInt(n -> n + 1).mapToLong(n -> n * 2)
+                .createGenerateFn(defaultGeneratorParameters());
+        assertTrue(DrawCount.drawCount(mapped).toOptional().isPresent());
+        assertTrue(DrawCount.uncounted(mapped) instanceof LongGenerateFn);
+    }
+
+    @Test
+    void wrappedGeneratorsKeepTheirType() {
+        IntGenerator gen = generateInt().labeled("foo");
+        assertEquals("foo", gen.getLabel().orElse(null));
+        assertSame(gen, IntGenerator.intGenerator(gen));
+
+        IntGenerator adapted = IntGenerator.intGenerator(Generators.constant(7).attachApplicationData("bar"));
+        assertEquals("bar", adapted.getApplicationData().orElse(null));
+        assertEquals(7, adapted.runInts(Seed.random()).nextInt());
+    }
+}
@@ -0,0 +1,179 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.collectionviews.NonEmptyVector;
+import dev.marksman.collectionviews.Vector;
+import dev.marksman.kraftwerk.distributions.BinomialParameters;
+import dev.marksman.kraftwerk.distributions.GammaParameters;
+import dev.marksman.kraftwerk.distributions.PoissonParameters;
+import org.junit.jupiter.api.Test;
+
+import static dev.marksman.kraftwerk.Generators.chooseOneValueFromDomainZipf;
+import static dev.marksman.kraftwerk.Generators.generateBinomial;
+import static dev.marksman.kraftwerk.Generators.generateExponential;
+import static dev.marksman.kraftwerk.Generators.generateGamma;
+import static dev.marksman.kraftwerk.Generators.generateLogNormal;
+import static dev.marksman.kraftwerk.Generators.generatePareto;
+import static dev.marksman.kraftwerk.Generators.generatePoisson;
+import static dev.marksman.kraftwerk.Generators.generateZipf;
+import static dev.marksman.kraftwerk.distributions.BinomialParameters.binomialParameters;
+import static dev.marksman.kraftwerk.distributions.ExponentialParameters.exponentialParameters;
+import static dev.marksman.kraftwerk.distributions.GammaParameters.gammaParameters;
+import static dev.marksman.kraftwerk.distributions.LogNormalParameters.logNormalParameters;
+import static dev.marksman.kraftwerk.distributions.ParetoParameters.paretoParameters;
+import static dev.marksman.kraftwerk.distributions.PoissonParameters.poissonParameters;
+import static dev.marksman.kraftwerk.distributions.ZipfParameters.zipfParameters;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatisticalDistributionsTest {
+    private static final int SAMPLE_SIZE = 50_000;
+
+    @Test
+    void exponential() {
+        assertMoments(generateExponential(exponentialParameters(4)), 0.25, 0.0625);
+    }
+
+    @Test
+    void gamma() {
+        for (GammaParameters p : new GammaParameters[]{gammaParameters(0.3, 2), gammaParameters(1, 1),
+                gammaParameters(7.5, 0.5)}) {
+            double mean = p.getShape() * p.getScale();
+            assertMoments(generateGamma(p), mean, mean * p.getScale());
+        }
+    }
+
+    @Test
+    void poisson() {
+        for (double mean : new double[]{0, 0.5, 9.9, 10, 250, 1e6}) {
+            PoissonParameters p = poissonParameters(mean);
+            assertMoments(generatePoisson(p).fmap(Long::doubleValue), mean, mean);
+        }
+    }
+
+    @Test
+    void binomial() {
+        for (BinomialParameters p : new BinomialParameters[]{binomialParameters(0, 0.5), binomialParameters(20, 0),
+                binomialParameters(20, 1), binomialParameters(40, 0.3), binomialParameters(1000, 0.4),
+                binomialParameters(1000, 0.9), binomialParameters(Integer.MAX_VALUE, 0.001)}) {
+            double mean = p.getTrials() * p.getProbability();
+            double variance = mean * (1 - p.getProbability());
+            assertMoments(generateBinomial(p).fmap(Integer::doubleValue), mean, variance);
+        }
+    }
+
+    @Test
+    void binomialWithinRange() {
+        for (int value : generateBinomial(binomialParameters(100, 0.5)).run(Seed.create(1)).take(SAMPLE_SIZE)) {
+            assertTrue(value >= 0 && value <= 100);
+        }
+    }
+
+    @Test
+    void logNormal() {
+        double mean = Math.exp(0.5 + 0.25 / 2);
+        assertMoments(generateLogNormal(logNormalParameters(0.5, 0.5)), mean,
+                (Math.exp(0.25) - 1) * mean * mean);
+    }
+
+    @Test
+    void pareto() {
+        // a large enough shape that the sample variance settles quickly
+        double shape = 10;
+        double scale = 3;
+        assertMoments(generatePareto(paretoParameters(scale, shape)), shape * scale / (shape - 1),
+                scale * scale * shape / ((shape - 1) * (shape - 1) * (shape - 2)));
+    }
+
+    @Test
+    void zipfMatchesProbabilities() {
+        for (double exponent : new double[]{0.5, 1, 1.2, 3}) {
+            int n = 10;
+            double[] weights = new double[n];
+            double total = 0;
+            for (int k = 1; k <= n; k++) {
+                weights[k - 1] = 1 / Math.pow(k, exponent);
+                total += weights[k - 1];
+            }
+            long[] counts = new long[n];
+            for (long rank : generateZipf(zipfParameters(n, exponent)).run(Seed.create(7L)).take(SAMPLE_SIZE)) {
+                counts[(int) rank - 1] += 1;
+            }
+            for (int i = 0; i < n; i++) {
+                double p = weights[i] / total;
+                assertEquals(p, (double) counts[i] / SAMPLE_SIZE, 5 * Math.sqrt(p * (1 - p) / SAMPLE_SIZE),
+                        "exponent " + exponent + ", rank " + (i + 1));
+            }
+        }
+    }
+
+    @Test
+    void zipfOverHugeDomain() {
+        long n = 1_000_000_000L;
+        long ones = 0;
+        for (long rank : generateZipf(zipfParameters(n, 1.5)).run(Seed.create(Engine.PCG_64, 3L)).take(SAMPLE_SIZE)) {
+            assertTrue(rank >= 1 && rank <= n);
+            if (rank == 1) {
+                ones += 1;
+            }
+        }
+        // 1 / zeta(1.5), to within the truncated tail
+        double p = 1 / 2.612375348685488;
+        assertEquals(p, (double) ones / SAMPLE_SIZE, 5 * Math.sqrt(p * (1 - p) / SAMPLE_SIZE));
+    }
+
+    @Test
+    void zipfFromDomain() {
+        NonEmptyVector<String> domain = NonEmptyVector.of("a", "b", "c");
+        Generator<String> generator = chooseOneValueFromDomainZipf(2, domain);
+        int firstCount = 0;
+        for (String value : generator.run(Seed.create(11L)).take(SAMPLE_SIZE)) {
+            assertTrue(value.equals("a") || value.equals("b") || value.equals("c"));
+            if (value.equals("a")) {
+                firstCount += 1;
+            }
+        }
+        double p = 1 / (1 + 0.25 + 1.0 / 9);
+        assertEquals(p, (double) firstCount / SAMPLE_SIZE, 5 * Math.sqrt(p * (1 - p) / SAMPLE_SIZE));
+        assertEquals("x", chooseOneValueFromDomainZipf(1, NonEmptyVector.of("x")).run(Seed.create(1L)).head());
+    }
+
+    @Test
+    void invalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> exponentialParameters(0));
+        assertThrows(IllegalArgumentException.class, () -> gammaParameters(1, Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> poissonParameters(-1));
+        assertThrows(IllegalArgumentException.class, () -> poissonParameters(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> binomialParameters(-1, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> binomialParameters(10, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> logNormalParameters(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> paretoParameters(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> zipfParameters(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> zipfParameters(10, 0));
+    }
+
+    @Test
+    void sameSeedYieldsSameValues() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.create(engine, 42L);
+            assertEquals(Vector.copyFrom(generateBinomial(binomialParameters(500, 0.5)).run(seed).take(100)),
+                    Vector.copyFrom(generateBinomial(binomialParameters(500, 0.5)).run(seed).take(100)), engine.toString());
+        }
+    }
+
+    private static void assertMoments(Generator<Double> generator, double expectedMean, double expectedVariance) {
+        for (Engine engine : Engine.values()) {
+            double sum = 0;
+            double sumOfSquares = 0;
+            for (double value : generator.run(Seed.create(engine, 12345L)).take(SAMPLE_SIZE)) {
+                sum += value;
+                sumOfSquares += value * value;
+            }
+            double mean = sum / SAMPLE_SIZE;
+            double variance = sumOfSquares / SAMPLE_SIZE - mean * mean;
+            double standardError = Math.sqrt(expectedVariance / SAMPLE_SIZE);
+            assertEquals(expectedMean, mean, 5 * standardError + 1e-12, engine + " mean");
+            assertEquals(expectedVariance, variance, 0.05 * expectedVariance + 1e-12, engine + " variance");
+        }
+    }
+}
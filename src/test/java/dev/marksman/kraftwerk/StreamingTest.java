@@ -0,0 +1,59 @@
+package dev.marksman.kraftwerk;
+
+import dev.marksman.kraftwerk.constraints.IntRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static dev.marksman.kraftwerk.Generators.generateAlphaString;
+import static dev.marksman.kraftwerk.Generators.generateArrayListOfSize;
+import static dev.marksman.kraftwerk.Generators.generateInt;
+import static dev.marksman.kraftwerk.Generators.generateStreamOfSize;
+import static dev.marksman.kraftwerk.StandardGeneratorParameters.defaultGeneratorParameters;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StreamingTest {
+    private static final int SIZE = 5000;
+
+    @Test
+    void matchesMaterializedCollectionForFixedDrawCounts() {
+        Generator<Integer> elements = generateInt(IntRange.from(0).to(1023));
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            Result<? extends Seed, ArrayList<Integer>> materialized = generateArrayListOfSize(SIZE, elements)
+                    .createGenerateFn(defaultGeneratorParameters()).apply(seed);
+            Result<? extends Seed, Stream<Integer>> streamed = generateStreamOfSize(SIZE, elements)
+                    .createGenerateFn(defaultGeneratorParameters()).apply(seed);
+            assertEquals(materialized.getNextState(), streamed.getNextState());
+            assertEquals(materialized.getValue(), streamed.getValue().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void parallelConsumptionPreservesElements() {
+        for (Generator<String> elements : java.util.Arrays.asList(generateAlphaString(5),
+                Generators.generateInt().flatMap(n -> generateAlphaString(1 + Math.abs(n % 4))))) {
+            Seed seed = Seed.random();
+            List<String> sequential = generateStreamOfSize(SIZE, elements).run(seed).iterator().next()
+                    .collect(Collectors.toList());
+            List<String> parallel = generateStreamOfSize(SIZE, elements).run(seed).iterator().next()
+                    .parallel().collect(Collectors.toList());
+            assertEquals(SIZE, sequential.size());
+            assertEquals(sequential, parallel);
+        }
+    }
+
+    @Test
+    void seedIsThreadedWhenDrawCountVaries() {
+        Generator<String> elements = Generators.generateInt().flatMap(n -> generateAlphaString(1 + Math.abs(n % 4)));
+        Generator<Stream<String>> gen = generateStreamOfSize(100, elements);
+        Seed seed = Seed.random();
+        Result<? extends Seed, Stream<String>> first = gen.createGenerateFn(defaultGeneratorParameters()).apply(seed);
+        Result<? extends Seed, Stream<String>> again = gen.createGenerateFn(defaultGeneratorParameters()).apply(seed);
+        assertEquals(first.getNextState(), again.getNextState());
+        assertEquals(first.getValue().collect(Collectors.toList()), again.getValue().collect(Collectors.toList()));
+    }
+}
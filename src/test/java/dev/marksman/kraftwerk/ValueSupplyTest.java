@@ -1,14 +1,29 @@
 package dev.marksman.kraftwerk;
 
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 import dev.marksman.collectionviews.ImmutableVector;
 import dev.marksman.collectionviews.Vector;
+import dev.marksman.kraftwerk.constraints.IntRange;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static dev.marksman.kraftwerk.Result.result;
+import static dev.marksman.kraftwerk.StandardGeneratorParameters.defaultGeneratorParameters;
 import static dev.marksman.kraftwerk.ValueSupply.valueSupply;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ValueSupplyTest {
     @Test
@@ -26,4 +41,172 @@ class ValueSupplyTest {
         assertEquals(firstStreamValues, secondStreamValues);
         assertEquals(Vector.copyFrom(supply.take(100)), firstStreamValues);
     }
+
+    @Test
+    void dropSkipsExactlyCountValues() {
+        ValueSupply<Integer> supply = Generators.generateInt().run(Seed.random());
+        ImmutableVector<Integer> first = Vector.copyFrom(supply.take(20));
+        assertEquals(first, Vector.copyFrom(supply.drop(0).take(20)));
+        assertEquals(first.drop(1), Vector.copyFrom(supply.drop(1).take(19)));
+        assertEquals(first.drop(7), Vector.copyFrom(supply.drop(7).take(13)));
+    }
+
+    @Test
+    void dropSeeksSameAsReplay() {
+        Generator<Tuple2<Long, Double>> fixed = Generators.generateTuple(Generators.generateLong(),
+                Generators.generateDoubleFractional().fmap(d -> d * 2));
+        Generator<Integer> variable = Generators.generateInt(IntRange.from(0).until(1000));
+        assertTrue(DrawCount.drawCount(fixed.createGenerateFn(defaultGeneratorParameters())).toOptional().isPresent());
+        assertFalse(DrawCount.drawCount(variable.createGenerateFn(defaultGeneratorParameters())).toOptional().isPresent());
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            assertEquals(Vector.copyFrom(fixed.run(seed).take(1001)).drop(1000),
+                    Vector.copyFrom(fixed.run(seed).drop(1000).take(1)), engine.toString());
+            assertEquals(Vector.copyFrom(variable.run(seed).take(1001)).drop(1000),
+                    Vector.copyFrom(variable.run(seed).drop(1000).take(1)), engine.toString());
+        }
+    }
+
+    @Test
+    void iterationMatchesImmutableApplication() {
+        Generator<Tuple2<String, ImmutableVector<Double>>> gen = Generators.generateTuple(Generators.generateString(),
+                Generators.generateInt(IntRange.from(0).until(8))
+                        .flatMap(n -> Generators.generateVectorOfSize(n, Generators.generateGaussian())));
+        GenerateFn<Tuple2<String, ImmutableVector<Double>>> generateFn = gen.createGenerateFn(defaultGeneratorParameters());
+        for (Engine engine : Engine.values()) {
+            Seed current = Seed.random(engine);
+            ValueSupply<Tuple2<String, ImmutableVector<Double>>> supply = valueSupply(generateFn, current);
+            for (Tuple2<String, ImmutableVector<Double>> value : supply.take(100)) {
+                Result<? extends Seed, Tuple2<String, ImmutableVector<Double>>> next = generateFn.apply(current);
+                assertEquals(next.getValue(), value, engine.toString());
+                current = next.getNextState();
+            }
+        }
+    }
+
+    @Test
+    void resumesFromCheckpoint() {
+        Generator<Tuple2<String, Double>> gen = Generators.generateTuple(Generators.generateString(),
+                Generators.generateGaussian());
+        for (Engine engine : Engine.values()) {
+            ValueSupply<Tuple2<String, Double>> supply = gen.run(Seed.random(engine));
+            ValueSupply.Cursor<Tuple2<String, Double>> cursor = supply.cursor();
+            for (int i = 0; i < 37; i++) {
+                cursor.next();
+            }
+            byte[] checkpoint = cursor.checkpoint().toBytes();
+            ValueSupply<Tuple2<String, Double>> resumed = gen.run(Seed.fromBytes(checkpoint));
+            assertEquals(Vector.copyFrom(supply.drop(37).take(20)), Vector.copyFrom(resumed.take(20)), engine.toString());
+            assertEquals(Vector.copyFrom(supply.take(20)), Vector.copyFrom(gen.run(supply.checkpoint()).take(20)));
+        }
+    }
+
+    @Test
+    void parallelStreamPreservesSequence() {
+        int count = 100_000;
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            // fixed draw count: splits by jumping ahead
+            ValueSupply<Integer> ints = Generators.generateInt(IntRange.from(0).to(1000)).run(seed);
+            assertEquals(Vector.copyFrom(ints.take(count)),
+                    Vector.copyFrom(ints.stream().parallel().limit(count).collect(Collectors.toList())));
+            // variable draw count: splits by buffering
+            ValueSupply<String> strings = Generators.generateAlphaString(IntRange.from(0).to(5)).run(seed);
+            assertEquals(Vector.copyFrom(strings.take(count)),
+                    Vector.copyFrom(strings.stream().parallel().limit(count).collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    void spliteratorSplitsWithoutChangingOrder() {
+        ValueSupply<Long> supply = Generators.generateLong().run(Seed.random());
+        Spliterator<Long> suffix = supply.spliterator();
+        Spliterator<Long> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        Spliterator<Long> firstHalf = prefix.trySplit();
+        assertNotNull(firstHalf);
+        List<Long> values = new ArrayList<>();
+        firstHalf.forEachRemaining(values::add);
+        prefix.forEachRemaining(values::add);
+        for (int i = 0; i < 10; i++) {
+            suffix.tryAdvance(values::add);
+        }
+        assertEquals(Vector.copyFrom(supply.take(values.size())), Vector.copyFrom(values));
+    }
+
+    @Test
+    void sharedCursorHandsOutEachValueOnce() throws Exception {
+        int threads = 4;
+        int perThread = 10_000;
+        ValueSupply<Long> supply = Generators.generateLong().run(Seed.random());
+        ValueSupply.SharedCursor<Long> shared = supply.sharedCursor();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<Long> taken = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) {
+                        taken.add(shared.next());
+                    }
+                    return taken;
+                }));
+            }
+            List<Long> all = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                all.addAll(future.get());
+            }
+            List<Long> expected = new ArrayList<>();
+            supply.take(threads * perThread).forEach(expected::add);
+            java.util.Collections.sort(all);
+            java.util.Collections.sort(expected);
+            assertEquals(expected, all);
+            assertEquals(Vector.copyFrom(supply.drop(threads * perThread).take(10)),
+                    Vector.copyFrom(Generators.generateLong().run(shared.checkpoint()).take(10)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void prefetchingPreservesSequence() throws Exception {
+        ValueSupply<String> supply = Generators.generateAlphaString(IntRange.from(0).to(10)).run(Seed.random());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<String> values = new ArrayList<>();
+            try (ValueSupply.Prefetching<String> prefetching = supply.prefetching(8, executor)) {
+                for (int i = 0; i < 10_000; i++) {
+                    values.add(prefetching.next());
+                }
+            }
+            assertEquals(Vector.copyFrom(supply.take(10_000)), Vector.copyFrom(values));
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void prefetchingRethrowsFailuresInOrder() {
+        AtomicInteger count = new AtomicInteger();
+        Generator<Integer> failing = Generators.generateInt().fmap(n -> {
+            if (count.incrementAndGet() > 5) {
+                throw new IllegalStateException("failed");
+            }
+            return n;
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ValueSupply<Integer> supply = failing.run(Seed.random());
+            count.set(0);
+            ValueSupply.Prefetching<Integer> prefetching = supply.prefetching(2, executor);
+            for (int i = 0; i < 5; i++) {
+                prefetching.next();
+            }
+            assertThrows(IllegalStateException.class, prefetching::next);
+            assertFalse(prefetching.hasNext());
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
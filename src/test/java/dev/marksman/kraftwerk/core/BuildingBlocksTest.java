@@ -2,15 +2,20 @@ package dev.marksman.kraftwerk.core;
 
 import com.jnape.palatable.lambda.adt.product.Product2;
 import com.jnape.palatable.lambda.functions.Fn1;
+import dev.marksman.kraftwerk.Engine;
+import dev.marksman.kraftwerk.Result;
 import dev.marksman.kraftwerk.Seed;
 import org.junit.jupiter.api.Test;
 import testsupport.GeneratorPair;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static testsupport.GeneratorPair.newRandomGeneratorPair;
 
 class BuildingBlocksTest {
@@ -103,6 +108,101 @@ class BuildingBlocksTest {
         testNextBytes(gp.updateSeed(r -> BuildingBlocks.nextGaussian(r)._1()), 4);
     }
 
+    @Test
+    void fillsMatchSuccessiveDraws() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            int[] ints = new int[SEQUENCE_LENGTH];
+            long[] longs = new long[SEQUENCE_LENGTH];
+            double[] doubles = new double[SEQUENCE_LENGTH];
+            boolean[] booleans = new boolean[SEQUENCE_LENGTH];
+
+            Seed afterInts = BuildingBlocks.fillInts(ints, 1000, seed);
+            Seed afterLongs = BuildingBlocks.fillLongs(longs, afterInts);
+            Seed afterDoubles = BuildingBlocks.fillDoubles(doubles, -5.0, 5.0, afterLongs);
+            Seed afterBooleans = BuildingBlocks.fillBooleans(booleans, afterDoubles);
+
+            Seed current = seed;
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                Result<Seed, Integer> next = BuildingBlocks.nextIntBounded(1000, current);
+                assertEquals((int) next.getValue(), ints[i], engine.toString());
+                current = next.getNextState();
+            }
+            assertEquals(current, afterInts);
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                Result<Seed, Long> next = BuildingBlocks.nextLong(current);
+                assertEquals((long) next.getValue(), longs[i], engine.toString());
+                current = next.getNextState();
+            }
+            assertEquals(current, afterLongs);
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                Result<Seed, Double> next = BuildingBlocks.unsafeNextDoubleBetween(-5.0, 5.0, current);
+                assertEquals((double) next.getValue(), doubles[i], engine.toString());
+                current = next.getNextState();
+            }
+            assertEquals(current, afterDoubles);
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                Result<Seed, Boolean> next = BuildingBlocks.nextBoolean(current);
+                assertEquals(next.getValue(), booleans[i], engine.toString());
+                current = next.getNextState();
+            }
+            assertEquals(current, afterBooleans);
+        }
+    }
+
+    @Test
+    void fillWithInvalidBound() {
+        Seed seed = Seed.random();
+        assertThrows(IllegalArgumentException.class, () -> BuildingBlocks.fillInts(new int[1], 0, seed));
+        assertThrows(IllegalArgumentException.class, () -> BuildingBlocks.fillLongs(new long[1], -1, seed));
+        assertThrows(IllegalArgumentException.class, () -> BuildingBlocks.fillDoubles(new double[1], 1.0, 1.0, seed));
+    }
+
+    @Test
+    void nextBytesIntoByteBufferMatchesByteArray() {
+        for (Engine engine : Engine.values()) {
+            for (int count = 0; count <= 17; count++) {
+                Seed seed = Seed.random(engine);
+                byte[] expected = new byte[count];
+                Seed expectedSeed = BuildingBlocks.nextBytes(expected, seed).getNextState();
+                for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+                    ByteBuffer buffer = ByteBuffer.allocate(count + 2).order(order);
+                    buffer.position(1).limit(count + 1);
+                    assertEquals(expectedSeed, BuildingBlocks.nextBytes(buffer, seed));
+                    byte[] actual = new byte[count];
+                    buffer.position(1);
+                    buffer.get(actual);
+                    assertArrayEquals(expected, actual, engine + ", " + order + ", " + count);
+                }
+            }
+        }
+    }
+
+    @Test
+    void zigguratGaussianIsStandardNormal() {
+        int n = 200_000;
+        for (Engine engine : Engine.values()) {
+            MutableSeed cursor = MutableSeed.mutableSeed(Seed.create(engine, 31415L));
+            double sum = 0;
+            double sumOfSquares = 0;
+            int withinOneSigma = 0;
+            int inTail = 0;
+            for (int i = 0; i < n; i++) {
+                double x = cursor.nextZigguratGaussian();
+                sum += x;
+                sumOfSquares += x * x;
+                if (Math.abs(x) < 1) withinOneSigma += 1;
+                if (Math.abs(x) > Ziggurat.R) inTail += 1;
+            }
+            double mean = sum / n;
+            assertEquals(0.0, mean, 0.01, engine.toString());
+            assertEquals(1.0, sumOfSquares / n - mean * mean, 0.02, engine.toString());
+            assertEquals(0.6827, (double) withinOneSigma / n, 0.005, engine.toString());
+            // expected count beyond R is about 115
+            assertTrue(inTail > 60 && inTail < 180, engine + ", " + inTail);
+        }
+    }
+
     @Test
     void noMethodsMutate() {
         StandardSeed seed = StandardSeed.initStandardSeed();
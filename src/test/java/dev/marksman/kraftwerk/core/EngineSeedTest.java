@@ -0,0 +1,171 @@
+package dev.marksman.kraftwerk.core;
+
+import dev.marksman.kraftwerk.Engine;
+import dev.marksman.kraftwerk.Result;
+import dev.marksman.kraftwerk.Seed;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EngineSeedTest {
+    private static final int SEQUENCE_LENGTH = 32;
+
+    @Test
+    void splitMix64MatchesSplittableRandom() {
+        long initialSeedValue = new Random().nextLong();
+        SplittableRandom random = new SplittableRandom(initialSeedValue);
+        Seed current = Seed.create(Engine.SPLIT_MIX_64, initialSeedValue);
+        for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+            Result<Seed, Long> next = BuildingBlocks.nextLong(current);
+            assertEquals(random.nextLong(), (long) next.getValue(), "initial seed = " + initialSeedValue);
+            current = next.getNextState();
+        }
+    }
+
+    @Test
+    void xoshiro256StarStarReferenceOutput() {
+        long[] expected = {11520L, 0L, 1509978240L, 1215971899390074240L, 1216172134540287360L,
+                607988272756665600L, -2273821095074991991L, 8476171486693032832L, -7851629734111992839L,
+                2904607092377533576L};
+        EngineSeed current = new Xoshiro256StarStarSeed(1, 2, 3, 4);
+        for (long e : expected) {
+            assertEquals(e, current.word());
+            current = current.step();
+        }
+    }
+
+    @Test
+    void sameValueYieldsSameSequence() {
+        for (Engine engine : Engine.values()) {
+            long value = new Random().nextLong();
+            assertEquals(Seed.create(engine, value), Seed.create(engine, value));
+            assertEquals(BuildingBlocks.nextLong(Seed.create(engine, value)),
+                    BuildingBlocks.nextLong(Seed.create(engine, value)));
+        }
+    }
+
+    @Test
+    void standardEngineIsDefault() {
+        long value = new Random().nextLong();
+        assertEquals(Seed.create(value), Seed.create(Engine.STANDARD, value));
+    }
+
+    @Test
+    void reseedPreservesEngine() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            assertSame(seed.getClass(), BuildingBlocks.reseed(1L, seed).getClass());
+            assertSame(seed.getClass(), seed.perturb(1L).getClass());
+            assertNotEquals(seed, seed.perturb(1L));
+        }
+    }
+
+    @Test
+    void boundedValuesInRange() {
+        for (Engine engine : Engine.values()) {
+            Seed current = Seed.random(engine);
+            for (int i = 0; i < 1000; i++) {
+                Result<Seed, Integer> r1 = BuildingBlocks.nextIntBounded(7, current);
+                assertTrue(r1.getValue() >= 0 && r1.getValue() < 7);
+                Result<Seed, Long> r2 = BuildingBlocks.nextLongBetween(-5, 5, r1.getNextState());
+                assertTrue(r2.getValue() >= -5 && r2.getValue() <= 5);
+                Result<Seed, Double> r3 = BuildingBlocks.nextDoubleFractional(r2.getNextState());
+                assertTrue(r3.getValue() >= 0 && r3.getValue() < 1);
+                Result<Seed, Float> r4 = BuildingBlocks.nextFloatFractional(r3.getNextState());
+                assertTrue(r4.getValue() >= 0 && r4.getValue() < 1);
+                current = r4.getNextState();
+            }
+        }
+    }
+
+    @Test
+    void engineSeedsDoNotCacheGaussians() {
+        for (Engine engine : Engine.values()) {
+            if (engine == Engine.STANDARD) continue;
+            Seed seed = Seed.random(engine);
+            assertSame(seed.getClass(), BuildingBlocks.nextGaussian(seed).getNextState().getClass());
+        }
+    }
+
+    @Test
+    void advanceMatchesStepping() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            Seed current = seed;
+            for (int i = 0; i <= 1000; i++) {
+                assertEquals(current, seed.advance(i), engine + ", steps = " + i);
+                current = BuildingBlocks.nextInt(current).getNextState();
+            }
+        }
+    }
+
+    @Test
+    void advanceComposes() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.random(engine);
+            long a = 123_456_789_012L;
+            long b = 987_654_321L;
+            assertEquals(seed.advance(a + b), seed.advance(a).advance(b), engine.toString());
+        }
+    }
+
+    @Test
+    void boundedDrawsMatchNearlyDivisionlessReference() {
+        long[] intRanges = {3, 1000, 1_000_000_007, Integer.MAX_VALUE, (1L << 32) - 1};
+        long[] longRanges = {3, 1_000_000_007, Long.MAX_VALUE - 5, (1L << 62) + 1};
+        for (Engine engine : Engine.values()) {
+            if (engine == Engine.STANDARD) {
+                continue;
+            }
+            EngineSeed current = (EngineSeed) Seed.create(engine, 98765L);
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                for (long range : intRanges) {
+                    int origin = (int) -((range + 1) / 2);
+                    EngineSeed[] state = {current};
+                    long expected = origin + nearlyDivisionlessReference(state, range, 32);
+                    Result<Seed, Integer> next = BuildingBlocks.nextIntExclusive(origin, (int) (origin + range), current);
+                    assertEquals(expected, (long) next.getValue(), engine + ", range " + range);
+                    assertEquals(state[0], next.getNextState());
+                    current = state[0];
+                }
+                for (long range : longRanges) {
+                    EngineSeed[] state = {current};
+                    long expected = -7 + nearlyDivisionlessReference(state, range, 64);
+                    Result<Seed, Long> next = BuildingBlocks.nextLongExclusive(-7, -7 + range, current);
+                    assertEquals(expected, (long) next.getValue(), engine + ", range " + range);
+                    assertEquals(state[0], next.getNextState());
+                    current = state[0];
+                }
+                EngineSeed[] state = {current};
+                long origin = Long.MIN_VALUE + 3;
+                long bound = Long.MAX_VALUE - 3;
+                long expected = origin + nearlyDivisionlessReference(state, bound - origin, 64);
+                Result<Seed, Long> next = BuildingBlocks.nextLongExclusive(origin, bound, current);
+                assertEquals(expected, (long) next.getValue(), engine.toString());
+                assertEquals(state[0], next.getNextState());
+                current = state[0];
+            }
+        }
+    }
+
+    private static long nearlyDivisionlessReference(EngineSeed[] state, long range, int bits) {
+        BigInteger r = new BigInteger(Long.toUnsignedString(range));
+        BigInteger twoToBits = BigInteger.ONE.shiftLeft(bits);
+        BigInteger threshold = twoToBits.mod(r);
+        while (true) {
+            BigInteger x = new BigInteger(Long.toUnsignedString(state[0].word() >>> (64 - bits)));
+            state[0] = state[0].step();
+            BigInteger product = x.multiply(r);
+            if (product.mod(twoToBits).compareTo(threshold) >= 0) {
+                return product.shiftRight(bits).longValue();
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.marksman.kraftwerk.core;
+
+import dev.marksman.kraftwerk.Engine;
+import dev.marksman.kraftwerk.Seed;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static dev.marksman.kraftwerk.core.MutableSeed.mutableSeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MutableSeedTest {
+    private static final int SEQUENCE_LENGTH = 32;
+
+    @Test
+    void standardMatchesUtilRandom() {
+        long initialSeedValue = new Random().nextLong();
+        Random random = new Random(initialSeedValue);
+        MutableSeed cursor = mutableSeed(Seed.create(initialSeedValue));
+        for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+            assertEquals(random.nextInt(), cursor.nextInt());
+            assertEquals(random.nextInt(1000), cursor.nextIntBounded(1000));
+            assertEquals(random.nextLong(), cursor.nextLong());
+            assertEquals(random.nextDouble(), cursor.nextDoubleFractional());
+            assertEquals(random.nextFloat(), cursor.nextFloatFractional());
+            assertEquals(random.nextBoolean(), cursor.nextBoolean());
+            assertEquals(random.nextGaussian(), cursor.nextGaussian());
+        }
+    }
+
+    @Test
+    void engineOutputMatchesEngineSeed() {
+        for (Engine engine : Engine.values()) {
+            if (engine == Engine.STANDARD) {
+                continue;
+            }
+            EngineSeed current = (EngineSeed) Seed.create(engine, 12345L);
+            MutableSeed cursor = mutableSeed(current);
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                assertEquals(current.word(), cursor.nextLong(), engine.toString());
+                current = current.step();
+            }
+            assertEquals(current, cursor.toSeed());
+        }
+    }
+
+    @Test
+    void sameAsImmutableDraws() {
+        for (Engine engine : Engine.values()) {
+            Seed current = Seed.create(engine, 67890L);
+            MutableSeed cursor = mutableSeed(current);
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                assertEquals(BuildingBlocks.nextIntBounded(7, current).getValue(),
+                        (Integer) cursor.nextIntBounded(7));
+                current = BuildingBlocks.nextIntBounded(7, current).getNextState();
+
+                assertEquals(BuildingBlocks.nextLongBetween(-100, Long.MAX_VALUE, current).getValue(),
+                        (Long) cursor.nextLongBetween(-100, Long.MAX_VALUE));
+                current = BuildingBlocks.nextLongBetween(-100, Long.MAX_VALUE, current).getNextState();
+
+                assertEquals(BuildingBlocks.nextGaussian(current).getValue(), (Double) cursor.nextGaussian());
+                current = BuildingBlocks.nextGaussian(current).getNextState();
+
+                assertEquals(current, cursor.toSeed());
+            }
+        }
+    }
+
+    @Test
+    void cachedGaussianCarriesOver() {
+        Seed seed = BuildingBlocks.nextGaussian(Seed.create(1L)).getNextState();
+        MutableSeed cursor = mutableSeed(seed);
+        cursor.nextInt();
+        Seed afterInt = BuildingBlocks.nextInt(seed).getNextState();
+        assertEquals(afterInt, cursor.toSeed());
+        assertEquals(BuildingBlocks.nextGaussian(afterInt).getValue(), (Double) cursor.nextGaussian());
+    }
+
+    @Test
+    void toSeedReturnsInputWhenUnchanged() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = Seed.create(engine, 1L);
+            assertSame(seed, mutableSeed(seed).toSeed());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.marksman.kraftwerk.core;
+
+import dev.marksman.kraftwerk.Engine;
+import dev.marksman.kraftwerk.Seed;
+import org.junit.jupiter.api.Test;
+
+import static dev.marksman.kraftwerk.core.SeedEncoding.decodeSeed;
+import static dev.marksman.kraftwerk.core.SeedEncoding.encodeSeed;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SeedEncodingTest {
+
+    @Test
+    void roundTripsEveryEngine() {
+        for (Engine engine : Engine.values()) {
+            Seed seed = BuildingBlocks.nextLong(Seed.create(engine, 99L)).getNextState();
+            Seed decoded = decodeSeed(encodeSeed(seed));
+            assertEquals(seed, decoded, engine.toString());
+            assertEquals(BuildingBlocks.nextLong(seed).getValue(), BuildingBlocks.nextLong(decoded).getValue());
+        }
+    }
+
+    @Test
+    void roundTripsCachedGaussian() {
+        Seed seed = BuildingBlocks.nextGaussian(Seed.create(5L)).getNextState();
+        Seed decoded = decodeSeed(encodeSeed(seed));
+        assertEquals(seed, decoded);
+        assertEquals(BuildingBlocks.nextGaussian(seed).getValue(), BuildingBlocks.nextGaussian(decoded).getValue());
+    }
+
+    @Test
+    void roundTripsPerturbedStandardSeed() {
+        Seed seed = Seed.create(1L).perturb(5L);
+        Seed decoded = decodeSeed(encodeSeed(seed));
+        assertEquals(seed, decoded);
+        assertEquals(BuildingBlocks.nextLong(seed).getValue(), BuildingBlocks.nextLong(decoded).getValue());
+    }
+
+    @Test
+    void roundTripsStandardSeedWithAllBitsSet() {
+        Seed seed = Seed.create(1L).setNextSeedValue(-1L);
+        Seed decoded = decodeSeed(encodeSeed(seed));
+        assertEquals(seed, decoded);
+        assertEquals(BuildingBlocks.nextLong(seed).getValue(), BuildingBlocks.nextLong(decoded).getValue());
+    }
+
+    @Test
+    void formatIsStable() {
+        assertArrayEquals(new byte[]{1, 0, 0, 0, 0, 5, (byte) 0xde, (byte) 0xec, (byte) 0xe6, (byte) 0x6d, 0},
+                encodeSeed(Seed.create(0L)));
+        assertArrayEquals(new byte[]{1, 1, 0, 0, 0, 0, 0, 0, 0, 42},
+                encodeSeed(Seed.create(Engine.SPLIT_MIX_64, 42L)));
+    }
+
+    @Test
+    void rejectsInvalidEncodings() {
+        assertThrows(IllegalArgumentException.class, () -> decodeSeed(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> decodeSeed(new byte[]{2, 1, 0, 0, 0, 0, 0, 0, 0, 42}));
+        assertThrows(IllegalArgumentException.class, () -> decodeSeed(new byte[]{1, 9, 0, 0, 0, 0, 0, 0, 0, 42}));
+        assertThrows(IllegalArgumentException.class, () -> decodeSeed(new byte[]{1, 1, 0, 0, 0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> decodeSeed(new byte[]{1, 1, 0, 0, 0, 0, 0, 0, 0, 42, 0}));
+        assertThrows(IllegalArgumentException.class, () -> decodeSeed(new byte[34]));
+    }
+}